@@ -0,0 +1,79 @@
+package com.project.fintech.auth;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * BCrypt cost 별 로그인(password 검증) 처리량과, 로그인이 몰릴 때 다른 요청(cheapRequest)의 처리량 비교
+ * <p>
+ * direct: 요청 thread 에서 바로 hash 계산 (기존 방식)
+ * <p>
+ * bounded: {@link BoundedPasswordEncoder} 의 전용 pool 에서 hash 계산. 거절된 로그인은 처리량에서 제외된다
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PasswordHashingBenchmark {
+
+    private static final String PASSWORD = "11111111";
+
+    @Param({"8", "10", "12"})
+    private int cost;
+
+    @Param({"direct", "bounded"})
+    private String mode;
+
+    private PasswordEncoder passwordEncoder;
+    private String encodedPassword;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BCryptPasswordEncoder bCryptPasswordEncoder = new BCryptPasswordEncoder(cost);
+        encodedPassword = bCryptPasswordEncoder.encode(PASSWORD);
+        int hashingThreads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        passwordEncoder = "bounded".equals(mode) ? new BoundedPasswordEncoder(
+            bCryptPasswordEncoder, hashingThreads, 64, Duration.ofSeconds(5))
+            : bCryptPasswordEncoder;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (passwordEncoder instanceof BoundedPasswordEncoder boundedPasswordEncoder) {
+            boundedPasswordEncoder.destroy();
+        }
+    }
+
+    @Benchmark
+    @Group("loginBurst")
+    @GroupThreads(16)
+    public boolean login() {
+        try {
+            return passwordEncoder.matches(PASSWORD, encodedPassword);
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    @Benchmark
+    @Group("loginBurst")
+    @GroupThreads(2)
+    public void cheapRequest(Blackhole blackhole) {
+        Blackhole.consumeCPU(1_000);
+        blackhole.consume(encodedPassword.length());
+    }
+}
@@ -0,0 +1,66 @@
+package com.project.fintech.auth.jwt;
+
+import com.project.fintech.auth.AuthPrincipal;
+import com.project.fintech.model.type.Role;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Encoders;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.SecretKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.core.io.ByteArrayResource;
+
+/**
+ * JwtFilter 인증 흐름의 토큰 검증 비용 비교
+ * <p>
+ * legacy: 요청마다 parser를 새로 만들어 같은 토큰을 세 번 parse/서명 검증하던 기존 흐름
+ * <p>
+ * parseOnce: 재사용 parser로 한 번만 parse 하는 {@link JwtUtil#parseVerifiedToken(String)}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtVerificationBenchmark {
+
+    private SecretKey key;
+    private JwtUtil jwtUtil;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        String keyLine = "bench," + Instant.EPOCH + "," + Encoders.BASE64.encode(
+            Jwts.SIG.HS256.key().build().getEncoded());
+        JwtKeyRing jwtKeyRing = new JwtKeyRing(
+            new ByteArrayResource(keyLine.getBytes(StandardCharsets.UTF_8)), Duration.ofDays(7));
+        key = jwtKeyRing.signingKey().secretKey();
+        jwtUtil = new JwtUtil(jwtKeyRing);
+        accessToken = jwtUtil.generateAccessToken(
+            AuthPrincipal.builder().userId(1L).email("benchmark@test.com").role(Role.USER).build());
+    }
+
+    @Benchmark
+    public void legacy(Blackhole blackhole) {
+        // getEmailFromToken
+        blackhole.consume(Jwts.parser().verifyWith(key).build()
+            .parseSignedClaims(accessToken).getPayload().getSubject());
+        // verifyToken
+        blackhole.consume(Jwts.parser().verifyWith(key).build().parse(accessToken));
+        // getAuthenticationByToken
+        blackhole.consume(Jwts.parser().verifyWith(key).build()
+            .parseSignedClaims(accessToken).getPayload().getSubject());
+    }
+
+    @Benchmark
+    public void parseOnce(Blackhole blackhole) {
+        blackhole.consume(jwtUtil.parseVerifiedToken(accessToken));
+    }
+}
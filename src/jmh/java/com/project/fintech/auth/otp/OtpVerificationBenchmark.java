@@ -0,0 +1,67 @@
+package com.project.fintech.auth.otp;
+
+import com.warrenstrange.googleauth.GoogleAuthenticator;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.spec.SecretKeySpec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * OTP code 검증 비용 비교 (-prof gc 로 요청당 할당량도 함께 확인)
+ * <p>
+ * googleAuthenticator: 검증마다 key decode, Mac 생성, 결과 배열을 할당하던 기존 방식
+ * <p>
+ * totpVerifier: OtpSecretKeyCache 처럼 decode 해 둔 같은 key 로 thread 별 Mac 과 buffer 를 재사용하는 {@link TotpVerifier}
+ * (Mac 을 다시 init 하지 않고 할당 없음)
+ * <p>
+ * 실패한 code 는 window 전체(3주기)를 계산하므로 가장 비싼 경로다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+public class OtpVerificationBenchmark {
+
+    private final GoogleAuthenticator gAuth = new GoogleAuthenticator();
+    private final TotpVerifier totpVerifier = new TotpVerifier();
+    private String secretKey;
+    private SecretKeySpec key;
+    private long time;
+    private int validCode;
+    private int invalidCode;
+
+    @Setup
+    public void setUp() {
+        secretKey = gAuth.createCredentials().getKey();
+        key = TotpVerifier.decodeKey(secretKey);
+        time = System.currentTimeMillis();
+        validCode = gAuth.getTotpPassword(secretKey, time);
+        invalidCode = validCode == 999_999 ? 1 : validCode + 1;
+    }
+
+    @Benchmark
+    public boolean googleAuthenticatorValid() {
+        return gAuth.authorize(secretKey, validCode, time);
+    }
+
+    @Benchmark
+    public boolean totpVerifierValid() {
+        return totpVerifier.verify(key, validCode, time);
+    }
+
+    @Benchmark
+    public boolean googleAuthenticatorInvalid() {
+        return gAuth.authorize(secretKey, invalidCode, time);
+    }
+
+    @Benchmark
+    public boolean totpVerifierInvalid() {
+        return totpVerifier.verify(key, invalidCode, time);
+    }
+}
@@ -1,16 +1,25 @@
 package com.project.fintech.api;
 
 import com.project.fintech.application.AccountApplication;
+import com.project.fintech.model.dto.BalanceChangeRequestDto;
 import com.project.fintech.model.dto.ResponseDto;
+import com.project.fintech.model.dto.TransferRequestDto;
 import com.project.fintech.model.dto.domain.AccountDto;
+import com.project.fintech.model.dto.domain.TransactionDto;
+import jakarta.validation.Valid;
+import java.time.LocalDate;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @Slf4j
@@ -57,4 +66,59 @@ public class AccountsController {
     public ResponseEntity<ResponseDto<AccountDto>> getAccount(@PathVariable Long accountId) {
         return ResponseEntity.ok(accountApplication.executeRetrieveSingleAccount(accountId));
     }
+
+    /**
+     * 계좌에 입금
+     * @param accountId
+     * @param balanceChangeRequestDto
+     * @return 입금 후 Account DTO
+     */
+    @PostMapping("/accounts/{accountId}/deposit")
+    public ResponseEntity<ResponseDto<AccountDto>> deposit(@PathVariable Long accountId,
+        @Valid @RequestBody BalanceChangeRequestDto balanceChangeRequestDto) {
+        return ResponseEntity.ok(accountApplication.executeDeposit(accountId,
+            balanceChangeRequestDto));
+    }
+
+    /**
+     * 계좌에서 출금
+     * @param accountId
+     * @param balanceChangeRequestDto
+     * @return 출금 후 Account DTO
+     */
+    @PostMapping("/accounts/{accountId}/withdraw")
+    public ResponseEntity<ResponseDto<AccountDto>> withdraw(@PathVariable Long accountId,
+        @Valid @RequestBody BalanceChangeRequestDto balanceChangeRequestDto) {
+        return ResponseEntity.ok(accountApplication.executeWithdraw(accountId,
+            balanceChangeRequestDto));
+    }
+
+    /**
+     * 다른 계좌로 송금
+     * @param accountId 보내는 계좌 id
+     * @param transferRequestDto
+     * @return 송금 후 보낸 Account DTO
+     */
+    @PostMapping("/accounts/{accountId}/transfer")
+    public ResponseEntity<ResponseDto<AccountDto>> transfer(@PathVariable Long accountId,
+        @Valid @RequestBody TransferRequestDto transferRequestDto) {
+        return ResponseEntity.ok(accountApplication.executeTransfer(accountId,
+            transferRequestDto));
+    }
+
+    /**
+     * 계좌의 거래 내역 조회 (archive, cold storage 로 옮긴 거래 내역 포함)
+     * @param accountId
+     * @param from 조회 시작일 (yyyy-MM-dd)
+     * @param to 조회 종료일 (yyyy-MM-dd, 포함)
+     * @return Transaction DTO List
+     */
+    @GetMapping("/accounts/{accountId}/transactions")
+    public ResponseEntity<ResponseDto<List<TransactionDto>>> getTransactions(
+        @PathVariable Long accountId,
+        @RequestParam @DateTimeFormat(iso = ISO.DATE) LocalDate from,
+        @RequestParam @DateTimeFormat(iso = ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(accountApplication.executeRetrieveTransactions(accountId, from,
+            to));
+    }
 }
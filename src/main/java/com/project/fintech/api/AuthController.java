@@ -6,7 +6,6 @@ import com.project.fintech.model.dto.OtpVerificationDto;
 import com.project.fintech.model.dto.ResponseDto;
 import com.project.fintech.model.dto.TokenPairDto;
 import com.project.fintech.model.dto.UserEmailDto;
-import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -44,16 +43,12 @@ public class AuthController {
     }
 
     /**
-     * OTP 코드를 검증
+     * OTP 코드를 검증하고 OTP step-up token 반환. OTP 인증이 필요한 요청에는 X-OTP-Token header 로 보낸다.
      * @param otpVerificationDto
-     * @param session
      * @return
      */
     @PostMapping("/auth/otp/verify")
-    public ResponseEntity<ResponseDto<String>> verifyOtpCode(@Valid @RequestBody OtpVerificationDto otpVerificationDto, HttpSession session) {
-        ResponseDto<String> responseDto = authApplication.executeOtpVerification(
-            otpVerificationDto);
-        session.setAttribute(responseDto.getData(), true);
-        return ResponseEntity.ok(responseDto);
+    public ResponseEntity<ResponseDto<String>> verifyOtpCode(@Valid @RequestBody OtpVerificationDto otpVerificationDto) {
+        return ResponseEntity.ok(authApplication.executeOtpVerification(otpVerificationDto));
     }
 }
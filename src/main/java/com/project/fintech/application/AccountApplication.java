@@ -1,13 +1,19 @@
 package com.project.fintech.application;
 
+import com.project.fintech.auth.AuthPrincipal;
+import com.project.fintech.model.dto.BalanceChangeRequestDto;
 import com.project.fintech.model.dto.ResponseDto;
+import com.project.fintech.model.dto.TransferRequestDto;
 import com.project.fintech.model.dto.domain.AccountDto;
 import com.project.fintech.model.dto.domain.AccountMapper;
+import com.project.fintech.model.dto.domain.TransactionDto;
 import com.project.fintech.model.type.Message;
 import com.project.fintech.persistence.entity.Account;
-import com.project.fintech.persistence.entity.User;
 import com.project.fintech.service.AccountService;
+import com.project.fintech.service.TransactionHistoryService;
+import com.project.fintech.service.TransactionService;
 import jakarta.servlet.http.HttpServletResponse;
+import java.time.LocalDate;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,6 +28,8 @@ public class AccountApplication {
 
     private final AccountService accountService;
     private final AccountMapper accountMapper;
+    private final TransactionService transactionService;
+    private final TransactionHistoryService transactionHistoryService;
 
     /**
      * 계좌 생성 흐름
@@ -30,14 +38,13 @@ public class AccountApplication {
      */
     @Transactional
     public ResponseDto<AccountDto> executeCreateAccount() {
-        String userEmail = SecurityContextHolder.getContext().getAuthentication().getName();
-        User user = accountService.getUserByEmail(userEmail);
-
-        Account account = accountService.createAccount(user);
+        AuthPrincipal principal = currentPrincipal();
+        Account account = accountService.createAccount(
+            accountService.getUserReference(principal.getUserId()));
 
         return ResponseDto.<AccountDto>builder().code(HttpServletResponse.SC_OK)
-            .message(Message.COMPLETE_CREAT_ACCOUNT).data(accountMapper.toAccountDto(account))
-            .build();
+            .message(Message.COMPLETE_CREAT_ACCOUNT)
+            .data(accountMapper.toAccountDto(account, principal.getEmail())).build();
     }
 
     /**
@@ -48,27 +55,21 @@ public class AccountApplication {
      */
     @Transactional
     public ResponseDto<AccountDto> executeDeleteAccount(Long accountId) {
-        String userEmail = SecurityContextHolder.getContext().getAuthentication().getName();
-        User user = accountService.getUserByEmail(userEmail);
-        Account account = accountService.getAccountById(accountId);
-
-        accountService.deleteAccount(user, account);
+        AuthPrincipal principal = currentPrincipal();
+        AccountDto deletedAccount = accountService.deleteAccount(principal.getUserId(), accountId);
 
         return ResponseDto.<AccountDto>builder().code(HttpServletResponse.SC_OK)
-            .message(Message.COMPLETE_DELETE_ACCOUNT).data(accountMapper.toAccountDto(account))
-            .build();
+            .message(Message.COMPLETE_DELETE_ACCOUNT).data(deletedAccount).build();
     }
 
     /**
      * 계좌 조회 흐름 (전부)
      * @return user Account DTO list
      */
-    @Transactional
+    @Transactional(readOnly = true)
     public ResponseDto<List<AccountDto>> executeRetrieveUserAccounts() {
-        String userEmail = SecurityContextHolder.getContext().getAuthentication().getName();
-        User user = accountService.getUserByEmail(userEmail);
-        List<AccountDto> accountDtos = accountService.getUserAccounts(user).stream()
-            .map(accountMapper::toAccountDto).toList();
+        List<AccountDto> accountDtos = accountService.getUserAccounts(
+            currentPrincipal().getUserId());
 
         return ResponseDto.<List<AccountDto>>builder().code(HttpServletResponse.SC_OK)
             .message(Message.COMPLETE_RETRIEVE_ACCOUNT).data(accountDtos).build();
@@ -79,11 +80,86 @@ public class AccountApplication {
      * @param accountId
      * @return User Single Account Dto
      */
-    @Transactional
+    @Transactional(readOnly = true)
     public ResponseDto<AccountDto> executeRetrieveSingleAccount(Long accountId) {
-        Account account = accountService.getAccountById(accountId);
+        AccountDto accountDto = accountService.getUserAccount(currentPrincipal().getUserId(),
+            accountId);
+
+        return ResponseDto.<AccountDto>builder().code(HttpServletResponse.SC_OK)
+            .message(Message.COMPLETE_RETRIEVE_ACCOUNT).data(accountDto).build();
+    }
+
+    /**
+     * 입금 흐름
+     * @param accountId
+     * @param balanceChangeRequestDto
+     * @return 입금 후 Account DTO
+     */
+    @Transactional
+    public ResponseDto<AccountDto> executeDeposit(Long accountId,
+        BalanceChangeRequestDto balanceChangeRequestDto) {
+        AccountDto accountDto = transactionService.deposit(currentPrincipal().getUserId(),
+            accountId, balanceChangeRequestDto.getAmount(), balanceChangeRequestDto.getMemo());
+
+        return ResponseDto.<AccountDto>builder().code(HttpServletResponse.SC_OK)
+            .message(Message.COMPLETE_DEPOSIT).data(accountDto).build();
+    }
+
+    /**
+     * 출금 흐름
+     * @param accountId
+     * @param balanceChangeRequestDto
+     * @return 출금 후 Account DTO
+     */
+    @Transactional
+    public ResponseDto<AccountDto> executeWithdraw(Long accountId,
+        BalanceChangeRequestDto balanceChangeRequestDto) {
+        AccountDto accountDto = transactionService.withdraw(currentPrincipal().getUserId(),
+            accountId, balanceChangeRequestDto.getAmount(), balanceChangeRequestDto.getMemo());
+
+        return ResponseDto.<AccountDto>builder().code(HttpServletResponse.SC_OK)
+            .message(Message.COMPLETE_WITHDRAW).data(accountDto).build();
+    }
+
+    /**
+     * 송금 흐름
+     * @param accountId
+     * @param transferRequestDto
+     * @return 송금 후 보낸 Account DTO
+     */
+    @Transactional
+    public ResponseDto<AccountDto> executeTransfer(Long accountId,
+        TransferRequestDto transferRequestDto) {
+        AccountDto accountDto = transactionService.transfer(currentPrincipal().getUserId(),
+            accountId, transferRequestDto.getRecipientAccountNumber(),
+            transferRequestDto.getAmount(), transferRequestDto.getMemo());
 
         return ResponseDto.<AccountDto>builder().code(HttpServletResponse.SC_OK)
-            .message(Message.COMPLETE_RETRIEVE_ACCOUNT).data(accountMapper.toAccountDto(account)).build();
+            .message(Message.COMPLETE_TRANSFER).data(accountDto).build();
+    }
+
+    /**
+     * 거래 내역 조회 흐름
+     * @param accountId
+     * @param from
+     * @param to
+     * @return 거래일이 from ~ to 인 Transaction DTO list
+     */
+    // 바깥 transaction 에 참여하면 service 의 REPEATABLE_READ 가 적용되지 않으므로 여기서는 시작하지 않는다
+    public ResponseDto<List<TransactionDto>> executeRetrieveTransactions(Long accountId,
+        LocalDate from, LocalDate to) {
+        List<TransactionDto> transactionDtos = transactionHistoryService.getTransactionHistory(
+            currentPrincipal().getUserId(), accountId, from, to);
+
+        return ResponseDto.<List<TransactionDto>>builder().code(HttpServletResponse.SC_OK)
+            .message(Message.COMPLETE_RETRIEVE_TRANSACTION).data(transactionDtos).build();
+    }
+
+    /**
+     * JwtFilter 가 access token claim 으로 만든 인증 주체 (User 조회 없음)
+     */
+    private AuthPrincipal currentPrincipal() {
+        return (AuthPrincipal) SecurityContextHolder.getContext().getAuthentication()
+            .getPrincipal();
     }
 }
@@ -1,7 +1,12 @@
 package com.project.fintech.application;
 
+import com.project.fintech.auth.AuthPrincipal;
+import com.project.fintech.auth.VerifiedPrincipalCache;
 import com.project.fintech.auth.jwt.JwtUtil;
+import com.project.fintech.auth.jwt.VerifiedToken;
 import com.project.fintech.auth.otp.OtpUtil;
+import com.project.fintech.exception.CustomException;
+import com.project.fintech.exception.ErrorCode;
 import com.project.fintech.model.dto.IssueTokenRequestDto;
 import com.project.fintech.model.dto.LogoutRequestDto;
 import com.project.fintech.model.dto.OtpVerificationDto;
@@ -9,9 +14,11 @@ import com.project.fintech.model.dto.ResponseDto;
 import com.project.fintech.model.dto.TokenPairDto;
 import com.project.fintech.model.dto.UserEmailDto;
 import com.project.fintech.model.type.Message;
+import com.project.fintech.model.type.RefreshTokenRotation;
 import com.project.fintech.service.AuthService;
 import com.warrenstrange.googleauth.GoogleAuthenticatorKey;
 import jakarta.servlet.http.HttpServletResponse;
+import java.util.Date;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
@@ -27,22 +34,47 @@ public class AuthApplication {
     private final OtpUtil otpUtil;
     private final AuthService authService;
     private final JwtUtil jwtUtil;
+    private final VerifiedPrincipalCache verifiedPrincipalCache;
 
     /**
-     * OTP인증이 필요한 서비스에서 OTP검증 수행 흐름
+     * OTP인증이 필요한 서비스에서 OTP검증 수행 흐름. 검증에 성공하면 짧은 수명의 step-up token 을 발급한다.
      *
      * @param otpVerificationDto
+     * @return OTP step-up token
      */
     public ResponseDto<String> executeOtpVerification(OtpVerificationDto otpVerificationDto) {
         String email = otpVerificationDto.getEmail();
         int code = otpVerificationDto.getOtpCode();
         authService.verifyOtpCode(code, email);
-        return ResponseDto.<String>builder().data("OTPVerified")
+        return ResponseDto.<String>builder().data(jwtUtil.generateOtpStepUpToken(email))
             .message(Message.COMPLETE_VERIFY_OTP).code(HttpServletResponse.SC_OK).build();
     }
 
+    /**
+     * OTP 인증이 필요한 경로에 대해 요청이 들어오면 step-up token 을 확인하는 흐름. JwtFilter 에서 인증된 사용자와 step-up token 의
+     * 사용자가 같아야 한다. 서명과 만료만 확인하므로 session, Redis 조회가 없다.
+     *
+     * @param stepUpToken OTP 인증 후 발급받은 step-up token
+     */
+    public void executeOtpStepUpVerification(String stepUpToken) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (stepUpToken == null || authentication == null) {
+            throw new CustomException(ErrorCode.INVALID_OTP_CODE);
+        }
+        VerifiedToken verifiedToken;
+        try {
+            verifiedToken = jwtUtil.parseVerifiedToken(stepUpToken);
+        } catch (CustomException e) {
+            // 만료되었거나 위조된 step-up token 은 OTP 인증을 다시 받아야 한다
+            throw new CustomException(ErrorCode.INVALID_OTP_CODE);
+        }
+        authService.verifyOtpStepUpToken(verifiedToken, authentication.getName());
+    }
+
     /**
      * OTP secret key 재발급 및 provisioning url 생성 시작 재발급 이후 /auth/otp/register 에서 OTP 등록을 해야 합니다
+     * <p>
+     * 재발급 이전에 발급된 사용자의 모든 토큰은 폐기됩니다.
      *
      * @param userEmailDto
      * @return provisioning URL
@@ -51,10 +83,10 @@ public class AuthApplication {
     public ResponseDto<String> issueNewOtpSecretAndSendUrl(UserEmailDto userEmailDto) {
         String userEmail = userEmailDto.getEmail();
         authService.invalidateOtpSecretKey(userEmail);
+        authService.revokeAllTokensOfUser(userEmail);
 
         GoogleAuthenticatorKey otpSecretKey = otpUtil.createOtpSecretKey();
         String provisioningUrl = otpUtil.createProvisioningUrl(userEmail, otpSecretKey);
-        log.info("{}", otpSecretKey);
         authService.saveOtpSecretKey(otpSecretKey.getKey(), userEmail);
         return ResponseDto.<String>builder().data(provisioningUrl).code(HttpServletResponse.SC_OK)
             .message(Message.COMPLETE_ISSUE_SECRETKEY).build();
@@ -78,16 +110,17 @@ public class AuthApplication {
     /**
      * 사용자가 로그인에 성공하면 Access Token과 Refresh Token을 발급해주는 흐름
      *
-     * @param email
+     * @param principal 로그인한 사용자
      * @return access token
      */
     @Transactional
-    public TokenPairDto issueTokenPair(String email) {
-        String accessToken = jwtUtil.generateAccessToken(email);
-        String refreshToken = jwtUtil.generateRefreshToken(email);
+    public TokenPairDto issueTokenPair(AuthPrincipal principal) {
+        String email = principal.getEmail();
+        String accessToken = jwtUtil.generateAccessToken(principal);
+        VerifiedToken refreshToken = jwtUtil.issueRefreshToken(email);
         authService.storeRefreshToken(refreshToken, email);
-        log.info("refreshToken = {}", refreshToken);
-        return TokenPairDto.builder().accessToken(accessToken).refreshToken(refreshToken).build();
+        return TokenPairDto.builder().accessToken(accessToken)
+            .refreshToken(refreshToken.getToken()).build();
     }
 
     /**
@@ -99,18 +132,21 @@ public class AuthApplication {
     @Transactional
     public ResponseDto<TokenPairDto> issueNewAccessTokenByRefreshToken(
         IssueTokenRequestDto issueTokenRequestDto) {
-        String requestRefreshToken = issueTokenRequestDto.getRefreshToken();
         String email = issueTokenRequestDto.getEmail();
-        authService.verifyRefreshTokenEmailPair(requestRefreshToken, email);
-        jwtUtil.verifyToken(requestRefreshToken);
+        VerifiedToken requestRefreshToken = jwtUtil.parseVerifiedToken(
+            issueTokenRequestDto.getRefreshToken());
 
-        String newAccessToken = jwtUtil.generateAccessToken(email);
-        String newRefreshToken = jwtUtil.generateRefreshToken(email);
-        authService.invalidateRefreshToken(requestRefreshToken);
-        authService.storeRefreshToken(newRefreshToken, email);
+        AuthPrincipal principal = AuthPrincipal.from(authService.findUserByEmail(email));
+        String newAccessToken = jwtUtil.generateAccessToken(principal);
+        VerifiedToken newRefreshToken = jwtUtil.issueRefreshToken(email);
+        RefreshTokenRotation rotation = authService.rotateRefreshToken(requestRefreshToken,
+            newRefreshToken, email);
+        if (!rotation.isRotated()) {
+            throw new CustomException(rotation.getErrorCode());
+        }
 
         TokenPairDto tokenPairDto = TokenPairDto.builder().accessToken(newAccessToken)
-            .refreshToken(newRefreshToken).build();
+            .refreshToken(newRefreshToken.getToken()).build();
 
         return ResponseDto.<TokenPairDto>builder().code(HttpServletResponse.SC_OK)
             .message(Message.COMPLETE_ISSUE_TOKEN).data(tokenPairDto).build();
@@ -122,24 +158,30 @@ public class AuthApplication {
      *
      * @param token
      */
-    @Transactional
     public void executeJwtAuthentication(String token) {
-        String userEmail = jwtUtil.getEmailFromToken(token);
-        authService.verifyNotDisabledAccessToken(token, userEmail);
-        jwtUtil.verifyToken(token);
+        VerifiedToken verifiedToken = verifiedPrincipalCache.getOrVerify(token,
+            jwtUtil::parseVerifiedToken);
+        authService.verifyNotDisabledAccessToken(verifiedToken);
 
-        Authentication authentication = authService.getAuthenticationByToken(token);
+        Authentication authentication = authService.getAuthenticationByToken(verifiedToken);
         SecurityContextHolder.getContext().setAuthentication(authentication);
     }
 
     /**
-     * 로그아웃시 Jwt token과 session에 대한 처리를 하는 흐름
+     * 로그아웃시 Jwt token에 대한 처리를 하는 흐름
+     * <p>
+     * access token 을 먼저 black list 에 넣으므로 refresh token 처리가 실패해도 로그아웃한 access token 은 더 쓸 수 없다. 만료된
+     * refresh token 은 Redis 에서도 같은 시각에 만료되므로 지울 것이 없다.
      *
      * @param
      */
     @Transactional
     public void processTokenWhenLogout(LogoutRequestDto logoutRequestDto) {
-        authService.invalidateRefreshToken(logoutRequestDto.getRefreshToken());
         authService.addAccessTokenBlackList(logoutRequestDto.getAccessToken());
+        VerifiedToken refreshToken = jwtUtil.parseVerifiedTokenAllowingExpired(
+            logoutRequestDto.getRefreshToken());
+        if (refreshToken.getExpiration().after(new Date())) {
+            authService.invalidateRefreshToken(refreshToken);
+        }
     }
 }
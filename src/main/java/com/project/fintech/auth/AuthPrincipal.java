@@ -0,0 +1,29 @@
+package com.project.fintech.auth;
+
+import com.project.fintech.model.type.Role;
+import com.project.fintech.persistence.entity.User;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.security.core.AuthenticatedPrincipal;
+
+/**
+ * Access Token의 서명된 claim 만으로 만든 인증 주체. 인증 시 DB에서 User를 조회하지 않기 위해 사용한다.
+ */
+@Getter
+@Builder(toBuilder = true)
+public class AuthPrincipal implements AuthenticatedPrincipal {
+
+    private final Long userId;
+    private final String email;
+    private final Role role;
+
+    public static AuthPrincipal from(User user) {
+        return AuthPrincipal.builder().userId(user.getId()).email(user.getEmail())
+            .role(user.getRole()).build();
+    }
+
+    @Override
+    public String getName() {
+        return this.email;
+    }
+}
@@ -0,0 +1,94 @@
+package com.project.fintech.auth;
+
+import com.project.fintech.exception.CustomException;
+import com.project.fintech.exception.ErrorCode;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * password hash 계산(BCrypt)을 전용 thread pool 에서만 수행하는 PasswordEncoder
+ * <p>
+ * 로그인이 몰려도 hash 계산에 쓰이는 CPU 는 pool 크기로 제한되므로 다른 API 의 응답 시간에 영향을 주지 않는다. 대기열이 가득 차면 기다리지
+ * 않고 바로 거절(PASSWORD_HASHING_OVERLOADED)한다.
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity,
+        Duration timeout) {
+        this.delegate = delegate;
+        this.timeout = timeout;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+            Thread thread = new Thread(runnable,
+                "password-hashing-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 저장된 hash 의 cost 가 설정된 cost 보다 낮은지 확인 (hash 계산 없음). true 면 로그인 성공 시 새 cost 로 다시 hash 한다
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            log.warn("password hashing 요청 거절. active: {}, queued: {}", executor.getActiveCount(),
+                executor.getQueue().size());
+            throw new CustomException(ErrorCode.PASSWORD_HASHING_OVERLOADED);
+        }
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new CustomException(ErrorCode.PASSWORD_HASHING_OVERLOADED);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.PASSWORD_HASHING_OVERLOADED);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
@@ -2,18 +2,22 @@ package com.project.fintech.auth;
 
 import com.project.fintech.exception.CustomException;
 import com.project.fintech.exception.ErrorCode;
+import com.project.fintech.persistence.entity.User;
 import com.project.fintech.persistence.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService,
+    UserDetailsPasswordService {
 
     private final UserRepository userRepository;
 
@@ -22,4 +26,21 @@ public class CustomUserDetailsService implements UserDetailsService {
         return userRepository.findByEmail(email).orElseThrow(() -> new CustomException(
             ErrorCode.USER_NOT_FOUND)); // todo
     }
+
+    /**
+     * 로그인 성공 시 저장된 password hash 의 cost 가 설정보다 낮으면 새 cost 로 계산한 hash 로 교체
+     *
+     * @param user        로그인한 사용자
+     * @param newPassword 새 cost 로 계산한 password hash
+     * @return 갱신된 사용자
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        User savedUser = userRepository.findByEmail(user.getUsername()).orElseThrow(
+            () -> new CustomException(ErrorCode.USER_NOT_FOUND));
+        savedUser.changePassword(newPassword);
+        log.info("password hash upgraded. email: {}", savedUser.getEmail());
+        return savedUser;
+    }
 }
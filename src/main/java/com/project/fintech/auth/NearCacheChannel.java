@@ -0,0 +1,151 @@
+package com.project.fintech.auth;
+
+import com.github.benmanes.caffeine.cache.Expiry;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 노드별 local near-cache 를 Redis pub/sub 으로 동기화하는 channel
+ * <p>
+ * 메시지는 {@code key|value} 형태의 문자열 하나다(value 는 비어 있을 수 있고 {@code |} 를 포함하지 않는다). 구독이 (재)연결될 때마다
+ * listener 의 {@link Listener#onResubscribed()} 를 호출하므로 각 cache 는 끊겨 있던 동안 놓친 메시지를 Redis 에 저장된 값으로
+ * 보정하거나 cache 를 비운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NearCacheChannel {
+
+    private static final String DELIMITER = "|";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    public interface Listener {
+
+        /**
+         * 다른 노드(자신 포함)가 발행한 변경
+         */
+        void onUpdate(String key, String value);
+
+        /**
+         * 구독이 (재)연결됨. 그 사이 놓친 변경을 보정한다.
+         */
+        void onResubscribed();
+    }
+
+    public void subscribe(String channel, Listener listener) {
+        redisMessageListenerContainer.addMessageListener(new ChannelListener(channel, listener),
+            new ChannelTopic(channel));
+    }
+
+    public void publish(String channel, String key, String value) {
+        stringRedisTemplate.convertAndSend(channel, key + DELIMITER + value);
+    }
+
+    /**
+     * Redis 에 prefix 로 저장된 key 를 모두 훑어 local 사본에 반영
+     *
+     * @param name   log 에 남길 cache 이름
+     * @param prefix Redis key prefix
+     * @param loader Redis key 를 받아 local 사본에 반영, 반영했으면 true
+     */
+    public void resync(String name, String prefix, Predicate<String> loader) {
+        ScanOptions scanOptions = ScanOptions.scanOptions().match(prefix + "*").count(1000)
+            .build();
+        int loaded = 0;
+        try (Cursor<String> cursor = stringRedisTemplate.scan(scanOptions)) {
+            while (cursor.hasNext()) {
+                if (loader.test(cursor.next())) {
+                    loaded++;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("{} 동기화 실패", name, e);
+            return;
+        }
+        log.info("{} 동기화 완료. loaded: {}", name, loaded);
+    }
+
+    /**
+     * transaction 안이면 commit 이후에, 아니면 바로 실행 (rollback 된 변경은 전파하지 않는다)
+     */
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * value 가 가진 시각(epoch millis)에 만료되는 Caffeine expiry
+     *
+     * @param expiresAt value 의 만료 시각
+     */
+    public static <K, V> Expiry<K, V> expireAt(ToLongFunction<V> expiresAt) {
+        return new Expiry<>() {
+            @Override
+            public long expireAfterCreate(K key, V value, long currentTime) {
+                return TimeUnit.MILLISECONDS.toNanos(
+                    Math.max(0, expiresAt.applyAsLong(value) - System.currentTimeMillis()));
+            }
+
+            @Override
+            public long expireAfterUpdate(K key, V value, long currentTime,
+                long currentDuration) {
+                return expireAfterCreate(key, value, currentTime);
+            }
+
+            @Override
+            public long expireAfterRead(K key, V value, long currentTime,
+                long currentDuration) {
+                return currentDuration;
+            }
+        };
+    }
+
+    @RequiredArgsConstructor
+    private static class ChannelListener implements MessageListener, SubscriptionListener {
+
+        private final String channel;
+        private final Listener listener;
+
+        @Override
+        public void onMessage(Message message, byte[] pattern) {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            int delimiterIndex = body.lastIndexOf(DELIMITER);
+            if (delimiterIndex < 0) {
+                log.warn("잘못된 near-cache 메시지. channel: {}, body: {}", channel, body);
+                return;
+            }
+            listener.onUpdate(body.substring(0, delimiterIndex),
+                body.substring(delimiterIndex + 1));
+        }
+
+        @Override
+        public void onChannelSubscribed(byte[] channel, long count) {
+            listener.onResubscribed();
+        }
+    }
+}
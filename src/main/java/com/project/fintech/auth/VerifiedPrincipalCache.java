@@ -0,0 +1,139 @@
+package com.project.fintech.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.fintech.auth.jwt.JwtUtil;
+import com.project.fintech.auth.jwt.VerifiedToken;
+import com.project.fintech.exception.CustomException;
+import com.project.fintech.exception.ErrorCode;
+import com.project.fintech.model.type.Role;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검증을 마친 Access Token과 그로부터 만든 principal 을 짧은 시간 동안 보관하는 cache
+ * <p>
+ * 같은 토큰으로 연속해서 들어오는 요청은 서명 검증을 다시 하지 않는다. 사용자의 role 이 바뀌면(이메일 인증, OTP 등록/해제) 변경 이전에
+ * 발급된 토큰의 role claim 대신 바뀐 role 을 사용한다. role 변경은 commit 이후 Redis 에 기록하고 pub/sub 으로 모든 노드에 전파하며,
+ * 구독이 (재)연결되면 Redis 에 기록된 변경을 다시 읽는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VerifiedPrincipalCache implements NearCacheChannel.Listener {
+
+    public static final String ROLE_CHANGE_CHANNEL = "ROLE_CHANGE_CHANNEL";
+    public static final String ROLE_CHANGE_PREFIX = "ROLE_CHANGE::";
+    private static final String VALUE_DELIMITER = ",";
+
+    private static final Duration VERIFIED_TOKEN_TTL = Duration.ofSeconds(30);
+    private static final long MAX_VERIFIED_TOKENS = 100_000;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final NearCacheChannel nearCacheChannel;
+
+    private final Cache<String, VerifiedToken> verifiedTokens = Caffeine.newBuilder()
+        .expireAfterWrite(VERIFIED_TOKEN_TTL).maximumSize(MAX_VERIFIED_TOKENS).build();
+
+    // role 변경 이전에 발급된 Access Token 이 모두 만료될 때까지만 보관
+    private final Cache<String, RoleChange> roleChanges = Caffeine.newBuilder()
+        .expireAfterWrite(Duration.ofMillis(JwtUtil.ACCESS_TOKEN_TTL_MILLIS)).build();
+
+    @PostConstruct
+    public void subscribe() {
+        nearCacheChannel.subscribe(ROLE_CHANGE_CHANNEL, this);
+    }
+
+    /**
+     * cache 에서 검증된 토큰을 꺼내고, 없거나 만료되었으면 verifier 로 검증 후 저장
+     *
+     * @param token    access token
+     * @param verifier 서명 검증 함수
+     * @return 검증된 token 정보
+     */
+    public VerifiedToken getOrVerify(String token, Function<String, VerifiedToken> verifier) {
+        VerifiedToken cached = verifiedTokens.getIfPresent(token);
+        if (cached != null && cached.getExpiration().getTime() > System.currentTimeMillis()) {
+            return cached;
+        }
+        verifiedTokens.invalidate(token);
+        VerifiedToken verifiedToken = verifier.apply(token);
+        if (verifiedToken.getUserId() == null || verifiedToken.getRole() == null) {
+            // access token 이 아닌 토큰(refresh token)으로는 인증할 수 없음
+            throw new CustomException(ErrorCode.INVALID_TOKEN);
+        }
+        verifiedTokens.put(token, verifiedToken);
+        return verifiedToken;
+    }
+
+    /**
+     * 검증된 토큰으로 principal 생성. 토큰 발급 이후 role 이 바뀌었다면 바뀐 role 을 사용한다.
+     *
+     * @param verifiedToken
+     * @return principal
+     */
+    public AuthPrincipal toPrincipal(VerifiedToken verifiedToken) {
+        Role role = verifiedToken.getRole();
+        RoleChange roleChange = roleChanges.getIfPresent(verifiedToken.getEmail());
+        if (roleChange != null && verifiedToken.getIssuedAt().getTime() <= roleChange.changedAt()) {
+            role = roleChange.role();
+        }
+        return AuthPrincipal.builder().userId(verifiedToken.getUserId())
+            .email(verifiedToken.getEmail()).role(role).build();
+    }
+
+    /**
+     * 사용자의 role 이 바뀌었음을 모든 노드에 알림. transaction 안이면 commit 이후에 알리므로 rollback 된 변경은 전파되지 않는다.
+     * <p>
+     * cache 된 토큰은 그대로 두고 principal 을 만들 때 바뀐 role 을 적용하므로 cache 를 훑지 않는다.
+     *
+     * @param email
+     * @param role  변경된 role
+     */
+    public void evictUser(String email, Role role) {
+        NearCacheChannel.afterCommit(() -> {
+            String value = role.name() + VALUE_DELIMITER + System.currentTimeMillis();
+            stringRedisTemplate.opsForValue().set(ROLE_CHANGE_PREFIX + email, value,
+                JwtUtil.ACCESS_TOKEN_TTL_MILLIS, TimeUnit.MILLISECONDS);
+            onUpdate(email, value);
+            nearCacheChannel.publish(ROLE_CHANGE_CHANNEL, email, value);
+            log.debug("role change published. email: {}, role: {}", email, role);
+        });
+    }
+
+    @Override
+    public void onUpdate(String email, String value) {
+        RoleChange roleChange = RoleChange.parse(value);
+        // 늦게 도착한 이전 변경이 최근 변경을 덮어쓰지 않도록 한다
+        roleChanges.asMap().merge(email, roleChange,
+            (current, received) -> received.changedAt() >= current.changedAt() ? received
+                : current);
+    }
+
+    @Override
+    public void onResubscribed() {
+        nearCacheChannel.resync("role change", ROLE_CHANGE_PREFIX, redisKey -> {
+            String value = stringRedisTemplate.opsForValue().get(redisKey);
+            if (value == null) {
+                return false;
+            }
+            onUpdate(redisKey.substring(ROLE_CHANGE_PREFIX.length()), value);
+            return true;
+        });
+    }
+
+    private record RoleChange(Role role, long changedAt) {
+
+        static RoleChange parse(String value) {
+            int delimiterIndex = value.indexOf(VALUE_DELIMITER);
+            return new RoleChange(Role.valueOf(value.substring(0, delimiterIndex)),
+                Long.parseLong(value.substring(delimiterIndex + 1)));
+        }
+    }
+}
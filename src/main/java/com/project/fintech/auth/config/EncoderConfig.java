@@ -1,5 +1,8 @@
 package com.project.fintech.auth.config;
 
+import com.project.fintech.auth.BoundedPasswordEncoder;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -8,8 +11,23 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 @Configuration
 public class EncoderConfig {
 
+    /**
+     * BCrypt hash 계산을 전용 thread pool 로 제한하는 PasswordEncoder
+     *
+     * @param strength      BCrypt cost. 올리면 기존 사용자의 hash 는 다음 로그인 시 새 cost 로 갱신된다
+     * @param threads       hash 계산 thread 수. 0 이면 CPU core 수의 절반
+     * @param queueCapacity 대기열 크기. 가득 차면 바로 거절
+     * @param timeout       hash 계산 대기 최대 시간
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+        @Value("${security.password.bcrypt-strength:10}") int strength,
+        @Value("${security.password.hashing-threads:0}") int threads,
+        @Value("${security.password.hashing-queue-capacity:64}") int queueCapacity,
+        @Value("${security.password.hashing-timeout:PT5S}") Duration timeout) {
+        int hashingThreads = threads > 0 ? threads
+            : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(strength), hashingThreads,
+            queueCapacity, timeout);
     }
-}
\ No newline at end of file
+}
@@ -4,6 +4,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.project.fintech.application.AuthApplication;
 import com.project.fintech.auth.jwt.JwtFilter;
 import com.project.fintech.auth.otp.OtpFilter;
+import com.project.fintech.auth.ratelimit.RateLimitFilter;
+import com.project.fintech.auth.ratelimit.RateLimiter;
 import com.project.fintech.auth.springsecurity.CustomAuthenticationEntryPoint;
 import com.project.fintech.auth.springsecurity.CustomAuthenticationFilter;
 import com.project.fintech.auth.springsecurity.CustomLogoutHandler;
@@ -19,6 +21,7 @@ import org.springframework.security.config.annotation.authentication.configurati
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
@@ -35,15 +38,17 @@ public class SecurityConfig {
     private final AuthApplication authApplication;
     private final PasswordEncoder passwordEncoder;
     private final UserDetailsService userDetailsService;
+    private final UserDetailsPasswordService userDetailsPasswordService;
     private final ObjectMapper objectMapper;
     private final CustomAuthenticationEntryPoint customAuthenticationEntryPoint;
+    private final RateLimiter rateLimiter;
 
     /**
      * OTP 인증이 필요한 경로에 대한 FilterChain
      */
     @Bean
     public SecurityFilterChain otpSecurityFilterChain(HttpSecurity http) throws Exception {
-        OtpFilter otpFilter = new OtpFilter();
+        OtpFilter otpFilter = new OtpFilter(authApplication);
         JwtFilter jwtFilter = new JwtFilter(authApplication);
         http.securityMatcher(otpVerificationEndPoints)
             .anonymous(AbstractHttpConfigurer::disable)
@@ -69,8 +74,11 @@ public class SecurityConfig {
         CustomLogoutHandler customLogoutHandler = new CustomLogoutHandler(authApplication,
             objectMapper);
         JwtFilter jwtFilter = new JwtFilter(authApplication);
+        RateLimitFilter rateLimitFilter = new RateLimitFilter(rateLimiter, objectMapper);
 
-        http.authenticationProvider(daoAuthenticationProvider(userDetailsService, passwordEncoder))
+        http.authenticationProvider(
+                daoAuthenticationProvider(userDetailsService, userDetailsPasswordService,
+                    passwordEncoder))
             .anonymous(AbstractHttpConfigurer::disable);
 
         customAuthenticationFilter.setAuthenticationManager(authenticationManager);
@@ -86,6 +94,7 @@ public class SecurityConfig {
                         .authenticated())
             .formLogin(AbstractHttpConfigurer::disable)
 //            .addFilterBefore(exceptionHandlingFilter, CustomAuthenticationFilter.class)
+            .addFilterBefore(rateLimitFilter, UsernamePasswordAuthenticationFilter.class)
             .addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class)
             .addFilterAt(customAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
             .logout(logout ->
@@ -103,9 +112,11 @@ public class SecurityConfig {
 
     @Bean
     public AuthenticationProvider daoAuthenticationProvider(UserDetailsService userDetailsService,
-        PasswordEncoder passwordEncoder) {
+        UserDetailsPasswordService userDetailsPasswordService, PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
         provider.setUserDetailsService(userDetailsService);
+        // 로그인 시 cost 가 낮은 password hash 를 새 cost 로 갱신
+        provider.setUserDetailsPasswordService(userDetailsPasswordService);
         provider.setPasswordEncoder(passwordEncoder);
         return provider;
     }
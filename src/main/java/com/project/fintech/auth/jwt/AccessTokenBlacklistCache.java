@@ -0,0 +1,83 @@
+package com.project.fintech.auth.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.fintech.auth.NearCacheChannel;
+import jakarta.annotation.PostConstruct;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Access Token black list 의 노드별 local 사본
+ * <p>
+ * 폐기된 토큰은 access token 수명(최대 15분) 동안만 유지되므로 개수가 적다. 각 노드는 폐기된 토큰 전체를 메모리에 들고 있고, 다른 노드의
+ * 폐기는 Redis pub/sub 으로 전달받는다. 따라서 폐기되지 않은 토큰 확인에는 Redis 조회가 필요 없다. 구독이 (재)연결될 때마다 Redis 에
+ * 저장된 black list 를 다시 읽어 끊겨 있던 동안 놓친 메시지를 보정한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AccessTokenBlacklistCache implements NearCacheChannel.Listener {
+
+    public static final String BLACKLIST_CHANNEL = "JWT_BLACKLIST_CHANNEL";
+    public static final String DISABLED_TOKEN_PREFIX = "JWT_BLACKLIST::";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final NearCacheChannel nearCacheChannel;
+
+    // key: black list key(prefix 제외), value: 토큰 만료 시각(epoch millis)
+    private final Cache<String, Long> revokedTokens = Caffeine.newBuilder()
+        .expireAfter(NearCacheChannel.<String, Long>expireAt(expiresAt -> expiresAt)).build();
+
+    @PostConstruct
+    public void subscribe() {
+        nearCacheChannel.subscribe(BLACKLIST_CHANNEL, this);
+    }
+
+    /**
+     * local 사본에 폐기된 토큰 저장 후 다른 노드로 전파
+     *
+     * @param key       black list key(prefix 제외)
+     * @param expiresAt 토큰 만료 시각(epoch millis)
+     */
+    public void publishRevoked(String key, long expiresAt) {
+        revokedTokens.put(key, expiresAt);
+        nearCacheChannel.publish(BLACKLIST_CHANNEL, key, String.valueOf(expiresAt));
+    }
+
+    /**
+     * 폐기된 토큰인지 local 사본에서 확인 (Redis 조회 없음)
+     *
+     * @param key black list key(prefix 제외)
+     * @return 폐기 여부
+     */
+    public boolean isRevoked(String key) {
+        return revokedTokens.getIfPresent(key) != null;
+    }
+
+    @Override
+    public void onUpdate(String key, String expiresAt) {
+        revokedTokens.put(key, Long.parseLong(expiresAt));
+    }
+
+    @Override
+    public void onResubscribed() {
+        resync();
+    }
+
+    /**
+     * Redis 에 저장된 black list 전체를 local 사본에 반영
+     */
+    void resync() {
+        nearCacheChannel.resync("black list", DISABLED_TOKEN_PREFIX, redisKey -> {
+            Long ttlMillis = stringRedisTemplate.getExpire(redisKey, TimeUnit.MILLISECONDS);
+            if (ttlMillis == null || ttlMillis <= 0) {
+                return false;
+            }
+            revokedTokens.put(redisKey.substring(DISABLED_TOKEN_PREFIX.length()),
+                System.currentTimeMillis() + ttlMillis);
+            return true;
+        });
+    }
+}
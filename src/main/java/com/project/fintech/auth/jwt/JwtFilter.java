@@ -27,7 +27,6 @@ public class JwtFilter extends OncePerRequestFilter {
         }
         String token = request.getHeader("Authorization").replace("Bearer ", "");
         log.info("JWT Filter 동작");
-        log.info("jwt token: {}", token);
         try {
             authApplication.executeJwtAuthentication(token);
         } catch (CustomException e) {
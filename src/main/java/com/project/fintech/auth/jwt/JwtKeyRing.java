@@ -0,0 +1,145 @@
+package com.project.fintech.auth.jwt;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.InvalidKeyException;
+import io.jsonwebtoken.security.Keys;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import javax.crypto.SecretKey;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 모든 노드가 공유하는 JWT 서명 key ring
+ * <p>
+ * key 파일의 각 줄은 {@code <kid>,<활성화 시각(ISO-8601)>,<base64 HS256 key>} 형식이다. 서명에는 활성화된 key 중 가장 최근
+ * key 를 사용하고, 토큰 header 의 kid 로 검증 key 를 찾는다. 새 key 를 활성화 시각보다 먼저 파일에 추가해 두면 모든 노드가 미리 검증할 수
+ * 있고, 이전 key 는 다음 key 가 활성화된 뒤 grace period(기본: refresh token 수명) 동안 검증에만 사용된다. 파일은 주기적으로 다시
+ * 읽으므로 재시작 없이 key 를 교체할 수 있다.
+ */
+@Slf4j
+@Component
+public class JwtKeyRing extends LocatorAdapter<Key> {
+
+    private static final String DELIMITER = ",";
+
+    private final Resource location;
+    private final Duration gracePeriod;
+    private volatile Snapshot snapshot;
+
+    public JwtKeyRing(@Value("${jwt.key-ring.location}") Resource location,
+        @Value("${jwt.key-ring.grace-period:PT168H15M}") Duration gracePeriod) {
+        this.location = location;
+        this.gracePeriod = gracePeriod;
+        reload();
+    }
+
+    /**
+     * 주기적으로 key 파일을 다시 읽음. 실패하면 기존 key ring 을 그대로 사용
+     */
+    @Scheduled(fixedDelayString = "${jwt.key-ring.reload-interval:PT1M}")
+    public void scheduledReload() {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            log.error("JWT key ring 갱신 실패. 기존 key ring 유지", e);
+        }
+    }
+
+    /**
+     * key 파일을 다시 읽고 현재 시각 기준으로 서명 key 와 검증 key 를 다시 계산
+     */
+    public void reload() {
+        List<SigningKey> keys = readKeys();
+        Instant now = Instant.now();
+
+        SigningKey signingKey = keys.stream().filter(key -> !key.activatesAt().isAfter(now))
+            .max(Comparator.comparing(SigningKey::activatesAt))
+            .orElseThrow(() -> new IllegalStateException("활성화된 JWT 서명 key 가 없습니다."));
+        // 다음 key 가 활성화된 지 grace period 가 지난 key 는 더 이상 검증에 사용하지 않음
+        Map<String, SecretKey> verificationKeys = keys.stream()
+            .filter(key -> keys.stream().noneMatch(
+                newer -> newer.activatesAt().isAfter(key.activatesAt()) && !newer.activatesAt()
+                    .plus(gracePeriod).isAfter(now)))
+            .collect(Collectors.toUnmodifiableMap(SigningKey::kid, SigningKey::secretKey));
+
+        Snapshot previous = snapshot;
+        snapshot = new Snapshot(signingKey, verificationKeys);
+        if (previous == null || !previous.signingKey().kid().equals(signingKey.kid())
+            || !previous.verificationKeys().keySet().equals(verificationKeys.keySet())) {
+            log.info("JWT key ring 갱신. signing kid: {}, verification kids: {}", signingKey.kid(),
+                verificationKeys.keySet());
+        }
+    }
+
+    /**
+     * 현재 서명에 사용할 key
+     *
+     * @return kid 와 secret key
+     */
+    public SigningKey signingKey() {
+        return snapshot.signingKey();
+    }
+
+    /**
+     * 토큰 header 의 kid 로 검증 key 조회. kid 가 없거나 폐기된 key 면 토큰 검증 실패
+     */
+    @Override
+    protected Key locate(JwsHeader header) {
+        String kid = header.getKeyId();
+        SecretKey key = kid == null ? null : snapshot.verificationKeys().get(kid);
+        if (key == null) {
+            throw new InvalidKeyException("unknown JWT kid: " + kid);
+        }
+        return key;
+    }
+
+    private List<SigningKey> readKeys() {
+        List<SigningKey> keys = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(
+            new InputStreamReader(location.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.strip();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] fields = line.split(DELIMITER);
+                if (fields.length != 3) {
+                    throw new IllegalStateException("잘못된 JWT key 형식: " + fields[0]);
+                }
+                keys.add(new SigningKey(fields[0].strip(), Instant.parse(fields[1].strip()),
+                    Keys.hmacShaKeyFor(Decoders.BASE64.decode(fields[2].strip()))));
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("JWT key 파일을 읽을 수 없습니다: " + location, e);
+        }
+        if (keys.stream().map(SigningKey::kid).distinct().count() != keys.size()) {
+            throw new IllegalStateException("JWT key 파일에 중복된 kid 가 있습니다.");
+        }
+        return keys;
+    }
+
+    public record SigningKey(String kid, Instant activatesAt, SecretKey secretKey) {
+
+    }
+
+    private record Snapshot(SigningKey signingKey, Map<String, SecretKey> verificationKeys) {
+
+    }
+}
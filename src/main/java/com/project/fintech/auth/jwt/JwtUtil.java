@@ -1,25 +1,47 @@
 package com.project.fintech.auth.jwt;
 
+import com.project.fintech.auth.AuthPrincipal;
 import com.project.fintech.exception.CustomException;
 import com.project.fintech.exception.ErrorCode;
+import com.project.fintech.model.type.Role;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtBuilder;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
-import javax.crypto.SecretKey;
-import lombok.RequiredArgsConstructor;
+import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtUtil {
 
+    public static final long ACCESS_TOKEN_TTL_MILLIS = 1000 * 60 * 15;
+    public static final long REFRESH_TOKEN_TTL_MILLIS = 1000L * 60 * 60 * 24 * 7;
+    public static final long OTP_STEP_UP_TOKEN_TTL_MILLIS = 1000 * 60 * 2;
+    public static final String OTP_AUTH_METHOD = "otp";
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String ROLE_CLAIM = "role";
+    private static final String AUTH_METHOD_CLAIM = "amr";
+    // iat 는 초 단위이므로 revocation epoch 와 비교할 millisecond 단위 발급 시각을 따로 담는다
+    private static final String ISSUED_AT_MILLIS_CLAIM = "iat_ms";
     private final String TOKEN_ISSUER = "Fintech_Service";
-    SecretKey key = Jwts.SIG.HS256.key().build();
+    private final JwtKeyRing jwtKeyRing;
+    // parser는 thread-safe 하므로 한 번만 만들어 재사용한다. 검증 key 는 token header 의 kid 로 key ring 에서 찾는다
+    private final JwtParser jwtParser;
+
+    public JwtUtil(JwtKeyRing jwtKeyRing) {
+        this.jwtKeyRing = jwtKeyRing;
+        this.jwtParser = Jwts.parser().keyLocator(jwtKeyRing).build();
+    }
 
     /**
      * JWT Token basic builder 생성
@@ -28,19 +50,27 @@ public class JwtUtil {
      * @return JwtBuilder
      */
     public JwtBuilder tokenBuilder(String email) {
-        return Jwts.builder().issuedAt(new Date(System.currentTimeMillis())).issuer(TOKEN_ISSUER)
-            .audience().add(email).and().subject(email).signWith(key);
+        return tokenBuilder(email, newTokenId(), new Date(System.currentTimeMillis()));
+    }
+
+    private JwtBuilder tokenBuilder(String email, String tokenId, Date issuedAt) {
+        JwtKeyRing.SigningKey signingKey = jwtKeyRing.signingKey();
+        return Jwts.builder().header().keyId(signingKey.kid()).and().id(tokenId)
+            .issuedAt(issuedAt).claim(ISSUED_AT_MILLIS_CLAIM, issuedAt.getTime())
+            .issuer(TOKEN_ISSUER).audience().add(email).and().subject(email)
+            .signWith(signingKey.secretKey());
     }
 
     /**
-     * Access Token 생성
+     * Access Token 생성 (인증 시 DB 조회 없이 principal을 만들 수 있도록 user id, role 을 claim 으로 담는다)
      *
-     * @param email
+     * @param principal
      * @return Access Token
      */
-    public String generateAccessToken(String email) {
-        return tokenBuilder(email).expiration(new Date(System.currentTimeMillis() + 1000 * 60 * 15))
-            .compact();
+    public String generateAccessToken(AuthPrincipal principal) {
+        return tokenBuilder(principal.getEmail()).claim(USER_ID_CLAIM, principal.getUserId())
+            .claim(ROLE_CLAIM, principal.getRole().name())
+            .expiration(new Date(System.currentTimeMillis() + ACCESS_TOKEN_TTL_MILLIS)).compact();
     }
 
     /**
@@ -50,44 +80,118 @@ public class JwtUtil {
      * @return Refesh Token
      */
     public String generateRefreshToken(String email) {
-        return tokenBuilder(email).compact();
+        return issueRefreshToken(email).getToken();
     }
 
     /**
-     * token으로부터 expiration 추출
+     * Refresh Token 생성 후 token 과 jti, 만료 시각을 함께 반환. 방금 서명한 token 이므로 Redis 에 저장하기 위해 다시 parse 하고
+     * 서명을 검증하지 않는다.
      *
-     * @param token
-     * @return Date expiration
+     * @param email
+     * @return 발급한 refresh token 정보
      */
-    public Date getTokenExpiration(String token) {
-        return Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload()
-            .getExpiration();
+    public VerifiedToken issueRefreshToken(String email) {
+        String tokenId = newTokenId();
+        long now = System.currentTimeMillis();
+        Date issuedAt = new Date(now);
+        Date expiration = new Date(now + REFRESH_TOKEN_TTL_MILLIS);
+        String token = tokenBuilder(email, tokenId, issuedAt).expiration(expiration).compact();
+        return VerifiedToken.builder().token(token).tokenId(tokenId).email(email)
+            .issuedAt(issuedAt).expiration(expiration).build();
     }
 
     /**
-     * JWT Token으로부터 email 추출
+     * OTP 인증을 마친 사용자에게 발급하는 step-up token 생성. OTP 인증이 필요한 요청에서 access token 과 함께 보내며, 서명과 만료만
+     * 확인하므로 검증에 I/O 가 없다.
      *
-     * @param token
-     * @return email
+     * @param email OTP 인증을 마친 사용자 email (access token 의 subject 와 같아야 한다)
+     * @return step-up token
      */
-    public String getEmailFromToken(String token) {
-        return Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload()
-            .getSubject();
+    public String generateOtpStepUpToken(String email) {
+        return tokenBuilder(email).claim(AUTH_METHOD_CLAIM, OTP_AUTH_METHOD)
+            .expiration(new Date(System.currentTimeMillis() + OTP_STEP_UP_TOKEN_TTL_MILLIS))
+            .compact();
     }
 
     /**
-     * JWT Token 유효성 검증
+     * JWT Token을 한 번만 parse 하여 서명과 만료를 검증하고 claim 정보를 반환
      *
      * @param token
-     * @return true / false
+     * @return 검증된 token의 claim 정보
      */
-    public void verifyToken(String token) throws JwtException {
+    public VerifiedToken parseVerifiedToken(String token) {
         try {
-            Jwts.parser().verifyWith(key).build().parse(token);
+            return toVerifiedToken(jwtParser.parseSignedClaims(token).getPayload(), token);
         } catch (ExpiredJwtException e) {
             throw new CustomException(ErrorCode.TOKEN_EXPIRED);
-        } catch (JwtException e) {
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new CustomException(ErrorCode.INVALID_TOKEN);
+        }
+    }
+
+    /**
+     * 서명은 검증하고 만료는 허용해서 claim 정보를 반환. 로그아웃처럼 만료된 token 도 jti 와 만료 시각만 알면 되는 경우에 사용한다.
+     *
+     * @param token
+     * @return 서명이 검증된 token의 claim 정보 (만료되었을 수 있음)
+     */
+    public VerifiedToken parseVerifiedTokenAllowingExpired(String token) {
+        try {
+            return toVerifiedToken(jwtParser.parseSignedClaims(token).getPayload(), token);
+        } catch (ExpiredJwtException e) {
+            // 만료 확인은 서명 검증 뒤에 하므로 예외에 담긴 claim 은 서명이 검증된 값이다
+            return toVerifiedToken(e.getClaims(), token);
+        } catch (JwtException | IllegalArgumentException e) {
             throw new CustomException(ErrorCode.INVALID_TOKEN);
         }
     }
+
+    private VerifiedToken toVerifiedToken(Claims claims, String token) {
+        String role = claims.get(ROLE_CLAIM, String.class);
+        Long issuedAtMillis = claims.get(ISSUED_AT_MILLIS_CLAIM, Long.class);
+        return VerifiedToken.builder().token(token).tokenId(tokenIdOf(claims, token))
+            .email(claims.getSubject())
+            .userId(claims.get(USER_ID_CLAIM, Long.class))
+            .role(role == null ? null : Role.valueOf(role))
+            .authMethod(claims.get(AUTH_METHOD_CLAIM, String.class))
+            .issuedAt(issuedAtMillis == null ? claims.getIssuedAt() : new Date(issuedAtMillis))
+            .expiration(claims.getExpiration()).build();
+    }
+
+    /**
+     * JWT Token 유효성 검증
+     *
+     * @param token
+     */
+    public void verifyToken(String token) {
+        parseVerifiedToken(token);
+    }
+
+    /**
+     * Redis key 로 사용할 token id(jti) 생성. UUID 128bit 를 base64url 로 표현해 22자로 줄인다.
+     *
+     * @return token id
+     */
+    private String newTokenId() {
+        UUID uuid = UUID.randomUUID();
+        ByteBuffer buffer = ByteBuffer.allocate(16).putLong(uuid.getMostSignificantBits())
+            .putLong(uuid.getLeastSignificantBits());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    /**
+     * token 의 jti, jti 가 없는 token 이면 token 의 SHA-256 hash(43자)
+     */
+    private String tokenIdOf(Claims claims, String token) {
+        if (claims.getId() != null) {
+            return claims.getId();
+        }
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                .digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
@@ -0,0 +1,93 @@
+package com.project.fintech.auth.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.fintech.auth.NearCacheChannel;
+import jakarta.annotation.PostConstruct;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자별 토큰 폐기 시각(revocation epoch)의 노드별 local 사본
+ * <p>
+ * 사용자의 모든 토큰을 폐기할 때 토큰마다 black list 에 올리는 대신 "이 시각 이전에 발급된 토큰은 무효" 라는 값 하나를 Redis 에 쓴다.
+ * 토큰 검증 시에는 토큰의 발급 시각과 local 사본의 폐기 시각만 비교하므로 Redis 조회나 토큰별 상태가 필요 없다. 폐기 시각은 가장 긴 토큰
+ * 수명(refresh token) 동안만 의미가 있으므로 그 이후에는 Redis 와 local 사본에서 모두 사라진다. 다른 노드의 폐기는 pub/sub 으로
+ * 전달받고, 구독이 (재)연결될 때마다 Redis 에 저장된 값을 다시 읽어 놓친 메시지를 보정한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RevocationEpochCache implements NearCacheChannel.Listener {
+
+    public static final String REVOCATION_CHANNEL = "JWT_REVOCATION_EPOCH_CHANNEL";
+    public static final String REVOKED_BEFORE_PREFIX = "JWT_REVOKED_BEFORE::";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final NearCacheChannel nearCacheChannel;
+
+    // key: user email, value: 폐기 시각(epoch millis)
+    private final Cache<String, Long> revokedBefore = Caffeine.newBuilder()
+        .expireAfter(NearCacheChannel.<String, Long>expireAt(
+            epoch -> epoch + JwtUtil.REFRESH_TOKEN_TTL_MILLIS)).build();
+
+    @PostConstruct
+    public void subscribe() {
+        nearCacheChannel.subscribe(REVOCATION_CHANNEL, this);
+    }
+
+    /**
+     * 현재 시각 이전에 발급된 사용자의 모든 토큰을 폐기 (Redis write 1회 + 전파)
+     *
+     * @param email
+     */
+    public void revokeAllIssuedBefore(String email) {
+        long epoch = System.currentTimeMillis();
+        stringRedisTemplate.opsForValue()
+            .set(REVOKED_BEFORE_PREFIX + email, String.valueOf(epoch),
+                JwtUtil.REFRESH_TOKEN_TTL_MILLIS, TimeUnit.MILLISECONDS);
+        revokedBefore.asMap().merge(email, epoch, Math::max);
+        nearCacheChannel.publish(REVOCATION_CHANNEL, email, String.valueOf(epoch));
+    }
+
+    /**
+     * 토큰이 사용자의 폐기 시각보다 먼저 발급되었는지 local 사본에서 확인 (Redis 조회 없음)
+     * <p>
+     * 발급 시각은 millisecond 단위이므로 폐기 직후 같은 초에 발급한 토큰(OTP 재설정 후 새로 발급한 token pair 등)은 폐기되지 않는다.
+     *
+     * @param email    토큰 subject
+     * @param issuedAt 토큰 발급 시각 (millisecond 단위)
+     * @return 폐기 여부
+     */
+    public boolean isRevoked(String email, Date issuedAt) {
+        Long epoch = revokedBefore.getIfPresent(email);
+        return epoch != null && (issuedAt == null || issuedAt.getTime() < epoch);
+    }
+
+    @Override
+    public void onUpdate(String email, String epoch) {
+        revokedBefore.asMap().merge(email, Long.parseLong(epoch), Math::max);
+    }
+
+    @Override
+    public void onResubscribed() {
+        resync();
+    }
+
+    /**
+     * Redis 에 저장된 사용자별 폐기 시각 전체를 local 사본에 반영
+     */
+    void resync() {
+        nearCacheChannel.resync("revocation epoch", REVOKED_BEFORE_PREFIX, redisKey -> {
+            String epoch = stringRedisTemplate.opsForValue().get(redisKey);
+            if (epoch == null) {
+                return false;
+            }
+            revokedBefore.asMap().merge(redisKey.substring(REVOKED_BEFORE_PREFIX.length()),
+                Long.parseLong(epoch), Math::max);
+            return true;
+        });
+    }
+}
@@ -0,0 +1,28 @@
+package com.project.fintech.auth.jwt;
+
+import com.project.fintech.model.type.Role;
+import java.util.Date;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 서명 검증을 마친 JWT의 claim 정보. 한 요청 안에서 토큰을 다시 parse 하지 않도록 이후 단계에서 이 객체를 사용한다.
+ * <p>
+ * userId, role 은 Access Token에만 존재한다. (Refresh Token 은 null)
+ * <p>
+ * authMethod 는 OTP 인증 후 발급한 step-up token 에만 존재한다.
+ */
+@Getter
+@Builder
+public class VerifiedToken {
+
+    private final String token;
+    // Redis key 로 사용하는 token id (jti)
+    private final String tokenId;
+    private final Long userId;
+    private final String email;
+    private final Role role;
+    private final String authMethod;
+    private final Date issuedAt;
+    private final Date expiration;
+}
@@ -0,0 +1,11 @@
+package com.project.fintech.auth.otp;
+
+/**
+ * OTP 인증 시도 예약 결과
+ *
+ * @param allowed   이번 시도 허용 여부
+ * @param remaining 이번 TOTP 주기에 남은 시도 횟수
+ */
+public record OtpAttempt(boolean allowed, int remaining) {
+
+}
@@ -1,26 +1,31 @@
 package com.project.fintech.auth.otp;
 
-import com.project.fintech.exception.CustomException;
-import com.project.fintech.exception.ErrorCode;
+import com.project.fintech.application.AuthApplication;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+/**
+ * OTP 인증이 필요한 경로에서 OTP step-up token 을 확인하는 filter. session 을 사용하지 않는다.
+ */
 @Slf4j
+@RequiredArgsConstructor
 public class OtpFilter extends OncePerRequestFilter {
 
+    public static final String OTP_TOKEN_HEADER = "X-OTP-Token";
+
+    private final AuthApplication authApplication;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
         FilterChain filterChain) throws ServletException, IOException {
         log.info("starting OTP Filter..");
-        Object otpVerified = request.getSession().getAttribute("OTPVerified");
-        if (otpVerified == null || !(Boolean) otpVerified) {
-            throw new CustomException(ErrorCode.INVALID_OTP_CODE);
-        }
+        authApplication.executeOtpStepUpVerification(request.getHeader(OTP_TOKEN_HEADER));
 
         filterChain.doFilter(request, response);
     }
@@ -0,0 +1,161 @@
+package com.project.fintech.auth.otp;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.fintech.auth.NearCacheChannel;
+import jakarta.annotation.PostConstruct;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.function.Function;
+import javax.crypto.Cipher;
+import javax.crypto.KeyGenerator;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자 OTP secret key 의 노드별 cache
+ * <p>
+ * Base32 secret key 는 평문으로 두지 않고 프로세스 기동 시 만든 AES-GCM key 로 암호화해 보관한다(key 는 메모리 밖으로 나가지 않음).
+ * OTP 검증용으로 decode 한 HMAC key 는 검증마다 decode 하거나 Mac 을 다시 init 하지 않도록 같은 entry 에 보관하고 같은 instance 를
+ * 돌려준다. 이 key 는 암호화되어 있지 않으며, TotpVerifier 의 thread 별 Mac 도 마지막 key 를 가지고 있다. secret key 가
+ * 바뀌거나 삭제되면 commit 이후 cache 를 비우고 Redis pub/sub 으로 다른 노드에도 알린다. 구독이 (재)연결되면 놓친 메시지가 있을 수 있으므로
+ * cache 전체를 비운다.
+ */
+@Component
+public class OtpSecretKeyCache implements NearCacheChannel.Listener {
+
+    public static final String EVICT_CHANNEL = "OTP_SECRET_KEY_EVICT_CHANNEL";
+    private static final String CIPHER_ALGORITHM = "AES/GCM/NoPadding";
+    private static final int IV_BYTES = 12;
+    private static final int TAG_BITS = 128;
+    private static final Duration SECRET_KEY_TTL = Duration.ofMinutes(10);
+    private static final long MAX_SECRET_KEYS = 100_000;
+
+    private final NearCacheChannel nearCacheChannel;
+    private final SecretKey encryptionKey;
+    private final SecureRandom secureRandom = new SecureRandom();
+    // Cipher 는 thread-safe 하지 않으므로 thread 별로 재사용
+    private final ThreadLocal<Cipher> ciphers = ThreadLocal.withInitial(() -> {
+        try {
+            return Cipher.getInstance(CIPHER_ALGORITHM);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    // key: user email, value: IV + 암호화된 secret key, decode 한 HMAC key
+    private final Cache<String, CachedSecretKey> secretKeys = Caffeine.newBuilder()
+        .expireAfterWrite(SECRET_KEY_TTL).maximumSize(MAX_SECRET_KEYS).build();
+
+    public OtpSecretKeyCache(NearCacheChannel nearCacheChannel) {
+        this.nearCacheChannel = nearCacheChannel;
+        try {
+            KeyGenerator keyGenerator = KeyGenerator.getInstance("AES");
+            keyGenerator.init(256);
+            this.encryptionKey = keyGenerator.generateKey();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        nearCacheChannel.subscribe(EVICT_CHANNEL, this);
+    }
+
+    /**
+     * cache 에서 secret key 를 꺼내고, 없으면 loader 로 조회 후 암호화해서 저장
+     *
+     * @param email  user email
+     * @param loader DB 조회 함수
+     * @return OTP secret key
+     */
+    public String get(String email, Function<String, String> loader) {
+        CachedSecretKey cached = secretKeys.getIfPresent(email);
+        if (cached != null) {
+            return decrypt(cached.sealed());
+        }
+        String secretKey = loader.apply(email);
+        secretKeys.put(email, seal(secretKey));
+        return secretKey;
+    }
+
+    /**
+     * cache 에서 OTP 검증용 HMAC key 를 꺼내고, 없으면 loader 로 조회 후 저장. cache 에 있는 동안은 같은 instance 를 반환한다.
+     *
+     * @param email  user email
+     * @param loader DB 조회 함수
+     * @return decode 한 HMAC key
+     */
+    public SecretKeySpec getHmacKey(String email, Function<String, String> loader) {
+        CachedSecretKey cached = secretKeys.getIfPresent(email);
+        if (cached == null) {
+            cached = seal(loader.apply(email));
+            secretKeys.put(email, cached);
+        }
+        return cached.hmacKey();
+    }
+
+    /**
+     * secret key 변경/삭제 시 cache 를 비우고 다른 노드에 알림. transaction 안이면 commit 이후에 한 번 더 비우고 알려서 commit 전
+     * 값이 다시 cache 되지 않게 한다.
+     *
+     * @param email user email
+     */
+    public void evict(String email) {
+        secretKeys.invalidate(email);
+        NearCacheChannel.afterCommit(() -> {
+            secretKeys.invalidate(email);
+            nearCacheChannel.publish(EVICT_CHANNEL, email, "");
+        });
+    }
+
+    @Override
+    public void onUpdate(String email, String value) {
+        secretKeys.invalidate(email);
+    }
+
+    @Override
+    public void onResubscribed() {
+        secretKeys.invalidateAll();
+    }
+
+    private CachedSecretKey seal(String secretKey) {
+        return new CachedSecretKey(encrypt(secretKey), TotpVerifier.decodeKey(secretKey));
+    }
+
+    private byte[] encrypt(String secretKey) {
+        try {
+            byte[] iv = new byte[IV_BYTES];
+            secureRandom.nextBytes(iv);
+            Cipher cipher = ciphers.get();
+            cipher.init(Cipher.ENCRYPT_MODE, encryptionKey, new GCMParameterSpec(TAG_BITS, iv));
+            byte[] encrypted = cipher.doFinal(secretKey.getBytes(StandardCharsets.US_ASCII));
+            return ByteBuffer.allocate(IV_BYTES + encrypted.length).put(iv).put(encrypted)
+                .array();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String decrypt(byte[] sealed) {
+        try {
+            Cipher cipher = ciphers.get();
+            cipher.init(Cipher.DECRYPT_MODE, encryptionKey,
+                new GCMParameterSpec(TAG_BITS, sealed, 0, IV_BYTES));
+            return new String(cipher.doFinal(sealed, IV_BYTES, sealed.length - IV_BYTES),
+                StandardCharsets.US_ASCII);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record CachedSecretKey(byte[] sealed, SecretKeySpec hmacKey) {
+
+    }
+}
@@ -3,6 +3,7 @@ package com.project.fintech.auth.otp;
 import com.warrenstrange.googleauth.GoogleAuthenticator;
 import com.warrenstrange.googleauth.GoogleAuthenticatorKey;
 import com.warrenstrange.googleauth.GoogleAuthenticatorQRGenerator;
+import javax.crypto.spec.SecretKeySpec;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -12,6 +13,7 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class OtpUtil {
     private final GoogleAuthenticator gAuth = new GoogleAuthenticator();
+    private final TotpVerifier totpVerifier;
     private final String issuer = "FintechService";
     /**
      * OTP secretKey 생성
@@ -27,20 +29,16 @@ public class OtpUtil {
      * @return 생성된 ProvisiongUrl
      */
     public String createProvisioningUrl(String email, GoogleAuthenticatorKey secretKey) {
-        log.info("생성된 비밀키: {}", secretKey.getKey());
-
-        String otpProvisioningUrl = GoogleAuthenticatorQRGenerator.getOtpAuthURL(issuer, email, secretKey);
-        log.info("OTP Provisioning URI: {}", otpProvisioningUrl);
-        return otpProvisioningUrl;
+        return GoogleAuthenticatorQRGenerator.getOtpAuthURL(issuer, email, secretKey);
     }
 
     /**
      * secretKey로 OTP Code 유효성 검증
-     * @param secretKey 매칭할 secretkey
+     * @param secretKey 매칭할 secretkey (OtpSecretKeyCache 가 decode 해 둔 HMAC key)
      * @param code 발급된 OTP code
      * @return 유효성 검증 결과(true/false)
      */
-    public boolean isCodeValid(String secretKey, int code) {
-        return gAuth.authorize(secretKey, code);
+    public boolean isCodeValid(SecretKeySpec secretKey, int code) {
+        return totpVerifier.verify(secretKey, code);
     }
 }
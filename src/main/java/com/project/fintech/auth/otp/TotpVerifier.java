@@ -0,0 +1,137 @@
+package com.project.fintech.auth.otp;
+
+import java.security.GeneralSecurityException;
+import javax.crypto.Mac;
+import javax.crypto.ShortBufferException;
+import javax.crypto.spec.SecretKeySpec;
+import org.apache.commons.codec.binary.Base32;
+import org.springframework.stereotype.Component;
+
+/**
+ * TOTP(RFC 6238) code 검증기. GoogleAuthenticator 기본 설정(HmacSHA1, 30초 주기, 6자리, 앞뒤 1주기 허용)과 같은 결과를 낸다.
+ * <p>
+ * HMAC 계산에 쓰는 Mac 과 buffer 는 thread 별로 재사용한다. decode 한 key 는 OtpSecretKeyCache 가 사용자별로 보관해 같은
+ * instance 를 넘겨주므로, 같은 thread 가 같은 key 를 다시 검증하면 Mac 을 다시 init 하지 않고 검증 중에는 할당도 하지 않는다.
+ */
+@Component
+public class TotpVerifier {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA1";
+    private static final long TIME_STEP_MILLIS = 30_000;
+    private static final int KEY_MODULUS = 1_000_000;
+    private static final int WINDOW = 1;
+    private final ThreadLocal<HmacState> hmacStates = ThreadLocal.withInitial(HmacState::new);
+
+    /**
+     * Base32 secret key 를 HMAC key 로 decode. 결과를 보관해 두고 verify 에 같은 instance 를 넘기면 Mac 을 다시 init 하지 않는다.
+     *
+     * @param secretKey Base32 secret key (대소문자 구분 없음)
+     * @return HMAC key
+     */
+    public static SecretKeySpec decodeKey(String secretKey) {
+        if (secretKey == null) {
+            throw new IllegalArgumentException("Secret cannot be null.");
+        }
+        return new SecretKeySpec(new Base32().decode(secretKey.toUpperCase()), HMAC_ALGORITHM);
+    }
+
+    /**
+     * 현재 시각 기준으로 OTP code 검증
+     *
+     * @param key  decodeKey 로 만든 HMAC key
+     * @param code 사용자가 입력한 OTP code
+     * @return 유효 여부
+     */
+    public boolean verify(SecretKeySpec key, int code) {
+        return verify(key, code, System.currentTimeMillis());
+    }
+
+    /**
+     * 주어진 시각 기준으로 OTP code 검증
+     *
+     * @param key        decodeKey 로 만든 HMAC key
+     * @param code       사용자가 입력한 OTP code
+     * @param timeMillis 기준 시각(epoch millis)
+     * @return 유효 여부
+     */
+    public boolean verify(SecretKeySpec key, int code, long timeMillis) {
+        if (key == null) {
+            throw new IllegalArgumentException("Secret cannot be null.");
+        }
+        if (code <= 0 || code >= KEY_MODULUS) {
+            return false;
+        }
+        HmacState hmacState = hmacStates.get();
+        long timeStep = timeMillis / TIME_STEP_MILLIS;
+        for (int offset = -WINDOW; offset <= WINDOW; offset++) {
+            if (hmacState.calculateCode(key, timeStep + offset) == code) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Base32 secret key 로 주어진 시각 기준 OTP code 검증. 호출마다 key 를 decode 하므로 반복 검증에는 SecretKeySpec 을 받는
+     * 메서드를 쓴다.
+     *
+     * @param secretKey  Base32 secret key
+     * @param code       사용자가 입력한 OTP code
+     * @param timeMillis 기준 시각(epoch millis)
+     * @return 유효 여부
+     */
+    public boolean verify(String secretKey, int code, long timeMillis) {
+        return verify(decodeKey(secretKey), code, timeMillis);
+    }
+
+    /**
+     * 현재 thread 에서 Mac 을 init 한 횟수 (test 용)
+     */
+    long macInitCount() {
+        return hmacStates.get().initCount;
+    }
+
+    /**
+     * thread 별 HMAC 계산 상태. 한 번의 검증에서 같은 key 로 여러 주기를 계산할 때는 Mac 을 다시 init 하지 않는다.
+     */
+    private static class HmacState {
+
+        private final Mac mac;
+        private final byte[] message = new byte[8];
+        private final byte[] hash;
+        private SecretKeySpec currentKey;
+        private long initCount;
+
+        HmacState() {
+            try {
+                this.mac = Mac.getInstance(HMAC_ALGORITHM);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+            this.hash = new byte[mac.getMacLength()];
+        }
+
+        int calculateCode(SecretKeySpec key, long timeStep) {
+            try {
+                if (key != currentKey) {
+                    mac.init(key);
+                    currentKey = key;
+                    initCount++;
+                }
+                for (int i = message.length - 1; i >= 0; i--) {
+                    message[i] = (byte) timeStep;
+                    timeStep >>>= 8;
+                }
+                mac.update(message);
+                mac.doFinal(hash, 0);
+            } catch (GeneralSecurityException | ShortBufferException e) {
+                currentKey = null;
+                throw new IllegalStateException(e);
+            }
+            int offset = hash[hash.length - 1] & 0xF;
+            int truncatedHash = ((hash[offset] & 0x7F) << 24) | ((hash[offset + 1] & 0xFF) << 16)
+                | ((hash[offset + 2] & 0xFF) << 8) | (hash[offset + 3] & 0xFF);
+            return truncatedHash % KEY_MODULUS;
+        }
+    }
+}
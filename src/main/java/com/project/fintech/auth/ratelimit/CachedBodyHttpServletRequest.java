@@ -0,0 +1,93 @@
+package com.project.fintech.auth.ratelimit;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * body 를 미리 읽어 두고 여러 번 읽을 수 있게 하는 request wrapper (filter 에서 body 를 확인한 뒤 다음 filter 로 넘기기 위함)
+ * <p>
+ * body 가 maxBodyBytes 보다 크면 잘린 body 를 넘기지 않도록 {@link #isBodyTooLarge()} 로 알린다.
+ */
+class CachedBodyHttpServletRequest extends HttpServletRequestWrapper {
+
+    private final byte[] body;
+    private final boolean bodyTooLarge;
+
+    CachedBodyHttpServletRequest(HttpServletRequest request, int maxBodyBytes)
+        throws IOException {
+        super(request);
+        if (request.getContentLengthLong() > maxBodyBytes) {
+            this.body = new byte[0];
+            this.bodyTooLarge = true;
+            return;
+        }
+        // Content-Length 가 없는 chunked 요청은 한 byte 더 읽어서 초과 여부를 확인
+        byte[] read = request.getInputStream().readNBytes(maxBodyBytes + 1);
+        this.bodyTooLarge = read.length > maxBodyBytes;
+        this.body = bodyTooLarge ? new byte[0] : read;
+    }
+
+    byte[] getBody() {
+        return body;
+    }
+
+    boolean isBodyTooLarge() {
+        return bodyTooLarge;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+        ByteArrayInputStream inputStream = new ByteArrayInputStream(body);
+        return new ServletInputStream() {
+            @Override
+            public boolean isFinished() {
+                return inputStream.available() == 0;
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setReadListener(ReadListener readListener) {
+                // body 를 모두 읽어 두었으므로 바로 읽을 수 있음을 알린다
+                try {
+                    if (!isFinished()) {
+                        readListener.onDataAvailable();
+                    }
+                    if (isFinished()) {
+                        readListener.onAllDataRead();
+                    }
+                } catch (IOException e) {
+                    readListener.onError(e);
+                }
+            }
+
+            @Override
+            public int read() {
+                return inputStream.read();
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) {
+                return inputStream.read(b, off, len);
+            }
+        };
+    }
+
+    @Override
+    public BufferedReader getReader() {
+        Charset charset = getCharacterEncoding() == null ? StandardCharsets.UTF_8
+            : Charset.forName(getCharacterEncoding());
+        return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+    }
+}
@@ -0,0 +1,66 @@
+package com.project.fintech.auth.ratelimit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.fintech.exception.CustomException;
+import com.project.fintech.exception.ErrorCode;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 로그인, OTP 검증, 회원가입 요청을 IP, email 별로 제한하는 filter
+ * <p>
+ * 인증 filter 보다 먼저 동작하므로 거절된 요청은 password hash 계산, DB 조회, 인증 메일 발송까지 가지 않는다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    // 로그인, OTP, 회원가입 요청 body 는 작으므로 그보다 큰 요청은 거절
+    private static final int MAX_BODY_BYTES = 16 * 1024;
+
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+        FilterChain filterChain) throws ServletException, IOException {
+        Optional<RateLimitRule> rule = RateLimitRule.find(request.getMethod(),
+            request.getRequestURI().substring(request.getContextPath().length()));
+        if (rule.isEmpty()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        CachedBodyHttpServletRequest cachedRequest = new CachedBodyHttpServletRequest(request,
+            MAX_BODY_BYTES);
+        if (cachedRequest.isBodyTooLarge()) {
+            response.setStatus(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE);
+            throw new CustomException(ErrorCode.REQUEST_BODY_TOO_LARGE);
+        }
+        // proxy 뒤에서는 server.forward-headers-strategy 설정으로 X-Forwarded-For 의 client IP 가 반영된다
+        String ip = request.getRemoteAddr();
+        if (!rateLimiter.tryAcquire(rule.get(), ip, extractEmail(cachedRequest.getBody()))) {
+            log.warn("요청 제한 초과. rule: {}, ip: {}", rule.get(), ip);
+            response.setStatus(HttpServletResponse.SC_TOO_MANY_REQUESTS);
+            throw new CustomException(ErrorCode.TOO_MANY_REQUESTS);
+        }
+        filterChain.doFilter(cachedRequest, response);
+    }
+
+    private String extractEmail(byte[] body) {
+        try {
+            JsonNode email = objectMapper.readTree(body).path("email");
+            return email.isTextual() ? email.asText() : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+}
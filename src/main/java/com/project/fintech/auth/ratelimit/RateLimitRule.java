@@ -0,0 +1,29 @@
+package com.project.fintech.auth.ratelimit;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 요청 제한 대상 API 와 IP, email 별 허용 요청 수
+ */
+@Getter
+@RequiredArgsConstructor
+public enum RateLimitRule {
+    LOGIN("POST", "/auth/login", 30, 10, Duration.ofMinutes(1)),
+    OTP_VERIFY("POST", "/auth/otp/verify", 30, 10, Duration.ofMinutes(1)),
+    REGISTER("POST", "/users", 10, 3, Duration.ofMinutes(10));
+
+    private final String method;
+    private final String path;
+    private final int limitPerIp;
+    private final int limitPerEmail;
+    private final Duration window;
+
+    public static Optional<RateLimitRule> find(String method, String path) {
+        return Arrays.stream(values())
+            .filter(rule -> rule.method.equals(method) && rule.path.equals(path)).findFirst();
+    }
+}
@@ -0,0 +1,30 @@
+package com.project.fintech.auth.ratelimit;
+
+/**
+ * 노드 내 token bucket. window 동안 capacity 만큼의 token 이 일정한 속도로 채워진다.
+ */
+class TokenBucket {
+
+    private final int capacity;
+    private final double refillPerNano;
+    private double tokens;
+    private long lastRefillNanos;
+
+    TokenBucket(int capacity, long windowNanos) {
+        this.capacity = capacity;
+        this.refillPerNano = (double) capacity / windowNanos;
+        this.tokens = capacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    synchronized boolean tryConsume() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * refillPerNano);
+        lastRefillNanos = now;
+        if (tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        return true;
+    }
+}
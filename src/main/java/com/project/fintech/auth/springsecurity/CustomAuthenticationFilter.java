@@ -3,11 +3,13 @@ package com.project.fintech.auth.springsecurity;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.project.fintech.model.dto.ResponseDto;
 import com.project.fintech.application.AuthApplication;
+import com.project.fintech.auth.AuthPrincipal;
 import com.project.fintech.exception.CustomException;
 import com.project.fintech.exception.ErrorCode;
 import com.project.fintech.model.dto.LoginRequestDto;
 import com.project.fintech.model.dto.TokenPairDto;
 import com.project.fintech.model.type.Message;
+import com.project.fintech.persistence.entity.User;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -50,7 +52,8 @@ public class CustomAuthenticationFilter extends UsernamePasswordAuthenticationFi
         throws IOException, ServletException {
 
         response.setContentType("application/json;charset=UTF-8");
-        TokenPairDto tokenPairDto = authApplication.issueTokenPair(authResult.getName());
+        TokenPairDto tokenPairDto = authApplication.issueTokenPair(
+            AuthPrincipal.from((User) authResult.getPrincipal()));
         ResponseDto<TokenPairDto> responseDto = ResponseDto.<TokenPairDto>builder()
             .code(HttpServletResponse.SC_OK).data(tokenPairDto)
             .message(Message.COMPLETE_ISSUE_TOKEN).build();
@@ -7,6 +7,7 @@ import com.project.fintech.exception.ErrorCode;
 import com.project.fintech.model.dto.LogoutRequestDto;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
 import java.io.IOException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
@@ -24,7 +25,11 @@ public class CustomLogoutHandler implements LogoutHandler {
             LogoutRequestDto logoutRequestDto = objectMapper.readValue(request.getInputStream(),
                 LogoutRequestDto.class);
             authApplication.processTokenWhenLogout(logoutRequestDto);
-            request.getSession().invalidate();
+            // session 이 없는 요청에서 새 session 을 만들지 않는다
+            HttpSession session = request.getSession(false);
+            if (session != null) {
+                session.invalidate();
+            }
         } catch (IOException e) {
             throw new CustomException(ErrorCode.IO_OPERATION_FAILED);
         }
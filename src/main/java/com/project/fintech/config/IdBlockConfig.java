@@ -0,0 +1,53 @@
+package com.project.fintech.config;
+
+import com.project.fintech.persistence.id.BlockIdGenerator;
+import com.project.fintech.persistence.id.IdBlockSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+@Configuration
+public class IdBlockConfig {
+
+    /**
+     * id 구간 예약 전용 connection pool
+     * <p>
+     * main pool 과 같은 spring.datasource.* 접속 설정과 spring.datasource.hikari.* (driver 속성, dataSourceClassName
+     * 등)를 그대로 쓰고 pool 크기만 따로 둔다. DataSource 타입 bean 을 하나 더 만들면 main DataSource 자동 설정이 꺼지므로
+     * pool 은 IdBlockSource 가 가지고 context 가 닫힐 때 같이 닫는다.
+     *
+     * @param dataSourceProperties main DataSource 의 접속 설정
+     * @param environment          spring.datasource.hikari.* 를 읽을 환경
+     * @param poolSize             전용 pool 의 최대 connection 수
+     * @return id 구간 예약
+     */
+    @Bean(destroyMethod = "close")
+    public IdBlockSource idBlockSource(DataSourceProperties dataSourceProperties,
+        Environment environment, @Value("${id-block.pool-size:4}") int poolSize) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+        dataSource.setPoolName("id-block-pool");
+        dataSource.setMaximumPoolSize(poolSize);
+        dataSource.setMinimumIdle(0);
+        dataSource.setAutoCommit(false);
+        return new IdBlockSource(dataSource);
+    }
+
+    /**
+     * Hibernate 가 만드는 BlockIdGenerator 에 IdBlockSource bean 을 넘김
+     *
+     * @param idBlockSource
+     * @return Hibernate 설정 customizer
+     */
+    @Bean
+    public HibernatePropertiesCustomizer idBlockSourceCustomizer(IdBlockSource idBlockSource) {
+        return properties -> properties.put(BlockIdGenerator.ID_BLOCK_SOURCE, idBlockSource);
+    }
+}
@@ -20,6 +20,10 @@ public enum ErrorCode {
         HttpStatus.BAD_REQUEST),
     LOGIN_REQUEST_FAIL("인증에 실패하였습니다.", "AUTH-011", HttpStatus.BAD_REQUEST),
     OTP_ATTEMPT_EXCEEDED("해당 OTP 코드에 대한 인증 횟수가 초과 되었습니다.", "AUTH-012", HttpStatus.BAD_REQUEST),
+    PASSWORD_HASHING_OVERLOADED("로그인 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", "AUTH-013",
+        HttpStatus.SERVICE_UNAVAILABLE),
+    TOO_MANY_REQUESTS("요청이 너무 많습니다. 잠시 후 다시 시도해주세요.", "AUTH-014", HttpStatus.TOO_MANY_REQUESTS),
+    REQUEST_BODY_TOO_LARGE("요청 body 가 너무 큽니다.", "AUTH-015", HttpStatus.PAYLOAD_TOO_LARGE),
 
     IO_OPERATION_FAILED("입출력 작업 중 오류가 발생했습니다.", "IO-001", HttpStatus.BAD_REQUEST),
 
@@ -28,7 +32,12 @@ public enum ErrorCode {
     ACCOUNT_CREATION_LIMIT_EXCEEDED("최대 계설 가능 개수를 초과하였습니다", "ACCOUNT-002", HttpStatus.BAD_REQUEST),
     ACCOUNT_USER_MISMATCH(
         "계좌번호와 사용자의 정보가 일치하지 않습니다.", "ACCUONT-003", HttpStatus.BAD_REQUEST),
-    ACCOUNT_BALANCE_NOT_ZERO("게좌의 잔액이 남아있습니다.", "ACCOUNT-004", HttpStatus.BAD_REQUEST);
+    ACCOUNT_BALANCE_NOT_ZERO("게좌의 잔액이 남아있습니다.", "ACCOUNT-004", HttpStatus.BAD_REQUEST),
+    ACCOUNT_NUMBER_EXHAUSTED("발급 가능한 계좌번호가 없습니다.", "ACCOUNT-005", HttpStatus.INTERNAL_SERVER_ERROR),
+    INSUFFICIENT_BALANCE("계좌의 잔액이 부족합니다.", "ACCOUNT-006", HttpStatus.BAD_REQUEST),
+    RECIPIENT_ACCOUNT_NOT_FOUND("받는 계좌를 찾을 수 없습니다.", "ACCOUNT-007", HttpStatus.BAD_REQUEST),
+    TRANSFER_TO_SAME_ACCOUNT("같은 계좌로 송금할 수 없습니다.", "ACCOUNT-008", HttpStatus.BAD_REQUEST),
+    INVALID_TRANSACTION_PERIOD("조회 시작일이 종료일보다 늦습니다.", "ACCOUNT-009", HttpStatus.BAD_REQUEST);
 
     private final String detail;
     private final String code;
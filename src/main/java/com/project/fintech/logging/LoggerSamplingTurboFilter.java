@@ -0,0 +1,53 @@
+package com.project.fintech.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Setter;
+import org.slf4j.Marker;
+
+/**
+ * 요청마다 log 를 남기는 hot path logger 의 log 를 sampleRate 건 중 1건만 남기는 filter
+ * <p>
+ * log event 를 만들기 전에 판단하므로 버린 log 는 message formatting, queue 적재 비용도 들지 않는다. maxLevel 보다 높은
+ * level(기본: WARN 이상)은 sampling 하지 않는다. logger 이름이 prefix 로 시작하는 logger 에 적용된다.
+ */
+public class LoggerSamplingTurboFilter extends TurboFilter {
+
+    @Setter
+    private String logger;
+    @Setter
+    private int sampleRate = 1;
+    private Level maxLevel = Level.INFO;
+    private final AtomicLong counter = new AtomicLong();
+
+    public void setMaxLevel(String maxLevel) {
+        this.maxLevel = Level.toLevel(maxLevel, Level.INFO);
+    }
+
+    @Override
+    public void start() {
+        if (logger == null || sampleRate < 1) {
+            addError("logger 와 1 이상의 sampleRate 를 설정해야 합니다. filter: " + getName());
+            return;
+        }
+        super.start();
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format,
+        Object[] params, Throwable t) {
+        if (!isStarted() || sampleRate == 1 || level.toInt() > maxLevel.toInt()
+            || !logger.getName().startsWith(this.logger)) {
+            return FilterReply.NEUTRAL;
+        }
+        // 어차피 기록되지 않을 level 은 sampling 횟수에 넣지 않는다
+        if (!level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+        return counter.getAndIncrement() % sampleRate == 0 ? FilterReply.NEUTRAL
+            : FilterReply.DENY;
+    }
+}
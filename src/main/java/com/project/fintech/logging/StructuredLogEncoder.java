@@ -0,0 +1,117 @@
+package com.project.fintech.logging;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.ThrowableProxyUtil;
+import ch.qos.logback.core.encoder.EncoderBase;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.Map;
+import java.util.regex.Pattern;
+import org.slf4j.event.KeyValuePair;
+
+/**
+ * log event 를 한 줄의 JSON 으로 기록하는 encoder
+ * <p>
+ * 이름에 token, secret, password 등이 들어간 key-value/MDC field 는 값을 가리고, message 와 stack trace 에 섞여 들어간 JWT,
+ * OTP provisioning URL, {@code token=...} 형태의 값도 가린다. AsyncAppender 의 worker thread 에서 호출되므로 요청 thread 의
+ * 비용이 아니다.
+ */
+public class StructuredLogEncoder extends EncoderBase<ILoggingEvent> {
+
+    static final String REDACTED = "[REDACTED]";
+    private static final byte[] LINE_SEPARATOR = System.lineSeparator().getBytes();
+    private static final Pattern SENSITIVE_FIELD = Pattern.compile(
+        "(?i).*(token|secret|password|authorization|otp_?code|credential).*");
+    private static final Pattern JWT = Pattern.compile(
+        "eyJ[A-Za-z0-9_-]+\\.[A-Za-z0-9_-]+\\.[A-Za-z0-9_-]*");
+    private static final Pattern OTP_PROVISIONING_URL = Pattern.compile("otpauth://\\S+");
+    private static final Pattern SENSITIVE_ASSIGNMENT = Pattern.compile(
+        "(?i)((?:token|secret|password|authorization)\\w*\\s*[=:]\\s*)[^\\s,}]+");
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    @Override
+    public byte[] headerBytes() {
+        return null;
+    }
+
+    @Override
+    public byte[] encode(ILoggingEvent event) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+        try (JsonGenerator json = jsonFactory.createGenerator(out)) {
+            json.writeStartObject();
+            json.writeStringField("timestamp",
+                Instant.ofEpochMilli(event.getTimeStamp()).toString());
+            json.writeStringField("level", event.getLevel().toString());
+            json.writeStringField("thread", event.getThreadName());
+            json.writeStringField("logger", event.getLoggerName());
+            json.writeStringField("message", redact(event.getFormattedMessage()));
+            writeFields(json, event);
+            writeThrowable(json, event.getThrowableProxy());
+            json.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        out.writeBytes(LINE_SEPARATOR);
+        return out.toByteArray();
+    }
+
+    @Override
+    public byte[] footerBytes() {
+        return null;
+    }
+
+    /**
+     * message 에 섞여 들어간 token, secret 값을 가림
+     *
+     * @param message formatting 된 log message
+     * @return 민감 정보를 가린 message
+     */
+    static String redact(String message) {
+        if (message == null || message.isEmpty()) {
+            return message;
+        }
+        String redacted = JWT.matcher(message).replaceAll(REDACTED);
+        redacted = OTP_PROVISIONING_URL.matcher(redacted).replaceAll(REDACTED);
+        return SENSITIVE_ASSIGNMENT.matcher(redacted).replaceAll("$1" + REDACTED);
+    }
+
+    private void writeFields(JsonGenerator json, ILoggingEvent event) throws IOException {
+        Map<String, String> mdc = event.getMDCPropertyMap();
+        if (mdc != null) {
+            for (Map.Entry<String, String> entry : mdc.entrySet()) {
+                writeField(json, entry.getKey(), entry.getValue());
+            }
+        }
+        if (event.getKeyValuePairs() != null) {
+            for (KeyValuePair keyValuePair : event.getKeyValuePairs()) {
+                writeField(json, keyValuePair.key, keyValuePair.value);
+            }
+        }
+    }
+
+    private void writeField(JsonGenerator json, String key, Object value) throws IOException {
+        if (SENSITIVE_FIELD.matcher(key).matches()) {
+            json.writeStringField(key, REDACTED);
+        } else if (value instanceof Number || value instanceof Boolean) {
+            json.writeFieldName(key);
+            json.writeObject(value);
+        } else {
+            json.writeStringField(key, value == null ? null : redact(value.toString()));
+        }
+    }
+
+    private void writeThrowable(JsonGenerator json, IThrowableProxy throwableProxy)
+        throws IOException {
+        if (throwableProxy == null) {
+            return;
+        }
+        json.writeStringField("exception", throwableProxy.getClassName());
+        json.writeStringField("stackTrace", redact(ThrowableProxyUtil.asString(throwableProxy)));
+    }
+}
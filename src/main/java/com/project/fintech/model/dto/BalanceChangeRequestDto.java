@@ -0,0 +1,29 @@
+package com.project.fintech.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(name = "BalanceChangeRequestDto", description = "입금, 출금 요청 DTO")
+public class BalanceChangeRequestDto {
+
+    @Schema(example = "10000")
+    @NotNull(message = "금액 입력은 필수 입니다.")
+    @Positive(message = "금액은 0보다 커야 합니다.")
+    @Max(value = 1_000_000_000L, message = "한 번에 10억원을 넘을 수 없습니다.")
+    private Long amount;
+
+    @Schema(example = "월급")
+    @Size(max = 100, message = "메모는 100자 이하입니다.")
+    private String memo;
+}
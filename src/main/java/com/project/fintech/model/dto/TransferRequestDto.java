@@ -0,0 +1,34 @@
+package com.project.fintech.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(name = "TransferRequestDto", description = "송금 요청 DTO")
+public class TransferRequestDto {
+
+    @Schema(example = "177123456785")
+    @NotBlank(message = "받는 계좌번호 입력은 필수 입니다.")
+    private String recipientAccountNumber;
+
+    @Schema(example = "10000")
+    @NotNull(message = "금액 입력은 필수 입니다.")
+    @Positive(message = "금액은 0보다 커야 합니다.")
+    @Max(value = 1_000_000_000L, message = "한 번에 10억원을 넘을 수 없습니다.")
+    private Long amount;
+
+    @Schema(example = "저녁값")
+    @Size(max = 100, message = "메모는 100자 이하입니다.")
+    private String memo;
+}
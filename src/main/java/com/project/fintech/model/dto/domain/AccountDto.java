@@ -1,8 +1,15 @@
 package com.project.fintech.model.dto.domain;
 
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
+/**
+ * 계좌 조회 결과. 조회 query 에서 constructor projection 으로 바로 만든다 (AccountRepository 참고)
+ */
 @Data
+@NoArgsConstructor
+@AllArgsConstructor
 public class AccountDto {
     private Long id;
     private String userEmail;
@@ -10,4 +10,13 @@ import org.springframework.stereotype.Component;
 public interface AccountMapper {
     @Mapping(source="user.email", target = "userEmail")
     AccountDto toAccountDto(Account account);
-}
\ No newline at end of file
+
+    /**
+     * 사용자 email 을 인증 정보에서 받아 Account 의 user 를 읽지 않고 변환
+     */
+    @Mapping(source = "account.id", target = "id")
+    @Mapping(source = "account.accountNumber", target = "accountNumber")
+    @Mapping(source = "account.balance", target = "balance")
+    @Mapping(source = "userEmail", target = "userEmail")
+    AccountDto toAccountDto(Account account, String userEmail);
+}
@@ -0,0 +1,23 @@
+package com.project.fintech.model.dto.domain;
+
+import com.project.fintech.model.type.TransactionType;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 거래 내역 조회 결과. transactions, archived_transactions, cold storage 의 id 는 서로 다른 번호이므로 내보내지 않는다
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionDto {
+    private Long amount;
+    private Long recipientAccountId;
+    private String memo;
+    private TransactionType transactionType;
+    private LocalDate transactionDate;
+    private LocalTime transactionTime;
+}
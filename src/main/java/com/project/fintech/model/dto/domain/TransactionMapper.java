@@ -1,5 +1,6 @@
 package com.project.fintech.model.dto.domain;
 
+import com.project.fintech.persistence.coldstorage.ColdTransaction;
 import com.project.fintech.persistence.entity.ArchivedTransaction;
 import com.project.fintech.persistence.entity.Transaction;
 import org.mapstruct.Mapper;
@@ -11,4 +12,6 @@ import org.springframework.stereotype.Component;
 public interface TransactionMapper {
     @Mapping(target = "id", ignore = true)
     ArchivedTransaction toArchivedTransactions(Transaction transaction);
+
+    TransactionDto toTransactionDto(ColdTransaction coldTransaction);
 }
@@ -0,0 +1,10 @@
+package com.project.fintech.model.type;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ArchiveTaskStatus {
+    PENDING, DONE, COMPACTED
+}
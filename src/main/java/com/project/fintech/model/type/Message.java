@@ -17,7 +17,11 @@ public enum Message {
     COMPLETE_ISSUE_SECRETKEY("secret key 발급 완료"),
     COMPLETE_CREAT_ACCOUNT("계좌 계설 완료"),
     COMPLETE_DELETE_ACCOUNT("계좌 삭제 완료"),
-    COMPLETE_RETRIEVE_ACCOUNT("사용자 계좌 조회 완료");
+    COMPLETE_RETRIEVE_ACCOUNT("사용자 계좌 조회 완료"),
+    COMPLETE_DEPOSIT("입금 완료"),
+    COMPLETE_WITHDRAW("출금 완료"),
+    COMPLETE_TRANSFER("송금 완료"),
+    COMPLETE_RETRIEVE_TRANSACTION("거래 내역 조회 완료");
     @JsonValue
     private final String message;
 
@@ -0,0 +1,31 @@
+package com.project.fintech.model.type;
+
+import com.project.fintech.exception.ErrorCode;
+import java.util.Arrays;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Refresh Token 교체 script 의 결과
+ */
+@Getter
+@RequiredArgsConstructor
+public enum RefreshTokenRotation {
+    ROTATED(1L, null),
+    NOT_FOUND(0L, ErrorCode.TOKEN_NOT_FOUND),
+    USER_MISMATCH(-1L, ErrorCode.REFRESH_TOKEN_USER_MISMATCH);
+
+    private final long scriptResult;
+    private final ErrorCode errorCode;
+
+    public static RefreshTokenRotation fromScriptResult(Long scriptResult) {
+        return Arrays.stream(values())
+            .filter(rotation -> scriptResult != null && rotation.scriptResult == scriptResult)
+            .findFirst().orElseThrow(() -> new IllegalStateException(
+                "unexpected refresh token rotation result: " + scriptResult));
+    }
+
+    public boolean isRotated() {
+        return this == ROTATED;
+    }
+}
@@ -0,0 +1,70 @@
+package com.project.fintech.persistence.coldstorage;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * cold storage segment 파일 형식 (계좌 하나의 한 달치 archive 거래 내역, 불변)
+ * <pre>
+ * header  : magic(int) version(byte) accountId(long) yearMonth(int, yyyyMM) rowCount(int)
+ * index   : dayRowStart(int x 32) - 그 날(1~31)의 첫 row 번호, 마지막은 rowCount
+ * columns : (offset(int), length(int)) x COLUMN_COUNT, 이어서 column 별 byte
+ * </pre>
+ * row 는 (거래일, 거래시각, id) 순으로 정렬되어 있고, 날짜는 index 로 알 수 있으므로 따로 저장하지 않는다. column 은 각각
+ * <ul>
+ *     <li>ID, TIME: 이전 row 와의 차이를 zigzag varint 로</li>
+ *     <li>AMOUNT: zigzag varint</li>
+ *     <li>RECIPIENT: null 이면 0, 아니면 zigzag + 1 을 varint 로</li>
+ *     <li>TYPE: TransactionType ordinal 1 byte (enum 순서를 바꾸면 기존 segment 를 읽을 수 없다)</li>
+ *     <li>MEMO: (null 이면 0, 아니면 길이 + 1 varint, UTF-8 byte) 를 이어 붙여 Deflate 로 압축</li>
+ * </ul>
+ */
+final class ColdSegmentFormat {
+
+    static final int MAGIC = 0x46544353; // "FTCS"
+    static final byte VERSION = 1;
+    static final int DAYS_IN_INDEX = 31;
+
+    static final int ID = 0;
+    static final int AMOUNT = 1;
+    static final int RECIPIENT = 2;
+    static final int TYPE = 3;
+    static final int TIME = 4;
+    static final int MEMO = 5;
+    static final int COLUMN_COUNT = 6;
+
+    static final int HEADER_SIZE = Integer.BYTES + Byte.BYTES + Long.BYTES + Integer.BYTES
+        + Integer.BYTES + Integer.BYTES * (DAYS_IN_INDEX + 1)
+        + Integer.BYTES * 2 * COLUMN_COUNT;
+
+    private ColdSegmentFormat() {
+    }
+
+    static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    static long readVarLong(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalStateException("segment 의 varint 가 올바르지 않습니다.");
+    }
+}
@@ -0,0 +1,186 @@
+package com.project.fintech.persistence.coldstorage;
+
+import static com.project.fintech.persistence.coldstorage.ColdSegmentFormat.AMOUNT;
+import static com.project.fintech.persistence.coldstorage.ColdSegmentFormat.COLUMN_COUNT;
+import static com.project.fintech.persistence.coldstorage.ColdSegmentFormat.DAYS_IN_INDEX;
+import static com.project.fintech.persistence.coldstorage.ColdSegmentFormat.ID;
+import static com.project.fintech.persistence.coldstorage.ColdSegmentFormat.MEMO;
+import static com.project.fintech.persistence.coldstorage.ColdSegmentFormat.RECIPIENT;
+import static com.project.fintech.persistence.coldstorage.ColdSegmentFormat.TIME;
+import static com.project.fintech.persistence.coldstorage.ColdSegmentFormat.TYPE;
+import static com.project.fintech.persistence.coldstorage.ColdSegmentFormat.readVarLong;
+import static com.project.fintech.persistence.coldstorage.ColdSegmentFormat.unzigzag;
+
+import com.project.fintech.model.type.TransactionType;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import lombok.Getter;
+
+/**
+ * segment 파일을 memory-mapped I/O 로 읽는 reader (형식은 {@link ColdSegmentFormat})
+ * <p>
+ * 파일 전체를 heap 으로 읽지 않고 page cache 를 그대로 사용한다. 날짜 index 로 조회 범위의 row 만 만들고, 조회 범위 뒤의 row 는
+ * decode 하지 않는다. memo column 은 조회 범위에 row 가 있을 때만 압축을 푼다.
+ */
+public final class ColdSegmentReader {
+
+    private static final TransactionType[] TRANSACTION_TYPES = TransactionType.values();
+
+    private final MappedByteBuffer buffer;
+    @Getter
+    private final long accountId;
+    @Getter
+    private final YearMonth month;
+    @Getter
+    private final int rowCount;
+    private final int[] dayRowStart = new int[DAYS_IN_INDEX + 1];
+    private final int[] columnOffset = new int[COLUMN_COUNT];
+    private final int[] columnLength = new int[COLUMN_COUNT];
+
+    private ColdSegmentReader(MappedByteBuffer buffer) {
+        this.buffer = buffer;
+        if (buffer.getInt(0) != ColdSegmentFormat.MAGIC
+            || buffer.get(Integer.BYTES) != ColdSegmentFormat.VERSION) {
+            throw new IllegalStateException("cold storage segment 파일이 아닙니다.");
+        }
+        ByteBuffer header = buffer.duplicate().position(Integer.BYTES + Byte.BYTES);
+        this.accountId = header.getLong();
+        int yearMonth = header.getInt();
+        this.month = YearMonth.of(yearMonth / 100, yearMonth % 100);
+        this.rowCount = header.getInt();
+        for (int day = 0; day <= DAYS_IN_INDEX; day++) {
+            dayRowStart[day] = header.getInt();
+        }
+        for (int column = 0; column < COLUMN_COUNT; column++) {
+            columnOffset[column] = header.getInt();
+            columnLength[column] = header.getInt();
+        }
+    }
+
+    /**
+     * segment 파일 열기. mapping 후 파일은 바로 닫으며 mapping 은 reader 가 GC 될 때까지 유효하다.
+     *
+     * @param path segment 파일 경로
+     * @return reader
+     */
+    public static ColdSegmentReader open(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return new ColdSegmentReader(channel.map(FileChannel.MapMode.READ_ONLY, 0,
+                channel.size()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 거래일이 from ~ to(포함) 인 거래 내역을 (거래일, 거래시각, id) 순으로 조회
+     *
+     * @param from 시작일
+     * @param to   종료일
+     * @return 거래 내역
+     */
+    public List<ColdTransaction> read(LocalDate from, LocalDate to) {
+        LocalDate first = month.atDay(1);
+        LocalDate last = month.atEndOfMonth();
+        if (to.isBefore(first) || from.isAfter(last)) {
+            return List.of();
+        }
+        int startRow = dayRowStart[(from.isBefore(first) ? first : from).getDayOfMonth() - 1];
+        int endRow = dayRowStart[(to.isAfter(last) ? last : to).getDayOfMonth()];
+        if (startRow >= endRow) {
+            return List.of();
+        }
+
+        ByteBuffer ids = column(ID);
+        ByteBuffer amounts = column(AMOUNT);
+        ByteBuffer recipients = column(RECIPIENT);
+        ByteBuffer types = column(TYPE);
+        ByteBuffer times = column(TIME);
+        ByteBuffer memos = inflate(column(MEMO));
+
+        List<ColdTransaction> result = new ArrayList<>(endRow - startRow);
+        long id = 0;
+        long time = 0;
+        int day = 1;
+        for (int row = 0; row < endRow; row++) {
+            while (dayRowStart[day] <= row) {
+                day++;
+            }
+            id += unzigzag(readVarLong(ids));
+            time += unzigzag(readVarLong(times));
+            if (row < startRow) {
+                // 앞쪽 row 는 delta 누적을 위해 id, time 만 decode 하고 나머지 column 은 건너뛴다
+                readVarLong(amounts);
+                readVarLong(recipients);
+                skipMemo(memos);
+                continue;
+            }
+            long amount = unzigzag(readVarLong(amounts));
+            long recipient = readVarLong(recipients);
+            TransactionType type = TRANSACTION_TYPES[types.get(row)];
+            result.add(new ColdTransaction(id, accountId, amount,
+                recipient == 0 ? null : unzigzag(recipient - 1), readMemo(memos), type,
+                month.atDay(day), LocalTime.ofNanoOfDay(time)));
+        }
+        return result;
+    }
+
+    private ByteBuffer column(int column) {
+        return buffer.slice(columnOffset[column], columnLength[column]);
+    }
+
+    private static ByteBuffer inflate(ByteBuffer compressed) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            byte[] out = new byte[Math.max(64, compressed.remaining() * 4)];
+            int length = 0;
+            while (!inflater.finished()) {
+                if (length == out.length) {
+                    out = Arrays.copyOf(out, out.length * 2);
+                }
+                int inflated = inflater.inflate(out, length, out.length - length);
+                if (inflated == 0 && inflater.needsInput()) {
+                    throw new IllegalStateException("segment 의 memo column 이 잘렸습니다.");
+                }
+                length += inflated;
+            }
+            return ByteBuffer.wrap(out, 0, length);
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("segment 의 memo column 을 읽을 수 없습니다.", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static void skipMemo(ByteBuffer memos) {
+        long length = readVarLong(memos);
+        if (length > 0) {
+            memos.position(memos.position() + (int) (length - 1));
+        }
+    }
+
+    private static String readMemo(ByteBuffer memos) {
+        long length = readVarLong(memos);
+        if (length == 0) {
+            return null;
+        }
+        byte[] bytes = new byte[(int) (length - 1)];
+        memos.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,159 @@
+package com.project.fintech.persistence.coldstorage;
+
+import static com.project.fintech.persistence.coldstorage.ColdSegmentFormat.AMOUNT;
+import static com.project.fintech.persistence.coldstorage.ColdSegmentFormat.COLUMN_COUNT;
+import static com.project.fintech.persistence.coldstorage.ColdSegmentFormat.DAYS_IN_INDEX;
+import static com.project.fintech.persistence.coldstorage.ColdSegmentFormat.HEADER_SIZE;
+import static com.project.fintech.persistence.coldstorage.ColdSegmentFormat.ID;
+import static com.project.fintech.persistence.coldstorage.ColdSegmentFormat.MEMO;
+import static com.project.fintech.persistence.coldstorage.ColdSegmentFormat.RECIPIENT;
+import static com.project.fintech.persistence.coldstorage.ColdSegmentFormat.TIME;
+import static com.project.fintech.persistence.coldstorage.ColdSegmentFormat.TYPE;
+import static com.project.fintech.persistence.coldstorage.ColdSegmentFormat.writeVarLong;
+import static com.project.fintech.persistence.coldstorage.ColdSegmentFormat.zigzag;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.YearMonth;
+import java.util.Comparator;
+import java.util.List;
+import java.util.zip.Deflater;
+
+/**
+ * 한 계좌의 한 달치 archive 거래 내역을 segment 파일로 기록 (형식은 {@link ColdSegmentFormat})
+ * <p>
+ * 같은 directory 의 임시 파일에 모두 쓴 뒤 이름을 바꾸므로, reader 는 완성된 segment 만 본다. 같은 row 로 다시 쓰면 같은 파일이
+ * 만들어지므로 compaction 을 다시 실행해도 안전하다.
+ */
+public final class ColdSegmentWriter {
+
+    private static final Comparator<ColdTransaction> ROW_ORDER = Comparator.comparing(
+            ColdTransaction::transactionDate).thenComparing(ColdTransaction::transactionTime)
+        .thenComparing(ColdTransaction::id);
+
+    private ColdSegmentWriter() {
+    }
+
+    /**
+     * segment 파일 기록
+     *
+     * @param path      segment 파일 경로
+     * @param accountId 계좌 id
+     * @param month     거래 월
+     * @param rows      기록할 거래 내역 (모두 accountId, month 에 속해야 한다)
+     */
+    public static void write(Path path, long accountId, YearMonth month,
+        List<ColdTransaction> rows) {
+        List<ColdTransaction> sorted = rows.stream().sorted(ROW_ORDER).toList();
+        int[] dayRowStart = new int[DAYS_IN_INDEX + 1];
+        ByteArrayOutputStream[] columns = new ByteArrayOutputStream[COLUMN_COUNT];
+        for (int i = 0; i < COLUMN_COUNT; i++) {
+            columns[i] = new ByteArrayOutputStream();
+        }
+
+        long previousId = 0;
+        long previousTime = 0;
+        int day = 1;
+        for (int row = 0; row < sorted.size(); row++) {
+            ColdTransaction transaction = sorted.get(row);
+            if (transaction.accountId() != accountId || !YearMonth.from(
+                transaction.transactionDate()).equals(month)) {
+                throw new IllegalArgumentException(
+                    "segment 의 계좌, 월과 다른 거래 내역입니다. id: " + transaction.id());
+            }
+            int rowDay = transaction.transactionDate().getDayOfMonth();
+            while (day < rowDay) {
+                dayRowStart[day++] = row;
+            }
+            long time = transaction.transactionTime().toNanoOfDay();
+            writeVarLong(columns[ID], zigzag(transaction.id() - previousId));
+            writeVarLong(columns[AMOUNT], zigzag(transaction.amount()));
+            writeVarLong(columns[RECIPIENT], transaction.recipientAccountId() == null ? 0
+                : zigzag(transaction.recipientAccountId()) + 1);
+            columns[TYPE].write(transaction.transactionType().ordinal());
+            writeVarLong(columns[TIME], zigzag(time - previousTime));
+            writeMemo(columns[MEMO], transaction.memo());
+            previousId = transaction.id();
+            previousTime = time;
+        }
+        while (day <= DAYS_IN_INDEX) {
+            dayRowStart[day++] = sorted.size();
+        }
+
+        byte[][] columnBytes = new byte[COLUMN_COUNT][];
+        int size = HEADER_SIZE;
+        for (int i = 0; i < COLUMN_COUNT; i++) {
+            columnBytes[i] = i == MEMO ? deflate(columns[i].toByteArray()) : columns[i].toByteArray();
+            size += columnBytes[i].length;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putInt(ColdSegmentFormat.MAGIC).put(ColdSegmentFormat.VERSION).putLong(accountId)
+            .putInt(month.getYear() * 100 + month.getMonthValue()).putInt(sorted.size());
+        for (int start : dayRowStart) {
+            buffer.putInt(start);
+        }
+        int offset = HEADER_SIZE;
+        for (byte[] column : columnBytes) {
+            buffer.putInt(offset).putInt(column.length);
+            offset += column.length;
+        }
+        for (byte[] column : columnBytes) {
+            buffer.put(column);
+        }
+        buffer.flip();
+        writeAtomically(path, buffer);
+    }
+
+    private static void writeMemo(ByteArrayOutputStream out, String memo) {
+        if (memo == null) {
+            writeVarLong(out, 0);
+            return;
+        }
+        byte[] bytes = memo.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, bytes.length + 1L);
+        out.writeBytes(bytes);
+    }
+
+    private static byte[] deflate(byte[] bytes) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setInput(bytes);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 2 + 16);
+            byte[] chunk = new byte[4096];
+            while (!deflater.finished()) {
+                out.write(chunk, 0, deflater.deflate(chunk));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static void writeAtomically(Path path, ByteBuffer buffer) {
+        try {
+            Files.createDirectories(path.getParent());
+            Path temp = Files.createTempFile(path.getParent(), path.getFileName().toString(),
+                ".tmp");
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+            Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE,
+                StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.project.fintech.persistence.coldstorage;
+
+import com.project.fintech.exception.CustomException;
+import com.project.fintech.exception.ErrorCode;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * archive 거래 내역의 cold tier. 계좌별, 월별 segment 파일을 {directory}/{accountId}/{yyyy-MM}.seg 에 둔다.
+ * segment 는 column 별로 나누어 숫자 column 은 delta/varint 로 encode 하고, Deflate 압축은 memo column 에만 한다
+ * ({@link ColdSegmentFormat}). 거래 내역 조회(TransactionHistoryService)는 DB 의 거래 내역과 segment 를 합쳐서 반환한다.
+ * <p>
+ * segment 로 옮긴 거래 내역은 DB 에서 지우므로 directory 는 모든 노드가 함께 mount 하는 durable storage 의 절대 경로여야 한다.
+ * 설정하지 않았거나 상대 경로이거나 쓸 수 없으면 기동에 실패한다.
+ */
+@Slf4j
+@Component
+public class ColdStorage {
+
+    private static final String SEGMENT_EXTENSION = ".seg";
+
+    private final Path directory;
+
+    public ColdStorage(@Value("${account.archive.cold-storage.directory}") String directory) {
+        this.directory = requireSharedDirectory(directory);
+    }
+
+    private static Path requireSharedDirectory(String directory) {
+        if (directory == null || directory.isBlank()) {
+            throw new IllegalStateException(
+                "account.archive.cold-storage.directory(COLD_STORAGE_DIRECTORY) 를 설정해야 합니다.");
+        }
+        Path path = Path.of(directory);
+        if (!path.isAbsolute()) {
+            throw new IllegalStateException(
+                "cold storage directory 는 모든 노드가 공유하는 storage 의 절대 경로여야 합니다. directory: "
+                    + directory);
+        }
+        try {
+            Files.createDirectories(path);
+        } catch (IOException e) {
+            throw new IllegalStateException("cold storage directory 를 만들 수 없습니다. directory: "
+                + directory, e);
+        }
+        if (!Files.isWritable(path)) {
+            throw new IllegalStateException("cold storage directory 에 쓸 수 없습니다. directory: "
+                + directory);
+        }
+        return path;
+    }
+
+    /**
+     * 계좌의 한 달치 거래 내역을 segment 로 기록 (이미 있으면 교체). 기록한 segment 를 다시 읽어 rows 가 모두 그대로 들어 있는지
+     * 확인한 뒤에 반환하므로, 반환된 뒤에는 DB 의 row 를 지워도 된다.
+     *
+     * @param accountId
+     * @param month
+     * @param rows      해당 월의 거래 내역 전부
+     */
+    public void write(Long accountId, YearMonth month, List<ColdTransaction> rows) {
+        Path path = segmentPath(accountId, month);
+        try {
+            ColdSegmentWriter.write(path, accountId, month, rows);
+            List<ColdTransaction> written = ColdSegmentReader.open(path)
+                .read(month.atDay(1), month.atEndOfMonth());
+            if (written.size() != rows.size() || !new HashSet<>(written).containsAll(rows)) {
+                throw new IllegalStateException("기록한 segment 의 거래 내역이 원본과 다릅니다.");
+            }
+        } catch (UncheckedIOException | IllegalStateException e) {
+            log.error("cold storage segment 기록 실패. accountId: {}, month: {}", accountId, month,
+                e);
+            throw new CustomException(ErrorCode.IO_OPERATION_FAILED);
+        }
+    }
+
+    /**
+     * 계좌의 거래일이 from ~ to(포함) 인 archive 거래 내역을 segment 에서 조회
+     *
+     * @param accountId
+     * @param from
+     * @param to
+     * @return (거래일, 거래시각, id) 순 거래 내역
+     */
+    public List<ColdTransaction> read(Long accountId, LocalDate from, LocalDate to) {
+        List<ColdTransaction> result = new ArrayList<>();
+        for (YearMonth month = YearMonth.from(from); !month.isAfter(YearMonth.from(to));
+            month = month.plusMonths(1)) {
+            Path path = segmentPath(accountId, month);
+            if (!Files.exists(path)) {
+                continue;
+            }
+            try {
+                result.addAll(ColdSegmentReader.open(path).read(from, to));
+            } catch (UncheckedIOException e) {
+                log.error("cold storage segment 조회 실패. path: {}", path, e);
+                throw new CustomException(ErrorCode.IO_OPERATION_FAILED);
+            }
+        }
+        return result;
+    }
+
+    Path segmentPath(Long accountId, YearMonth month) {
+        return directory.resolve(String.valueOf(accountId)).resolve(month + SEGMENT_EXTENSION);
+    }
+}
@@ -0,0 +1,14 @@
+package com.project.fintech.persistence.coldstorage;
+
+import com.project.fintech.model.type.TransactionType;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * cold storage segment 에 저장하는 archive 거래 내역 한 건
+ */
+public record ColdTransaction(Long id, Long accountId, Long amount, Long recipientAccountId,
+                              String memo, TransactionType transactionType,
+                              LocalDate transactionDate, LocalTime transactionTime) {
+
+}
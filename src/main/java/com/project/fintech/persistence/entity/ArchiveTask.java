@@ -0,0 +1,59 @@
+package com.project.fintech.persistence.entity;
+
+import com.project.fintech.model.type.ArchiveTaskStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Builder.Default;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 삭제한 계좌의 거래 내역 archive 작업
+ * <p>
+ * 진행 상태(lastArchivedId, archivedCount)와 lease 는 ArchiveTaskRepository 의 조건부 update 로만 바꾼다. chunk 를 옮긴
+ * transaction 에서 진행 상태도 함께 기록하므로, worker 가 죽어도 lease 가 만료되면 다른 worker 가 마지막 chunk 다음부터 이어서
+ * 처리한다.
+ */
+@Entity
+@Getter
+@Builder
+@Table(name = "archive_tasks")
+@AllArgsConstructor
+@NoArgsConstructor
+public class ArchiveTask extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(unique = true, updatable = false)
+    private Long accountId;
+
+    @Enumerated(EnumType.STRING)
+    @Default
+    private ArchiveTaskStatus status = ArchiveTaskStatus.PENDING;
+
+    // 이 id 까지의 거래 내역은 archive 완료
+    @Default
+    private Long lastArchivedId = 0L;
+
+    @Default
+    private Long archivedCount = 0L;
+
+    private String leaseOwner;
+
+    private LocalDateTime leaseUntil;
+
+    public static ArchiveTask pending(Long accountId) {
+        return ArchiveTask.builder().accountId(accountId).build();
+    }
+}
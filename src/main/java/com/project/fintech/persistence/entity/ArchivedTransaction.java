@@ -1,12 +1,11 @@
 package com.project.fintech.persistence.entity;
 
 import com.project.fintech.model.type.TransactionType;
+import com.project.fintech.persistence.id.BlockId;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -26,8 +25,9 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 public class ArchivedTransaction {
 
+    // IDENTITY 는 insert 마다 id 를 받아와야 해서 JDBC batch insert 가 꺼지므로 table 에서 block 단위로 예약한다
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @BlockId(IdGenerator.ARCHIVED_TRANSACTIONS)
     private long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,38 @@
+package com.project.fintech.persistence.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * block 단위로 예약하는 id, 번호 발급 counter
+ * <p>
+ * entity 의 id 는 @BlockId 가 allocationSize 단위로, INSERT ... SELECT 의 id 는 IdBlockReserver 가 필요한
+ * 개수만큼 같은 row 에서 예약한다. 두 방식 모두 IdBlockSource 를 통해 [nextValue, nextValue + size) 를 가져가므로 겹치지
+ * 않는다. 계좌번호 발급기도 같은 방식으로 counter 구간을 임대한다.
+ */
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = IdGenerator.TABLE)
+public class IdGenerator {
+
+    public static final String TABLE = "id_generators";
+    public static final String TRANSACTIONS = "transactions";
+    public static final String ARCHIVED_TRANSACTIONS = "archived_transactions";
+    // 계좌번호 순열에 넣는 counter (AccountNumberAllocator)
+    public static final String ACCOUNT_NUMBERS = "account_number";
+    // 한 번에 예약하는 id 개수. JDBC batch size 보다 크거나 같아야 batch 중간에 예약하지 않는다
+    public static final int ALLOCATION_SIZE = 100;
+
+    @Id
+    private String name;
+
+    private Long nextValue;
+}
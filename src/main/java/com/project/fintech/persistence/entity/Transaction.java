@@ -1,12 +1,11 @@
 package com.project.fintech.persistence.entity;
 
 import com.project.fintech.model.type.TransactionType;
+import com.project.fintech.persistence.id.BlockId;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -25,16 +24,19 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @Table(name="transactions")
 public class Transaction {
+    // IDENTITY 는 insert 마다 id 를 받아와야 해서 JDBC batch insert 가 꺼지므로 table 에서 block 단위로 예약한다
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @BlockId(IdGenerator.TRANSACTIONS)
     private long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "account_id")
     private Account account;
 
+    // 계좌 기준 부호가 있는 금액 (입금 +, 출금 -). 계좌의 거래 내역 합계가 잔액이 된다
     private Long amount;
 
+    // 송금 상대 계좌 id (보낸 계좌의 posting 은 받는 계좌, 받은 계좌의 posting 은 보낸 계좌)
     private Long recipientAccountId;
 
     private String memo;
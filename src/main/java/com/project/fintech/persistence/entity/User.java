@@ -4,9 +4,12 @@ import com.project.fintech.model.type.Role;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
@@ -26,7 +29,12 @@ import org.springframework.security.core.userdetails.UserDetails;
 @NoArgsConstructor
 @Builder
 @Table(name="users")
+@NamedEntityGraph(name = User.WITH_OTP_SECRET_KEY, attributeNodes = @NamedAttributeNode("otpSecretKey"))
 public class User extends BaseEntity implements UserDetails {
+
+    // OTP secret key 를 등록/삭제할 때 기존 key 를 같은 query 로 함께 읽는 fetch plan
+    public static final String WITH_OTP_SECRET_KEY = "User.withOtpSecretKey";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -40,7 +48,8 @@ public class User extends BaseEntity implements UserDetails {
 
     private String phone;
 
-    @OneToOne (mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
+    // mappedBy 쪽 @OneToOne 은 bytecode enhancement 가 있어야 lazy 로 동작한다 (build.gradle 의 hibernate 설정)
+    @OneToOne (mappedBy = "user", fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
     private OtpSecretKey otpSecretKey;
 
     @OneToMany (mappedBy = "user",  cascade = CascadeType.ALL, orphanRemoval = true)
@@ -53,12 +62,21 @@ public class User extends BaseEntity implements UserDetails {
     @Builder.Default
     private Boolean isOtpRegistered = false;
 
+    // 활성 계좌 수. UserRepository 의 조건부 update 로만 바꾸므로 entity 변경 시에는 update 하지 않는다
+    @Builder.Default
+    @Column(updatable = false)
+    private Integer activeAccountCount = 0;
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(getRole());
+    }
+
+    public Role getRole() {
         if (!isVerifiedEmail || !isOtpRegistered) {
-            return List.of(Role.PENDING);
+            return Role.PENDING;
         }
-        return List.of(Role.USER);
+        return Role.USER;
     }
 
     @Override
@@ -71,6 +89,10 @@ public class User extends BaseEntity implements UserDetails {
         return this.email;
     }
 
+    public void changePassword(String encodedPassword) {
+        this.password = encodedPassword;
+    }
+
     public void setVerifiedEmail(Boolean verifiedEmail) {
         isVerifiedEmail = verifiedEmail;
     }
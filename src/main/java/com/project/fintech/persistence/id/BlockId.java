@@ -0,0 +1,30 @@
+package com.project.fintech.persistence.id;
+
+import com.project.fintech.persistence.entity.IdGenerator;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * id_generators table 의 counter 에서 block 단위로 예약한 id 를 사용
+ * <p>
+ * 예약은 IdBlockSource 의 전용 connection pool 에서 하므로 insert 하는 transaction 이 main pool 의 connection 을
+ * 하나 더 기다리지 않는다.
+ */
+@IdGeneratorType(BlockIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface BlockId {
+
+    /**
+     * id 발급 counter 이름 (IdGenerator 상수)
+     */
+    String value();
+
+    /**
+     * 한 번에 예약하는 id 개수
+     */
+    int allocationSize() default IdGenerator.ALLOCATION_SIZE;
+}
@@ -0,0 +1,55 @@
+package com.project.fintech.persistence.id;
+
+import java.lang.reflect.Member;
+import java.util.EnumSet;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.GeneratorCreationContext;
+
+/**
+ * @BlockId 가 붙은 id 를 발급하는 Hibernate generator
+ * <p>
+ * 예약한 [next, end) 구간을 다 쓰면 IdBlockSource 에서 다음 구간을 예약한다. 예약한 구간은 바로 commit 되므로 insert
+ * 하는 transaction 이 rollback 되어도 돌려주지 않는다 (id 가 비어도 중복은 없음).
+ */
+public class BlockIdGenerator implements BeforeExecutionGenerator {
+
+    /**
+     * Spring 이 만든 IdBlockSource bean 을 넘겨받는 Hibernate 설정 key (IdBlockConfig 참고)
+     */
+    public static final String ID_BLOCK_SOURCE = "fintech.id_block_source";
+
+    private final String name;
+    private final int allocationSize;
+    private final IdBlockSource idBlockSource;
+    private long next;
+    private long end;
+
+    public BlockIdGenerator(BlockId config, Member member, GeneratorCreationContext context) {
+        this.name = config.value();
+        this.allocationSize = config.allocationSize();
+        Object source = context.getServiceRegistry().requireService(ConfigurationService.class)
+            .getSettings().get(ID_BLOCK_SOURCE);
+        if (!(source instanceof IdBlockSource idBlockSource)) {
+            throw new IllegalStateException("Hibernate 설정에 IdBlockSource 가 없습니다. key: " + ID_BLOCK_SOURCE);
+        }
+        this.idBlockSource = idBlockSource;
+    }
+
+    @Override
+    public synchronized Object generate(SharedSessionContractImplementor session, Object owner,
+        Object currentValue, EventType eventType) {
+        if (next >= end) {
+            next = idBlockSource.reserve(name, allocationSize);
+            end = next + allocationSize;
+        }
+        return next++;
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EnumSet.of(EventType.INSERT);
+    }
+}
@@ -0,0 +1,72 @@
+package com.project.fintech.persistence.id;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * id_generators table 의 counter 에서 id 구간을 예약
+ * <p>
+ * 요청 transaction 은 이미 main pool 의 connection 을 잡고 있으므로 같은 pool 에서 예약용 connection 을 하나 더 받으면,
+ * pool 크기 이상의 요청이 몰렸을 때 모두 두 번째 connection 을 기다리다 timeout 된다. 그래서 예약은 main pool 과 같은 DB 로
+ * 연결하는 작은 전용 pool 에서 하고 바로 commit 한다. counter row 의 lock 은 예약하는 동안만 잡힌다.
+ */
+public class IdBlockSource implements AutoCloseable {
+
+    private final HikariDataSource dataSource;
+
+    /**
+     * @param dataSource 예약 전용 connection pool (autoCommit 이 꺼져 있어야 함). close 할 때 같이 닫는다
+     */
+    public IdBlockSource(HikariDataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * id 구간 예약
+     *
+     * @param name id 발급 counter 이름 (IdGenerator 상수)
+     * @param size 예약할 id 개수
+     * @return [시작 id, 시작 id + size) 구간의 시작 id
+     */
+    public long reserve(String name, long size) {
+        try (Connection connection = dataSource.getConnection()) {
+            try {
+                long start = reserve(connection, name, size);
+                connection.commit();
+                return start;
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("id 구간 예약 실패. name: " + name, e);
+        }
+    }
+
+    private long reserve(Connection connection, String name, long size) throws SQLException {
+        try (PreparedStatement update = connection.prepareStatement(
+            "UPDATE id_generators SET next_value = next_value + ? WHERE name = ?")) {
+            update.setLong(1, size);
+            update.setString(2, name);
+            if (update.executeUpdate() != 1) {
+                throw new IllegalStateException("id 발급 counter 가 없습니다. name: " + name);
+            }
+        }
+        try (PreparedStatement select = connection.prepareStatement(
+            "SELECT next_value FROM id_generators WHERE name = ?")) {
+            select.setString(1, name);
+            try (ResultSet resultSet = select.executeQuery()) {
+                resultSet.next();
+                return resultSet.getLong(1) - size;
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        dataSource.close();
+    }
+}
@@ -1,22 +1,140 @@
 package com.project.fintech.persistence.repository;
 
+import com.project.fintech.model.dto.domain.AccountDto;
 import com.project.fintech.model.type.Status;
 import com.project.fintech.persistence.entity.Account;
 import com.project.fintech.persistence.entity.User;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface AccountRepository extends JpaRepository<Account, Long> {
-    long countByUserAndStatus(User user, Status status);
     List<Account> findByUserAndStatus(User user, Status status);
+    Optional<Account> findByAccountNumber(String accountNumber);
+
+    /**
+     * 계좌번호로 계좌 id 만 조회 (entity 조회 없음)
+     */
+    @Query("select a.id from Account a where a.accountNumber = :accountNumber and a.status = :status")
+    Optional<Long> findIdByAccountNumberAndStatus(@Param("accountNumber") String accountNumber,
+        @Param("status") Status status);
+
+    /**
+     * 계좌번호가 이미 있는지 확인 (비활성 계좌 포함)
+     */
+    boolean existsByAccountNumber(String accountNumber);
+
+    /**
+     * 계좌의 소유자 확인 (entity 조회 없이 account id, user id 로만 확인)
+     */
+    boolean existsByIdAndUserId(Long id, Long userId);
+
+    boolean existsByIdAndUserIdAndStatus(Long id, Long userId, Status status);
+
+    /**
+     * 잔액에 amount 를 더함. 읽은 잔액을 다시 쓰지 않고 한 번의 UPDATE 로 더하므로 동시에 요청해도 갱신이 사라지지 않는다.
+     *
+     * @return 변경된 계좌 수 (사용자의 활성 계좌가 아니면 0)
+     */
+    @Modifying
+    @Query("update Account a set a.balance = a.balance + :amount, a.modifiedAt = local datetime "
+        + "where a.id = :accountId and a.user.id = :userId and a.status = :status")
+    int increaseBalance(@Param("accountId") Long accountId, @Param("userId") Long userId,
+        @Param("status") Status status, @Param("amount") Long amount);
+
+    /**
+     * 소유자와 상관없이 계좌 잔액에 amount 를 더함 (송금 받는 계좌)
+     *
+     * @return 변경된 계좌 수 (활성 계좌가 아니면 0)
+     */
+    @Modifying
+    @Query("update Account a set a.balance = a.balance + :amount, a.modifiedAt = local datetime "
+        + "where a.id = :accountId and a.status = :status")
+    int creditBalance(@Param("accountId") Long accountId, @Param("status") Status status,
+        @Param("amount") Long amount);
+
+    /**
+     * 잔액이 amount 이상일 때만 잔액에서 amount 를 뺌. 잔액 확인과 차감이 한 번의 UPDATE 이므로 잔액이 음수가 되지 않는다.
+     *
+     * @return 변경된 계좌 수 (사용자의 활성 계좌가 아니거나 잔액이 부족하면 0)
+     */
+    @Modifying
+    @Query("update Account a set a.balance = a.balance - :amount, a.modifiedAt = local datetime "
+        + "where a.id = :accountId and a.user.id = :userId and a.status = :status "
+        + "and a.balance >= :amount")
+    int decreaseBalance(@Param("accountId") Long accountId, @Param("userId") Long userId,
+        @Param("status") Status status, @Param("amount") Long amount);
+
+    /**
+     * 잔액이 0 인 사용자의 계좌 상태를 바꿈. 상태와 잔액 확인이 한 번의 UPDATE 이므로 동시에 들어온 입금이나 삭제와 겹쳐도 잔액이 남은 계좌를
+     * 비활성화하거나 같은 계좌를 두 번 비활성화하지 않는다.
+     *
+     * @return 변경된 계좌 수 (사용자의 from 상태 계좌가 아니거나 잔액이 남아 있으면 0)
+     */
+    @Modifying
+    @Query("update Account a set a.status = :to, a.modifiedAt = local datetime "
+        + "where a.id = :accountId and a.user.id = :userId and a.status = :from "
+        + "and a.balance = 0")
+    int updateStatusIfBalanceZero(@Param("accountId") Long accountId,
+        @Param("userId") Long userId, @Param("from") Status from, @Param("to") Status to);
+
+    /**
+     * 사용자의 계좌를 entity 없이 DTO 로 조회
+     */
+    @Query("select new com.project.fintech.model.dto.domain.AccountDto("
+        + "a.id, u.email, a.accountNumber, a.balance) "
+        + "from Account a join a.user u where u.id = :userId and a.status = :status")
+    List<AccountDto> findAccountDtosByUserIdAndStatus(@Param("userId") Long userId,
+        @Param("status") Status status);
+
+    /**
+     * 사용자의 특정 계좌를 entity 없이 DTO 로 조회 (다른 사용자의 계좌는 조회되지 않음)
+     */
+    @Query("select new com.project.fintech.model.dto.domain.AccountDto("
+        + "a.id, u.email, a.accountNumber, a.balance) "
+        + "from Account a join a.user u "
+        + "where a.id = :accountId and u.id = :userId and a.status = :status")
+    Optional<AccountDto> findAccountDtoByIdAndUserIdAndStatus(@Param("accountId") Long accountId,
+        @Param("userId") Long userId, @Param("status") Status status);
 
     default List<Account> findActiveAccounts(User user) {
         return findByUserAndStatus(user, Status.ACTIVE);
     }
 
-    default Long countActiveAccountsByUser(User user) {
-        return countByUserAndStatus(user, Status.ACTIVE);
+    default List<AccountDto> findActiveAccountDtos(Long userId) {
+        return findAccountDtosByUserIdAndStatus(userId, Status.ACTIVE);
+    }
+
+    default boolean existsActiveAccount(Long accountId, Long userId) {
+        return existsByIdAndUserIdAndStatus(accountId, userId, Status.ACTIVE);
+    }
+
+    default int increaseActiveBalance(Long accountId, Long userId, Long amount) {
+        return increaseBalance(accountId, userId, Status.ACTIVE, amount);
+    }
+
+    default int creditActiveBalance(Long accountId, Long amount) {
+        return creditBalance(accountId, Status.ACTIVE, amount);
+    }
+
+    default Optional<Long> findActiveAccountId(String accountNumber) {
+        return findIdByAccountNumberAndStatus(accountNumber, Status.ACTIVE);
+    }
+
+    default int disableActiveAccount(Long accountId, Long userId) {
+        return updateStatusIfBalanceZero(accountId, userId, Status.ACTIVE, Status.DISABLED);
+    }
+
+    default int decreaseActiveBalance(Long accountId, Long userId, Long amount) {
+        return decreaseBalance(accountId, userId, Status.ACTIVE, amount);
+    }
+
+    default Optional<AccountDto> findActiveAccountDto(Long accountId, Long userId) {
+        return findAccountDtoByIdAndUserIdAndStatus(accountId, userId, Status.ACTIVE);
     }
 }
@@ -0,0 +1,107 @@
+package com.project.fintech.persistence.repository;
+
+import com.project.fintech.model.type.ArchiveTaskStatus;
+import com.project.fintech.persistence.entity.ArchiveTask;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ArchiveTaskRepository extends JpaRepository<ArchiveTask, Long> {
+
+    /**
+     * 처리할 수 있는 작업 id (status 가 같고 lease 가 없거나 만료된 작업)
+     */
+    @Query("select t.id from ArchiveTask t where t.status = :status "
+        + "and (t.leaseUntil is null or t.leaseUntil < :now) order by t.id")
+    List<Long> findClaimableIds(@Param("status") ArchiveTaskStatus status,
+        @Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * lease 가 없거나 만료된 작업일 때만 lease 를 잡음 (여러 worker 중 하나만 성공)
+     *
+     * @return lease 를 잡았으면 1
+     */
+    @Modifying
+    @Query("update ArchiveTask t set t.leaseOwner = :owner, t.leaseUntil = :leaseUntil "
+        + "where t.id = :id and t.status = :status "
+        + "and (t.leaseUntil is null or t.leaseUntil < :now)")
+    int acquireLease(@Param("id") Long id, @Param("status") ArchiveTaskStatus status,
+        @Param("owner") String owner, @Param("leaseUntil") LocalDateTime leaseUntil,
+        @Param("now") LocalDateTime now);
+
+    /**
+     * 아직 lease 를 가지고 있을 때만 lease 를 연장. 작업 row 를 lock 하므로 같은 transaction 의 chunk 처리는 한 worker 만 한다.
+     *
+     * @return lease 를 가지고 있었으면 1
+     */
+    @Modifying
+    @Query("update ArchiveTask t set t.leaseUntil = :leaseUntil "
+        + "where t.id = :id and t.leaseOwner = :owner and t.status = :status")
+    int renewLease(@Param("id") Long id, @Param("status") ArchiveTaskStatus status,
+        @Param("owner") String owner, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * chunk 처리 결과 기록
+     *
+     * @return lease 를 가지고 있었으면 1
+     */
+    @Modifying
+    @Query("update ArchiveTask t set t.lastArchivedId = :lastArchivedId, "
+        + "t.archivedCount = t.archivedCount + :count where t.id = :id and t.leaseOwner = :owner")
+    int recordProgress(@Param("id") Long id, @Param("owner") String owner,
+        @Param("lastArchivedId") Long lastArchivedId, @Param("count") long count);
+
+    /**
+     * 작업 완료 처리 및 lease 해제
+     *
+     * @return lease 를 가지고 있었으면 1
+     */
+    @Modifying
+    @Query("update ArchiveTask t set t.status = :status, t.leaseOwner = null, t.leaseUntil = null "
+        + "where t.id = :id and t.leaseOwner = :owner")
+    int complete(@Param("id") Long id, @Param("status") ArchiveTaskStatus status,
+        @Param("owner") String owner);
+
+    /**
+     * archive 를 마쳤고 아직 cold storage 로 옮기지 않은 작업 중 lease 가 없거나 만료된 작업 id
+     */
+    default List<Long> findCompactableIds(LocalDateTime now, int limit) {
+        return findClaimableIds(ArchiveTaskStatus.DONE, now, PageRequest.of(0, limit));
+    }
+
+    default int acquireCompactionLease(Long id, String owner, LocalDateTime leaseUntil,
+        LocalDateTime now) {
+        return acquireLease(id, ArchiveTaskStatus.DONE, owner, leaseUntil, now);
+    }
+
+    default int renewCompactionLease(Long id, String owner, LocalDateTime leaseUntil) {
+        return renewLease(id, ArchiveTaskStatus.DONE, owner, leaseUntil);
+    }
+
+    default int completeCompaction(Long id, String owner) {
+        return complete(id, ArchiveTaskStatus.COMPACTED, owner);
+    }
+
+    default List<Long> findClaimableIds(LocalDateTime now, int limit) {
+        return findClaimableIds(ArchiveTaskStatus.PENDING, now, PageRequest.of(0, limit));
+    }
+
+    default int acquireLease(Long id, String owner, LocalDateTime leaseUntil, LocalDateTime now) {
+        return acquireLease(id, ArchiveTaskStatus.PENDING, owner, leaseUntil, now);
+    }
+
+    default int renewLease(Long id, String owner, LocalDateTime leaseUntil) {
+        return renewLease(id, ArchiveTaskStatus.PENDING, owner, leaseUntil);
+    }
+
+    default int complete(Long id, String owner) {
+        return complete(id, ArchiveTaskStatus.DONE, owner);
+    }
+}
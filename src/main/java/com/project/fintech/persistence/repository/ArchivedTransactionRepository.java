@@ -1,10 +1,60 @@
 package com.project.fintech.persistence.repository;
 
 
+import com.project.fintech.persistence.coldstorage.ColdTransaction;
 import com.project.fintech.persistence.entity.ArchivedTransaction;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface ArchivedTransactionRepository extends JpaRepository<ArchivedTransaction, Long> {
+
+    /**
+     * 계좌의 거래 내역 중 (afterId, upToId] 구간을 entity 조회 없이 한 번의 INSERT ... SELECT 로 archive table 에 복사.
+     * id 는 firstId 부터 거래 내역 id 순으로 부여하므로 구간의 건수만큼 미리 예약해 두어야 한다 (IdBlockReserver).
+     *
+     * @return 복사한 건수
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "insert into archived_transactions (id, account_id, amount, memo, "
+        + "recipient_account_id, transaction_type, transaction_date, transaction_time) "
+        + "select :firstId + row_number() over (order by id) - 1, account_id, amount, memo, "
+        + "recipient_account_id, transaction_type, transaction_date, transaction_time "
+        + "from transactions "
+        + "where account_id = :accountId and id > :afterId and id <= :upToId", nativeQuery = true)
+    int copyFromTransactions(@Param("accountId") Long accountId, @Param("afterId") Long afterId,
+        @Param("upToId") Long upToId, @Param("firstId") Long firstId);
+
+    @Query("select min(t.transactionDate) from ArchivedTransaction t where t.account.id = :accountId")
+    Optional<LocalDate> findFirstTransactionDate(@Param("accountId") Long accountId);
+
+    @Query("select max(t.transactionDate) from ArchivedTransaction t where t.account.id = :accountId")
+    Optional<LocalDate> findLastTransactionDate(@Param("accountId") Long accountId);
+
+    /**
+     * 계좌의 거래일이 from ~ to(포함) 인 archive 거래 내역을 entity 없이 cold storage 형식으로 조회
+     */
+    @Query("select new com.project.fintech.persistence.coldstorage.ColdTransaction("
+        + "t.id, t.account.id, t.amount, t.recipientAccountId, t.memo, t.transactionType, "
+        + "t.transactionDate, t.transactionTime) from ArchivedTransaction t "
+        + "where t.account.id = :accountId and t.transactionDate between :from and :to")
+    List<ColdTransaction> findColdTransactions(@Param("accountId") Long accountId,
+        @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * cold storage 로 옮긴 archive 거래 내역 삭제
+     *
+     * @return 삭제한 건수
+     */
+    @Modifying
+    @Query("delete from ArchivedTransaction t "
+        + "where t.account.id = :accountId and t.transactionDate between :from and :to")
+    int deleteByAccountIdAndTransactionDateBetween(@Param("accountId") Long accountId,
+        @Param("from") LocalDate from, @Param("to") LocalDate to);
 }
@@ -4,9 +4,17 @@ import com.project.fintech.persistence.entity.OtpSecretKey;
 import com.project.fintech.persistence.entity.User;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface OtpSecretKeyRepository extends JpaRepository<OtpSecretKey, Long> {
     Optional<OtpSecretKey> findByUser(User user);
+
+    /**
+     * 사용자 email 로 OTP secret key 만 조회 (user 조회 없이 한 번의 query)
+     */
+    @Query("select k.secretKey from OtpSecretKey k where k.user.email = :email")
+    Optional<String> findSecretKeyByUserEmail(@Param("email") String email);
 }
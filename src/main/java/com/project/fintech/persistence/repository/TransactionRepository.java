@@ -1,10 +1,56 @@
 package com.project.fintech.persistence.repository;
 
+import com.project.fintech.model.dto.domain.TransactionDto;
 import com.project.fintech.persistence.entity.Transaction;
+import java.time.LocalDate;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface TransactionRepository extends JpaRepository<Transaction, Long> {
 
+    /**
+     * 계좌의 거래 내역을 id 순으로 afterId 다음부터 셀 때 offset 번째 거래 내역의 id (그만큼 남아있지 않으면 null)
+     */
+    @Query(value = "select id from transactions where account_id = :accountId and id > :afterId "
+        + "order by id limit 1 offset :offset", nativeQuery = true)
+    Long findIdAtOffset(@Param("accountId") Long accountId, @Param("afterId") Long afterId,
+        @Param("offset") int offset);
+
+    /**
+     * 계좌의 거래 내역 중 afterId 보다 큰 마지막 id (남아있지 않으면 null)
+     */
+    @Query(value = "select max(id) from transactions where account_id = :accountId and id > :afterId",
+        nativeQuery = true)
+    Long findMaxIdAfter(@Param("accountId") Long accountId, @Param("afterId") Long afterId);
+
+    @Query(value = "select count(*) from transactions where account_id = :accountId "
+        + "and id > :afterId and id <= :upToId", nativeQuery = true)
+    long countByAccountIdAndIdRange(@Param("accountId") Long accountId,
+        @Param("afterId") Long afterId, @Param("upToId") Long upToId);
+
+    /**
+     * 계좌의 거래 내역 중 (afterId, upToId] 구간을 entity 조회 없이 한 번의 DELETE 로 삭제
+     *
+     * @return 삭제한 건수
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "delete from transactions where account_id = :accountId "
+        + "and id > :afterId and id <= :upToId", nativeQuery = true)
+    int deleteByAccountIdAndIdRange(@Param("accountId") Long accountId,
+        @Param("afterId") Long afterId, @Param("upToId") Long upToId);
+
+    /**
+     * 계좌의 거래일이 from ~ to(포함) 인 거래 내역을 entity 없이 DTO projection 으로 조회
+     */
+    @Query("select new com.project.fintech.model.dto.domain.TransactionDto(t.amount, "
+        + "t.recipientAccountId, t.memo, t.transactionType, t.transactionDate, t.transactionTime) "
+        + "from Transaction t "
+        + "where t.account.id = :accountId and t.transactionDate between :from and :to")
+    List<TransactionDto> findTransactionDtos(@Param("accountId") Long accountId,
+        @Param("from") LocalDate from, @Param("to") LocalDate to);
 }
@@ -2,12 +2,46 @@ package com.project.fintech.persistence.repository;
 
 import com.project.fintech.persistence.entity.User;
 import java.util.Optional;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
+    /**
+     * 인증 등 대부분의 흐름에서 쓰는 조회. 연관관계는 읽지 않는다 (users 한 번의 query)
+     */
     Optional<User> findByEmail(String email);
 
+    /**
+     * OTP secret key 등록/삭제용 조회. 기존 secret key 를 join 으로 함께 읽는다
+     */
+    @EntityGraph(User.WITH_OTP_SECRET_KEY)
+    Optional<User> findWithOtpSecretKeyByEmail(String email);
+
     boolean existsByEmail(String email);
+
+    /**
+     * 활성 계좌 수가 한도 미만일 때만 1 증가 (조회 후 증가하지 않고 한 번의 조건부 update)
+     *
+     * @return 증가했으면 1, 한도에 도달했으면 0
+     */
+    @Modifying
+    @Query("update User u set u.activeAccountCount = u.activeAccountCount + 1 "
+        + "where u.id = :userId and u.activeAccountCount < :maxAccountCount")
+    int incrementActiveAccountCount(@Param("userId") Long userId,
+        @Param("maxAccountCount") int maxAccountCount);
+
+    /**
+     * 활성 계좌 수 1 감소
+     *
+     * @return 감소했으면 1
+     */
+    @Modifying
+    @Query("update User u set u.activeAccountCount = u.activeAccountCount - 1 "
+        + "where u.id = :userId and u.activeAccountCount > 0")
+    int decrementActiveAccountCount(@Param("userId") Long userId);
 }
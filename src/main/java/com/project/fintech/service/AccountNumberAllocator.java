@@ -0,0 +1,130 @@
+package com.project.fintech.service;
+
+import com.project.fintech.exception.CustomException;
+import com.project.fintech.exception.ErrorCode;
+import com.project.fintech.persistence.entity.IdGenerator;
+import com.project.fintech.persistence.id.IdBlockSource;
+import java.security.GeneralSecurityException;
+import java.util.Base64;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 계좌번호 가운데 8자리 발급기
+ * <p>
+ * 0 부터 증가하는 counter 를 key 로 섞은 Feistel 순열에 넣어 8자리 숫자로 바꾼다. 순열은 일대일이므로 이 발급기가 낸 번호끼리는
+ * 겹치지 않고, 발급 순서는 드러나지 않는다. 이전에 무작위로 발급한 번호와는 겹칠 수 있으므로 AccountService 가 이미 있는 번호를
+ * 건너뛴다. counter 는 id_generators 에서 block 단위로 임대하므로 block 을 다 쓸 때만 DB 에 접근하고, 임대는 IdBlockSource 의
+ * 전용 connection pool 에서 하므로 계좌 생성 transaction 이 main pool 의 connection 을 하나 더 기다리지 않는다.
+ * <p>
+ * permutation key 를 바꾸면 이미 발급한 번호와 겹칠 수 있으므로 운영 중에는 바꾸면 안 된다.
+ */
+@Slf4j
+@Component
+public class AccountNumberAllocator {
+
+    public static final long MIDDLE_NUMBER_MIN = 10_000_000L;
+    // 8자리 숫자 개수 (10_000_000 ~ 99_999_999)
+    public static final long DOMAIN_SIZE = 90_000_000L;
+    private static final int HALF_BITS = 14;
+    private static final int HALF_MASK = (1 << HALF_BITS) - 1;
+    private static final int ROUNDS = 4;
+    private static final int MIN_PERMUTATION_KEY_BYTES = 16;
+
+    private final IdBlockSource idBlockSource;
+    private final long blockSize;
+    // round 별 round function 결과 (입력이 14bit 이므로 미리 계산)
+    private final short[][] roundTable;
+
+    private long next;
+    private long blockEnd;
+
+    public AccountNumberAllocator(IdBlockSource idBlockSource,
+        @Value("${account.number.permutation-key}") String permutationKey,
+        @Value("${account.number.block-size:1000}") long blockSize) {
+        // 임대는 바로 commit 되므로 계좌 생성 transaction 이 rollback 되어도 돌려주지 않는다 (번호가 비어도 중복은 없음)
+        this.idBlockSource = idBlockSource;
+        this.blockSize = blockSize;
+        this.roundTable = buildRoundTable(decodePermutationKey(permutationKey));
+    }
+
+    /**
+     * 다음 계좌번호 가운데 8자리 발급
+     *
+     * @return 10_000_000 ~ 99_999_999 사이에서 이 발급기가 아직 내지 않은 숫자
+     */
+    public synchronized long nextMiddleNumber() {
+        if (next >= blockEnd) {
+            leaseBlock();
+        }
+        return MIDDLE_NUMBER_MIN + permute(next++);
+    }
+
+    /**
+     * [0, DOMAIN_SIZE) 위의 일대일 순열. 28bit Feistel 결과가 범위를 벗어나면 범위 안에 들어올 때까지 다시 섞는다(cycle walking).
+     *
+     * @param counter 0 이상 DOMAIN_SIZE 미만의 counter
+     * @return 섞인 값
+     */
+    long permute(long counter) {
+        int value = (int) counter;
+        do {
+            value = feistel(value);
+        } while (value >= DOMAIN_SIZE);
+        return value;
+    }
+
+    private int feistel(int value) {
+        int left = value >>> HALF_BITS;
+        int right = value & HALF_MASK;
+        for (short[] round : roundTable) {
+            int mixed = left ^ round[right];
+            left = right;
+            right = mixed;
+        }
+        return (left << HALF_BITS) | right;
+    }
+
+    private void leaseBlock() {
+        long start = idBlockSource.reserve(IdGenerator.ACCOUNT_NUMBERS, blockSize);
+        if (start >= DOMAIN_SIZE) {
+            throw new CustomException(ErrorCode.ACCOUNT_NUMBER_EXHAUSTED);
+        }
+        next = start;
+        blockEnd = Math.min(start + blockSize, DOMAIN_SIZE);
+        log.info("계좌번호 counter 구간 임대. [{}, {})", next, blockEnd);
+    }
+
+    private static byte[] decodePermutationKey(String permutationKey) {
+        byte[] key = permutationKey == null ? new byte[0]
+            : Base64.getDecoder().decode(permutationKey.trim());
+        if (key.length < MIN_PERMUTATION_KEY_BYTES) {
+            throw new IllegalStateException(
+                "account.number.permutation-key(ACCOUNT_NUMBER_PERMUTATION_KEY) 는 Base64 로 encode 한 "
+                    + MIN_PERMUTATION_KEY_BYTES + " byte 이상의 key 여야 합니다.");
+        }
+        return key;
+    }
+
+    private static short[][] buildRoundTable(byte[] permutationKey) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(permutationKey, "HmacSHA256"));
+            short[][] table = new short[ROUNDS][1 << HALF_BITS];
+            for (int round = 0; round < ROUNDS; round++) {
+                for (int input = 0; input <= HALF_MASK; input++) {
+                    byte[] hash = mac.doFinal(
+                        new byte[]{(byte) round, (byte) (input >>> 8), (byte) input});
+                    table[round][input] = (short) ((((hash[0] & 0xFF) << 8) | (hash[1] & 0xFF))
+                        & HALF_MASK);
+                }
+            }
+            return table;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
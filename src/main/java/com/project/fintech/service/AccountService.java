@@ -2,16 +2,14 @@ package com.project.fintech.service;
 
 import com.project.fintech.exception.CustomException;
 import com.project.fintech.exception.ErrorCode;
-import com.project.fintech.model.dto.domain.TransactionMapper;
+import com.project.fintech.model.dto.domain.AccountDto;
 import com.project.fintech.model.type.Status;
 import com.project.fintech.persistence.entity.Account;
-import com.project.fintech.persistence.entity.ArchivedTransaction;
-import com.project.fintech.persistence.entity.Transaction;
+import com.project.fintech.persistence.entity.ArchiveTask;
 import com.project.fintech.persistence.entity.User;
 import com.project.fintech.persistence.repository.AccountRepository;
-import com.project.fintech.persistence.repository.ArchivedTransactionRepository;
+import com.project.fintech.persistence.repository.ArchiveTaskRepository;
 import com.project.fintech.persistence.repository.UserRepository;
-import java.security.SecureRandom;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -21,13 +19,13 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class AccountService {
 
-    private final Long MAX_ACCOUNT_COUNT = 3L;
+    private final int MAX_ACCOUNT_COUNT = 3;
     private final String SERVICE_CODE = "177";
 
     private final AccountRepository accountRepository;
-    private final TransactionMapper transactionMapper;
     private final UserRepository userRepository;
-    private final ArchivedTransactionRepository archivedTransactionRepository;
+    private final ArchiveTaskRepository archiveTaskRepository;
+    private final AccountNumberAllocator accountNumberAllocator;
 
     /**
      * email 로 User 가져오기
@@ -58,13 +56,13 @@ public class AccountService {
     }
 
     /**
-     * 사용자가 보유한 모든 계좌 조회
+     * 사용자가 보유한 모든 계좌 조회 (entity 없이 DTO projection 한 번의 query)
      *
-     * @param user
-     * @return User Account List
+     * @param userId
+     * @return User Account DTO List
      */
-    public List<Account> getUserAccounts(User user) {
-        List<Account> userAccounts = accountRepository.findActiveAccounts(user);
+    public List<AccountDto> getUserAccounts(Long userId) {
+        List<AccountDto> userAccounts = accountRepository.findActiveAccountDtos(userId);
         if (userAccounts.isEmpty()) {
             throw new CustomException(ErrorCode.ACCOUNT_NOT_FOUND);
         }
@@ -72,15 +70,36 @@ public class AccountService {
     }
 
     /**
-     * 계좌 생성하기
+     * 사용자의 특정 계좌 조회 (entity 없이 DTO projection 한 번의 query). 다른 사용자의 계좌는 찾을 수 없다.
+     *
+     * @param userId
+     * @param accountId
+     * @return User Account DTO
+     */
+    public AccountDto getUserAccount(Long userId, Long accountId) {
+        return accountRepository.findActiveAccountDto(accountId, userId)
+            .orElseThrow(() -> new CustomException(ErrorCode.ACCOUNT_NOT_FOUND));
+    }
+
+    /**
+     * 계좌 생성 시 연관관계에 사용할 User 참조 (User 를 조회하지 않는다)
+     *
+     * @param userId
+     * @return User reference
+     */
+    public User getUserReference(Long userId) {
+        return userRepository.getReferenceById(userId);
+    }
+
+    /**
+     * 계좌 생성하기. 사용자의 활성 계좌 수를 조건부 update 로 먼저 늘리므로 동시에 요청해도 한도를 넘지 않는다.
      *
      * @param user
      * @return created account
      */
     @Transactional
     public Account createAccount(User user) {
-        long accountCounts = accountRepository.countActiveAccountsByUser(user);
-        if (accountCounts >= MAX_ACCOUNT_COUNT) {
+        if (userRepository.incrementActiveAccountCount(user.getId(), MAX_ACCOUNT_COUNT) == 0) {
             throw new CustomException(ErrorCode.ACCOUNT_CREATION_LIMIT_EXCEEDED);
         }
         Account account = Account.builder().accountNumber(createAccountNumber()).user(user).build();
@@ -89,37 +108,27 @@ public class AccountService {
     }
 
     /**
-     * 게좌 삭제하기(Soft delete)
+     * 게좌 삭제하기(Soft delete). 소유자, 상태, 잔액 확인과 비활성화를 한 번의 조건부 update 로 하므로 동시에 들어온 입금/송금이 사라지거나
+     * 같은 계좌를 두 번 삭제해 활성 계좌 수가 두 번 줄지 않는다. 실패했을 때만 원인을 조회한다.
+     * 거래 내역 archive 는 작업으로만 기록하고 ArchiveWorker 가 요청과 별개로 처리한다.
      *
-     * @param user
-     * @param account
+     * @param userId
+     * @param accountId
+     * @return deleted account DTO
      */
     @Transactional
-    public void deleteAccount(User user, Account account) {
-        if (user.getAccount().stream().noneMatch(userAccount -> userAccount == account)) {
-            throw new CustomException(ErrorCode.ACCOUNT_USER_MISMATCH);
-        }
-        if (account.getBalance() > 0L) {
+    public AccountDto deleteAccount(Long userId, Long accountId) {
+        if (accountRepository.disableActiveAccount(accountId, userId) == 0) {
+            getAccountById(accountId);
+            if (!accountRepository.existsByIdAndUserId(accountId, userId)) {
+                throw new CustomException(ErrorCode.ACCOUNT_USER_MISMATCH);
+            }
             throw new CustomException(ErrorCode.ACCOUNT_BALANCE_NOT_ZERO);
         }
-        account.disabled();
-        moveTransactionsToArchive(account);
-    }
-
-    /**
-     * 해당 계좌번호의 transaction을 Archived transaction 테이블로 옮기기
-     *
-     * @param account
-     */
-    private void moveTransactionsToArchive(Account account) {
-        List<Transaction> transactionsList = account.getTransactions();
-        if (transactionsList.isEmpty()) {
-            return;
-        }
-        List<ArchivedTransaction> archivedTransactionList = transactionsList.stream()
-            .map(transactionMapper::toArchivedTransactions).toList();
-        archivedTransactionRepository.saveAll(archivedTransactionList);
-        account.clearTransactions();
+        userRepository.decrementActiveAccountCount(userId);
+        archiveTaskRepository.save(ArchiveTask.pending(accountId));
+        return accountRepository.findAccountDtoByIdAndUserIdAndStatus(accountId, userId,
+            Status.DISABLED).orElseThrow(() -> new CustomException(ErrorCode.ACCOUNT_NOT_FOUND));
     }
 
     /**
@@ -153,16 +162,18 @@ public class AccountService {
     }
 
     /**
-     * 계좌번호 생성 Util 메서드
+     * 계좌번호 생성 Util 메서드. 가운데 8자리는 발급기가 발급한 번호끼리 겹치지 않게 발급하지만, 발급기 도입 전에 무작위로 발급한
+     * 번호와는 겹칠 수 있으므로 이미 있는 번호는 건너뛴다 (계좌번호 unique index 조회 한 번).
      *
      * @return account number
      */
     public String createAccountNumber() {
-        SecureRandom secureRandom = new SecureRandom();
-        long randomNumber = 10_000_000L + secureRandom.nextLong(90_000_000L);
-        String middleNums = String.valueOf(randomNumber);
-        String checkDigit = createCheckDigit(middleNums);
+        String accountNumber;
+        do {
+            String middleNums = String.valueOf(accountNumberAllocator.nextMiddleNumber());
+            accountNumber = SERVICE_CODE + middleNums + createCheckDigit(middleNums);
+        } while (accountRepository.existsByAccountNumber(accountNumber));
 
-        return SERVICE_CODE + middleNums + checkDigit;
+        return accountNumber;
     }
 }
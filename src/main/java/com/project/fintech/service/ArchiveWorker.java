@@ -0,0 +1,111 @@
+package com.project.fintech.service;
+
+import com.project.fintech.persistence.entity.ArchiveTask;
+import com.project.fintech.persistence.repository.ArchiveTaskRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 삭제한 계좌의 거래 내역을 요청과 별개로 archive 하는 background worker
+ * <p>
+ * 작업마다 lease 를 잡고, chunk 하나를 옮기는 짧은 transaction 을 반복한다. chunk 를 옮기기 전에 lease 를 연장하면서 작업 row 를
+ * lock 하므로 lease 가 만료되어 다른 worker 가 가져간 작업은 더 처리하지 않는다. 처리 중 죽으면 lease 가 만료된 뒤 다른 worker 가
+ * 기록된 진행 상태부터 이어서 처리한다.
+ */
+@Slf4j
+@Component
+public class ArchiveWorker {
+
+    private final ArchiveTaskRepository archiveTaskRepository;
+    private final TransactionArchiver transactionArchiver;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration leaseDuration;
+    private final int batchSize;
+    private final String workerId = UUID.randomUUID().toString();
+
+    public ArchiveWorker(ArchiveTaskRepository archiveTaskRepository,
+        TransactionArchiver transactionArchiver, PlatformTransactionManager transactionManager,
+        @Value("${account.archive.lease-duration:PT1M}") Duration leaseDuration,
+        @Value("${account.archive.batch-size:10}") int batchSize) {
+        this.archiveTaskRepository = archiveTaskRepository;
+        this.transactionArchiver = transactionArchiver;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.leaseDuration = leaseDuration;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 처리할 수 있는 작업을 batchSize 개까지 처리
+     *
+     * @return 완료한 작업 수
+     */
+    @Scheduled(initialDelayString = "${account.archive.poll-interval:PT5S}",
+        fixedDelayString = "${account.archive.poll-interval:PT5S}")
+    public int drain() {
+        int completed = 0;
+        List<Long> taskIds = archiveTaskRepository.findClaimableIds(LocalDateTime.now(),
+            batchSize);
+        for (Long taskId : taskIds) {
+            try {
+                if (acquireLease(taskId) && process(taskId)) {
+                    completed++;
+                }
+            } catch (RuntimeException e) {
+                // lease 가 만료되면 다시 처리되므로 다음 작업으로 넘어간다
+                log.error("archive 작업 실패. taskId: {}", taskId, e);
+            }
+        }
+        return completed;
+    }
+
+    private boolean acquireLease(Long taskId) {
+        LocalDateTime now = LocalDateTime.now();
+        Integer acquired = transactionTemplate.execute(
+            status -> archiveTaskRepository.acquireLease(taskId, workerId,
+                now.plus(leaseDuration), now));
+        return acquired != null && acquired == 1;
+    }
+
+    /**
+     * 작업의 남은 거래 내역을 chunk 단위로 옮기고 완료 처리
+     *
+     * @return 완료했으면 true, 도중에 lease 를 잃었으면 false
+     */
+    private boolean process(Long taskId) {
+        ArchiveTask task = archiveTaskRepository.findById(taskId).orElseThrow();
+        Long accountId = task.getAccountId();
+        long afterId = task.getLastArchivedId();
+        Long upToId;
+        while ((upToId = transactionArchiver.nextChunkUpperBound(accountId, afterId)) != null) {
+            if (!archiveChunk(taskId, accountId, afterId, upToId)) {
+                log.warn("archive 작업의 lease 를 잃어 중단. taskId: {}", taskId);
+                return false;
+            }
+            afterId = upToId;
+        }
+        Integer completed = transactionTemplate.execute(
+            status -> archiveTaskRepository.complete(taskId, workerId));
+        return completed != null && completed == 1;
+    }
+
+    private boolean archiveChunk(Long taskId, Long accountId, long afterId, long upToId) {
+        Boolean archived = transactionTemplate.execute(status -> {
+            if (archiveTaskRepository.renewLease(taskId, workerId,
+                LocalDateTime.now().plus(leaseDuration)) == 0) {
+                return false;
+            }
+            long count = transactionArchiver.archiveChunk(accountId, afterId, upToId);
+            archiveTaskRepository.recordProgress(taskId, workerId, upToId, count);
+            return true;
+        });
+        return Boolean.TRUE.equals(archived);
+    }
+}
@@ -1,23 +1,33 @@
 package com.project.fintech.service;
 
-import com.project.fintech.auth.CustomUserDetailsService;
+import com.project.fintech.auth.AuthPrincipal;
+import com.project.fintech.auth.VerifiedPrincipalCache;
+import com.project.fintech.auth.jwt.AccessTokenBlacklistCache;
 import com.project.fintech.auth.jwt.JwtUtil;
+import com.project.fintech.auth.jwt.RevocationEpochCache;
+import com.project.fintech.auth.jwt.VerifiedToken;
+import com.project.fintech.auth.otp.OtpAttempt;
+import com.project.fintech.auth.otp.OtpSecretKeyCache;
 import com.project.fintech.auth.otp.OtpUtil;
 import com.project.fintech.exception.CustomException;
 import com.project.fintech.exception.ErrorCode;
 import com.project.fintech.model.dto.RegisterRequestDto;
+import com.project.fintech.model.type.RefreshTokenRotation;
 import com.project.fintech.persistence.entity.OtpSecretKey;
 import com.project.fintech.persistence.entity.User;
 import com.project.fintech.persistence.repository.OtpSecretKeyRepository;
 import com.project.fintech.persistence.repository.UserRepository;
 import java.util.Date;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
+import javax.crypto.spec.SecretKeySpec;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -27,16 +37,26 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class AuthService {
 
-    public static final String DISABLED_TOKEN_PREFIX = "JWT_BLACKLIST::";
+    public static final String DISABLED_TOKEN_PREFIX = AccessTokenBlacklistCache.DISABLED_TOKEN_PREFIX;
     public static final String REFRESH_TOKEN_PREFIX = "JWT_REFRESH_TOKEN::";
     public static final String OTP_COUNTING_PREFIX = "OTP_COUNTING::";
+    private static final int MAX_OTP_ATTEMPTS = 3;
+    private static final int OTP_PERIOD_SECONDS = 30;
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> OTP_ATTEMPT_SCRIPT = RedisScript.of(
+        new ClassPathResource("scripts/otp_attempt.lua"), List.class);
+    private static final RedisScript<Long> ROTATE_REFRESH_TOKEN_SCRIPT = RedisScript.of(
+        new ClassPathResource("scripts/rotate_refresh_token.lua"), Long.class);
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final OtpUtil otpUtil;
     private final JwtUtil jwtUtil;
     private final OtpSecretKeyRepository otpSecretKeyRepository;
-    private final CustomUserDetailsService customUserDetailsService;
+    private final VerifiedPrincipalCache verifiedPrincipalCache;
     private final StringRedisTemplate stringRedisTemplate;
+    private final AccessTokenBlacklistCache accessTokenBlacklistCache;
+    private final RevocationEpochCache revocationEpochCache;
+    private final OtpSecretKeyCache otpSecretKeyCache;
 
     /**
      * 이메일 중복 여부 체크
@@ -75,6 +95,7 @@ public class AuthService {
     public void markEmailAsVerified(String email) {
         User user = findUserByEmail(email);
         user.setVerifiedEmail(true);
+        verifiedPrincipalCache.evictUser(email, user.getRole());
     }
 
     /**
@@ -85,9 +106,10 @@ public class AuthService {
      */
     @Transactional
     public void saveOtpSecretKey(String secretKey, String email) {
-        User user = findUserByEmail(email);
+        User user = findUserWithOtpSecretKeyByEmail(email);
         OtpSecretKey otpSecretKey = OtpSecretKey.builder().secretKey(secretKey).user(user).build();
         user.setUserSecretKey(otpSecretKey);
+        otpSecretKeyCache.evict(email);
     }
 
     /**
@@ -97,9 +119,11 @@ public class AuthService {
      */
     @Transactional
     public void invalidateOtpSecretKey(String email) {
-        User user = findUserByEmail(email);
+        User user = findUserWithOtpSecretKeyByEmail(email);
         user.setUserSecretKey(null);
         user.toggleOtpRegistration(false);
+        otpSecretKeyCache.evict(email);
+        verifiedPrincipalCache.evictUser(email, user.getRole());
     }
 
     /**
@@ -111,20 +135,33 @@ public class AuthService {
     public void markOtpAsRegistered(String email, Boolean bool) {
         User user = findUserByEmail(email);
         user.toggleOtpRegistration(bool);
+        verifiedPrincipalCache.evictUser(email, user.getRole());
     }
 
     /**
-     * DB에서 사용자의 email로 OTP secret key 조회
+     * 사용자의 email로 OTP secret key 조회. cache 에 없을 때만 DB 를 한 번 조회한다.
      *
      * @param email
      * @return 조회한 OTP secret key
      */
-    @Transactional
     public String getUserSecretKey(String email) {
-        User user = findUserByEmail(email);
-        OtpSecretKey otpSecretKey = otpSecretKeyRepository.findByUser(user)
+        return otpSecretKeyCache.get(email, this::loadUserSecretKey);
+    }
+
+    /**
+     * 사용자의 email로 OTP 검증용 HMAC key 조회. cache 에 없을 때만 DB 를 한 번 조회하고, cache 에 있는 동안은 같은 key
+     * instance 를 반환한다.
+     *
+     * @param email
+     * @return decode 한 OTP HMAC key
+     */
+    public SecretKeySpec getUserOtpKey(String email) {
+        return otpSecretKeyCache.getHmacKey(email, this::loadUserSecretKey);
+    }
+
+    private String loadUserSecretKey(String email) {
+        return otpSecretKeyRepository.findSecretKeyByUserEmail(email)
             .orElseThrow(() -> new CustomException(ErrorCode.OTP_SECRET_KEY_NOT_FOUND));
-        return otpSecretKey.getSecretKey();
     }
 
     /**
@@ -138,126 +175,180 @@ public class AuthService {
             .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
     }
 
+    /**
+     * email로 사용자와 OTP secret key 를 함께 찾고 찾지 못하면 예외 throw
+     * @param email
+     * @return
+     */
+    @Transactional
+    public User findUserWithOtpSecretKeyByEmail(String email) {
+        return userRepository.findWithOtpSecretKeyByEmail(email)
+            .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+    }
+
     /**
      * 사용자가 Google Authenticator를 통해 발급받아 서버로 입력한 OTP를 검증하기
+     * <p>
+     * 검증 전에 시도 횟수를 먼저 예약하므로 동시에 들어온 추측 요청도 주기당 최대 횟수를 넘을 수 없다.
      *
      * @param code  사용자가 입력한 OTP code
      * @param email
      */
-    @Transactional
     public void verifyOtpCode(int code, String email) {
-        String attemptedCount = stringRedisTemplate.opsForValue().get(OTP_COUNTING_PREFIX + email);
-        if (attemptedCount != null && Integer.parseInt(attemptedCount) >= 3) {
+        OtpAttempt otpAttempt = reserveOtpAttempt(email);
+        if (!otpAttempt.allowed()) {
             throw new CustomException(ErrorCode.OTP_ATTEMPT_EXCEEDED);
         }
 
-        String userSecretKey = getUserSecretKey(email);
-        boolean codeValid = otpUtil.isCodeValid(userSecretKey, code);
+        boolean codeValid = otpUtil.isCodeValid(getUserOtpKey(email), code);
         if (!codeValid) {
-            countUpOtpAttempt(email);
+            log.info("OTP 인증 실패. 남은 시도 횟수: {}", otpAttempt.remaining());
             throw new CustomException(ErrorCode.INVALID_OTP_CODE);
         }
 
         stringRedisTemplate.delete(OTP_COUNTING_PREFIX + email);
     }
 
-
     /**
-     * OTP 인증 시도 횟수 session(redis)에 카운팅해서 저장
+     * OTP 인증 시도 횟수 확인 및 증가 (redis script 로 한 번에 수행). 카운트는 현재 TOTP 주기가 끝나면 만료된다.
      *
      * @param email
+     * @return 시도 허용 여부와 남은 시도 횟수
      */
-    public void countUpOtpAttempt(String email) {
-        long currentTimeInSeconds = System.currentTimeMillis() / 1000;
-        int period = 30;
-        long secondsPassed = currentTimeInSeconds % period;
-        long secondsRemaining = period - secondsPassed;
-
-        Long newCount = stringRedisTemplate.opsForValue().increment(OTP_COUNTING_PREFIX + email);
-        if (newCount == 1) {
-            stringRedisTemplate.expire(OTP_COUNTING_PREFIX + email, secondsRemaining,
-                TimeUnit.SECONDS);
-        }
+    @SuppressWarnings("unchecked")
+    public OtpAttempt reserveOtpAttempt(String email) {
+        List<Long> result = stringRedisTemplate.execute(OTP_ATTEMPT_SCRIPT,
+            List.of(OTP_COUNTING_PREFIX + email), String.valueOf(MAX_OTP_ATTEMPTS),
+            String.valueOf(OTP_PERIOD_SECONDS));
+        return new OtpAttempt(result.get(0) == 1L, result.get(1).intValue());
     }
 
     /**
-     * token정보로 Authentication 객체 생성
+     * 검증된 token정보로 Authentication 객체 생성 (DB 조회 없이 token claim 으로 principal 생성)
      *
-     * @param token
+     * @param verifiedToken
      * @return Authentication 객체
      */
-    public Authentication getAuthenticationByToken(String token) {
-        String email = jwtUtil.getEmailFromToken(token);
-        UserDetails userDetails = customUserDetailsService.loadUserByUsername(email);
-        return new UsernamePasswordAuthenticationToken(userDetails, null,
-            userDetails.getAuthorities());
+    public Authentication getAuthenticationByToken(VerifiedToken verifiedToken) {
+        AuthPrincipal principal = verifiedPrincipalCache.toPrincipal(verifiedToken);
+        return new UsernamePasswordAuthenticationToken(principal, null,
+            List.of(principal.getRole()));
     }
 
     /**
      * Redis에서 Refresh Token 삭제 (로그아웃 혹은 access 토큰 재발급 시)
      *
-     * @param refreshToken
+     * @param refreshToken 검증된 refresh token
      */
-    public void invalidateRefreshToken(String refreshToken) {
-        if (!stringRedisTemplate.hasKey(REFRESH_TOKEN_PREFIX + refreshToken)) {
+    public void invalidateRefreshToken(VerifiedToken refreshToken) {
+        if (!stringRedisTemplate.hasKey(REFRESH_TOKEN_PREFIX + refreshToken.getTokenId())) {
             throw new CustomException(ErrorCode.TOKEN_NOT_FOUND);
         }
-        stringRedisTemplate.delete(REFRESH_TOKEN_PREFIX + refreshToken);
+        stringRedisTemplate.delete(REFRESH_TOKEN_PREFIX + refreshToken.getTokenId());
     }
 
     /**
-     * Redis에 Refresh Token 저장 key - JWT_REFRESH_TOKEN::{refresh token}// value - user email
+     * Redis에 Refresh Token 저장 key - JWT_REFRESH_TOKEN::{token id}// value - user email
+     * <p>
+     * token 전체 대신 고정 길이의 token id(jti)를 key 로 사용하고, token 의 남은 수명만큼만 보관한다.
      *
-     * @param token refresh Token
+     * @param refreshToken 검증된 refresh token
      */
-    public void storeRefreshToken(String token, String email) {
+    public void storeRefreshToken(VerifiedToken refreshToken, String email) {
+        long ttlMillis = refreshToken.getExpiration().getTime() - System.currentTimeMillis();
         stringRedisTemplate.opsForValue()
-            .set(REFRESH_TOKEN_PREFIX + token, email, 7, TimeUnit.DAYS);
+            .set(REFRESH_TOKEN_PREFIX + refreshToken.getTokenId(), email, ttlMillis,
+                TimeUnit.MILLISECONDS);
     }
 
 
     /**
-     * Redis에 Access Token을 black list에 저장
+     * Redis에 Access Token을 black list에 저장 key - JWT_BLACKLIST::{token id}// value - user email
+     * <p>
+     * 이미 만료된 token 은 어차피 쓸 수 없으므로 예외 없이 건너뛴다.
      *
      * @param token
      */
     public void addAccessTokenBlackList(String token) {
-        Date expiration = jwtUtil.getTokenExpiration(token);
-        String email = jwtUtil.getEmailFromToken(token);
+        VerifiedToken verifiedToken = jwtUtil.parseVerifiedTokenAllowingExpired(token);
+        Date expiration = verifiedToken.getExpiration();
+        String email = verifiedToken.getEmail();
         Date current = new Date(System.currentTimeMillis());
 
         if (current.before(expiration)) {
             long diffInMillis = expiration.getTime() - current.getTime();
             stringRedisTemplate.opsForValue()
-                .set(DISABLED_TOKEN_PREFIX + token, email, diffInMillis, TimeUnit.SECONDS);
+                .set(DISABLED_TOKEN_PREFIX + verifiedToken.getTokenId(), email, diffInMillis,
+                    TimeUnit.MILLISECONDS);
+            accessTokenBlacklistCache.publishRevoked(verifiedToken.getTokenId(),
+                expiration.getTime());
         }
     }
 
     /**
-     * Redis에서 Refresh token 키의 value와 user를 비교하여 저장된 refresh token의 유효성 확인
+     * Refresh Token 교체. 소유자 확인, 기존 토큰 삭제, 새 토큰 저장을 Redis script 로 한 번에 수행하므로 같은 refresh token 으로
+     * 동시에 들어온 요청 중 하나만 성공한다.
      *
-     * @param token refresh token
-     * @param email user email
+     * @param refreshToken    요청에 담긴 검증된 refresh token
+     * @param newRefreshToken 새로 발급한 검증된 refresh token
+     * @param email           user email
+     * @return 교체 결과
      */
-    public void verifyRefreshTokenEmailPair(String token, String email) {
-        String userEmail = stringRedisTemplate.opsForValue().get(REFRESH_TOKEN_PREFIX + token);
-        if (userEmail == null) {
-            throw new CustomException(ErrorCode.TOKEN_NOT_FOUND);
-        } else if (!userEmail.equals(email)) {
-            throw new CustomException(ErrorCode.REFRESH_TOKEN_USER_MISMATCH);
+    public RefreshTokenRotation rotateRefreshToken(VerifiedToken refreshToken,
+        VerifiedToken newRefreshToken, String email) {
+        verifyNotRevokedByUser(refreshToken);
+        long ttlMillis = newRefreshToken.getExpiration().getTime() - System.currentTimeMillis();
+        Long result = stringRedisTemplate.execute(ROTATE_REFRESH_TOKEN_SCRIPT,
+            List.of(REFRESH_TOKEN_PREFIX + refreshToken.getTokenId(),
+                REFRESH_TOKEN_PREFIX + newRefreshToken.getTokenId()), email,
+            String.valueOf(ttlMillis));
+        return RefreshTokenRotation.fromScriptResult(result);
+    }
+
+    /**
+     * 사용자의 access token이 black list에 올라가 있지 않은지 확인 (노드의 local 사본으로 확인하므로 Redis 조회 없음)
+     *
+     * @param verifiedToken
+     */
+    public void verifyNotDisabledAccessToken(VerifiedToken verifiedToken) {
+        if (accessTokenBlacklistCache.isRevoked(verifiedToken.getTokenId())) {
+            throw new CustomException(ErrorCode.INVALID_TOKEN);
         }
+        verifyNotRevokedByUser(verifiedToken);
     }
 
     /**
-     * Redis에 사용자의 access token이 black list로 저장되어 있지 않은지 확인
+     * 사용자의 모든 토큰(access, refresh)을 폐기 (OTP 재발급 등). 토큰 개수와 관계없이 Redis write 1회
      *
-     * @param token
      * @param email
      */
-    public void verifyNotDisabledAccessToken(String token, String email) {
-        String userEmail = stringRedisTemplate.opsForValue().get(DISABLED_TOKEN_PREFIX + token);
-        if (userEmail != null && userEmail.equals(email)) {
+    public void revokeAllTokensOfUser(String email) {
+        revocationEpochCache.revokeAllIssuedBefore(email);
+    }
+
+    /**
+     * 토큰이 사용자의 전체 폐기 시각 이후에 발급되었는지 확인 (노드의 local 사본으로 확인하므로 Redis 조회 없음)
+     *
+     * @param verifiedToken
+     */
+    public void verifyNotRevokedByUser(VerifiedToken verifiedToken) {
+        if (revocationEpochCache.isRevoked(verifiedToken.getEmail(),
+            verifiedToken.getIssuedAt())) {
             throw new CustomException(ErrorCode.INVALID_TOKEN);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * OTP step-up token 이 OTP 인증으로 발급되었고, 요청한 사용자(access token 의 subject)의 것인지 확인 (I/O 없음)
+     *
+     * @param stepUpToken 검증된 step-up token
+     * @param email       access token 으로 인증된 사용자 email
+     */
+    public void verifyOtpStepUpToken(VerifiedToken stepUpToken, String email) {
+        if (!JwtUtil.OTP_AUTH_METHOD.equals(stepUpToken.getAuthMethod())
+            || !stepUpToken.getEmail().equals(email)) {
+            throw new CustomException(ErrorCode.INVALID_OTP_CODE);
+        }
+        verifyNotRevokedByUser(stepUpToken);
+    }
+}
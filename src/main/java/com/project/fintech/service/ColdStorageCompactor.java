@@ -0,0 +1,133 @@
+package com.project.fintech.service;
+
+import com.project.fintech.persistence.coldstorage.ColdStorage;
+import com.project.fintech.persistence.coldstorage.ColdTransaction;
+import com.project.fintech.persistence.repository.ArchiveTaskRepository;
+import com.project.fintech.persistence.repository.ArchivedTransactionRepository;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * archive 를 마친 계좌의 archive 거래 내역을 cold storage segment 로 옮기고 archive table 에서 지우는 작업
+ * <p>
+ * ArchiveWorker 와 같이 작업마다 lease 를 잡고, 월 하나를 옮기는 transaction 마다 lease 를 연장하면서 작업 row 를 lock 하므로 여러
+ * 노드가 같은 계좌를 동시에 옮기지 않는다. segment 를 기록한 뒤 다시 읽어 확인한 다음에만 같은 transaction 에서 해당 월의 row 를
+ * 지운다. 기록 후 삭제 전에 실패하면 row 가 남아 lease 가 만료된 뒤 같은 segment 를 다시 기록하므로 중복이나 유실 없이 이어서 처리된다.
+ */
+@Slf4j
+@Component
+public class ColdStorageCompactor {
+
+    private final ArchiveTaskRepository archiveTaskRepository;
+    private final ArchivedTransactionRepository archivedTransactionRepository;
+    private final ColdStorage coldStorage;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration leaseDuration;
+    private final int batchSize;
+    private final String workerId = UUID.randomUUID().toString();
+
+    public ColdStorageCompactor(ArchiveTaskRepository archiveTaskRepository,
+        ArchivedTransactionRepository archivedTransactionRepository, ColdStorage coldStorage,
+        PlatformTransactionManager transactionManager,
+        @Value("${account.archive.lease-duration:PT1M}") Duration leaseDuration,
+        @Value("${account.archive.cold-storage.batch-size:10}") int batchSize) {
+        this.archiveTaskRepository = archiveTaskRepository;
+        this.archivedTransactionRepository = archivedTransactionRepository;
+        this.coldStorage = coldStorage;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.leaseDuration = leaseDuration;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * archive 를 마친 계좌를 batchSize 개까지 cold storage 로 옮김
+     *
+     * @return 옮긴 계좌 수
+     */
+    @Scheduled(initialDelayString = "${account.archive.cold-storage.compact-interval:PT10M}",
+        fixedDelayString = "${account.archive.cold-storage.compact-interval:PT10M}")
+    public int compactArchivedAccounts() {
+        int compacted = 0;
+        List<Long> taskIds = archiveTaskRepository.findCompactableIds(LocalDateTime.now(),
+            batchSize);
+        for (Long taskId : taskIds) {
+            try {
+                if (acquireLease(taskId) && compact(taskId)) {
+                    compacted++;
+                }
+            } catch (RuntimeException e) {
+                // lease 가 만료되면 다시 처리되므로 다음 작업으로 넘어간다
+                log.error("cold storage 로 옮기기 실패. taskId: {}", taskId, e);
+            }
+        }
+        return compacted;
+    }
+
+    private boolean acquireLease(Long taskId) {
+        LocalDateTime now = LocalDateTime.now();
+        Integer acquired = transactionTemplate.execute(
+            status -> archiveTaskRepository.acquireCompactionLease(taskId, workerId,
+                now.plus(leaseDuration), now));
+        return acquired != null && acquired == 1;
+    }
+
+    /**
+     * 작업 계좌의 archive 거래 내역을 월별 segment 로 옮기고 완료 처리
+     *
+     * @return 완료했으면 true, 도중에 lease 를 잃었으면 false
+     */
+    private boolean compact(Long taskId) {
+        Long accountId = archiveTaskRepository.findById(taskId).orElseThrow().getAccountId();
+        Optional<LocalDate> first = archivedTransactionRepository.findFirstTransactionDate(
+            accountId);
+        Optional<LocalDate> last = archivedTransactionRepository.findLastTransactionDate(
+            accountId);
+        if (first.isPresent() && last.isPresent()) {
+            for (YearMonth month = YearMonth.from(first.get());
+                !month.isAfter(YearMonth.from(last.get())); month = month.plusMonths(1)) {
+                if (!compactMonth(taskId, accountId, month)) {
+                    log.warn("cold storage 작업의 lease 를 잃어 중단. taskId: {}", taskId);
+                    return false;
+                }
+            }
+        }
+        Integer completed = transactionTemplate.execute(
+            status -> archiveTaskRepository.completeCompaction(taskId, workerId));
+        return completed != null && completed == 1;
+    }
+
+    private boolean compactMonth(Long taskId, Long accountId, YearMonth month) {
+        LocalDate from = month.atDay(1);
+        LocalDate to = month.atEndOfMonth();
+        Boolean compacted = transactionTemplate.execute(status -> {
+            if (archiveTaskRepository.renewCompactionLease(taskId, workerId,
+                LocalDateTime.now().plus(leaseDuration)) == 0) {
+                return false;
+            }
+            List<ColdTransaction> rows = archivedTransactionRepository.findColdTransactions(
+                accountId, from, to);
+            if (rows.isEmpty()) {
+                return true;
+            }
+            // 다시 읽어 확인한 segment 만 반환되므로 그 뒤에만 row 를 지운다
+            coldStorage.write(accountId, month, rows);
+            archivedTransactionRepository.deleteByAccountIdAndTransactionDateBetween(accountId,
+                from, to);
+            log.info("cold storage segment 기록. accountId: {}, month: {}, rows: {}", accountId,
+                month, rows.size());
+            return true;
+        });
+        return Boolean.TRUE.equals(compacted);
+    }
+}
@@ -0,0 +1,31 @@
+package com.project.fintech.service;
+
+import com.project.fintech.persistence.id.IdBlockSource;
+import org.springframework.stereotype.Component;
+
+/**
+ * INSERT ... SELECT 처럼 entity 를 거치지 않는 bulk insert 에 쓸 id 구간 예약
+ * <p>
+ * entity 의 @BlockId 와 같은 전용 connection pool 에서 예약하고 바로 commit 하므로 counter row 의 lock 은 bulk insert
+ * 동안 잡혀 있지 않다. 호출한 transaction 이 rollback 되어도 예약한 구간은 돌려주지 않는다 (id 가 비어도 중복은 없음).
+ */
+@Component
+public class IdBlockReserver {
+
+    private final IdBlockSource idBlockSource;
+
+    public IdBlockReserver(IdBlockSource idBlockSource) {
+        this.idBlockSource = idBlockSource;
+    }
+
+    /**
+     * id 구간 예약
+     *
+     * @param name id 발급 counter 이름 (IdGenerator 상수)
+     * @param size 예약할 id 개수
+     * @return [시작 id, 시작 id + size) 구간의 시작 id
+     */
+    public long reserve(String name, long size) {
+        return idBlockSource.reserve(name, size);
+    }
+}
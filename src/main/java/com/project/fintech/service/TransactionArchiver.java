@@ -0,0 +1,90 @@
+package com.project.fintech.service;
+
+import com.project.fintech.persistence.entity.IdGenerator;
+import com.project.fintech.persistence.repository.ArchivedTransactionRepository;
+import com.project.fintech.persistence.repository.TransactionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 계좌의 거래 내역을 archive table 로 옮기는 작업
+ * <p>
+ * 거래 내역을 entity 로 읽지 않고 id 구간(chunk) 마다 INSERT ... SELECT 와 DELETE 한 번씩만 실행하므로,
+ * 사용하는 memory 와 한 번에 옮기는 row 수는 거래 내역 수와 관계없이 chunk 크기로 제한되고, SQL 수는 chunk 수에 비례한다.
+ * <p>
+ * 계좌 삭제 시에는 ArchiveWorker 가 chunk 마다 짧은 transaction 으로 나누어 사용한다.
+ */
+@Slf4j
+@Component
+public class TransactionArchiver {
+
+    private final TransactionRepository transactionRepository;
+    private final ArchivedTransactionRepository archivedTransactionRepository;
+    private final IdBlockReserver idBlockReserver;
+    private final int chunkSize;
+
+    public TransactionArchiver(TransactionRepository transactionRepository,
+        ArchivedTransactionRepository archivedTransactionRepository,
+        IdBlockReserver idBlockReserver,
+        @Value("${account.archive.chunk-size:1000}") int chunkSize) {
+        this.transactionRepository = transactionRepository;
+        this.archivedTransactionRepository = archivedTransactionRepository;
+        this.idBlockReserver = idBlockReserver;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 계좌의 모든 거래 내역을 archive table 로 옮김
+     *
+     * @param accountId
+     * @return 옮긴 거래 내역 건수
+     */
+    @Transactional
+    public long archive(Long accountId) {
+        long archived = 0;
+        long afterId = 0;
+        Long upToId;
+        while ((upToId = nextChunkUpperBound(accountId, afterId)) != null) {
+            archived += archiveChunk(accountId, afterId, upToId);
+            afterId = upToId;
+        }
+        if (archived > 0) {
+            log.info("거래 내역 archive 완료. accountId: {}, count: {}", accountId, archived);
+        }
+        return archived;
+    }
+
+    /**
+     * 계좌의 거래 내역 중 (afterId, upToId] 구간을 archive table 로 옮김
+     *
+     * @return 옮긴 거래 내역 건수
+     */
+    long archiveChunk(Long accountId, long afterId, long upToId) {
+        long count = transactionRepository.countByAccountIdAndIdRange(accountId, afterId, upToId);
+        if (count == 0) {
+            return 0;
+        }
+        long firstId = idBlockReserver.reserve(IdGenerator.ARCHIVED_TRANSACTIONS, count);
+        int copied = archivedTransactionRepository.copyFromTransactions(accountId, afterId,
+            upToId, firstId);
+        int deleted = transactionRepository.deleteByAccountIdAndIdRange(accountId, afterId,
+            upToId);
+        if (copied != deleted) {
+            // 같은 transaction 안에서 복사와 삭제 사이에 구간의 거래 내역이 바뀐 경우 (rollback 해서 유실을 막는다)
+            throw new IllegalStateException(
+                "archive 한 거래 내역 수와 삭제한 수가 다릅니다. accountId: " + accountId + ", copied: "
+                    + copied + ", deleted: " + deleted);
+        }
+        return copied;
+    }
+
+    /**
+     * afterId 다음 chunk 의 마지막 id. 남은 거래 내역이 chunk 보다 적으면 남은 것의 마지막 id, 없으면 null
+     */
+    Long nextChunkUpperBound(Long accountId, long afterId) {
+        Long upToId = transactionRepository.findIdAtOffset(accountId, afterId, chunkSize - 1);
+        return upToId != null ? upToId : transactionRepository.findMaxIdAfter(accountId, afterId);
+    }
+}
@@ -0,0 +1,81 @@
+package com.project.fintech.service;
+
+import com.project.fintech.exception.CustomException;
+import com.project.fintech.exception.ErrorCode;
+import com.project.fintech.model.dto.domain.TransactionDto;
+import com.project.fintech.model.dto.domain.TransactionMapper;
+import com.project.fintech.persistence.coldstorage.ColdStorage;
+import com.project.fintech.persistence.coldstorage.ColdTransaction;
+import com.project.fintech.persistence.repository.AccountRepository;
+import com.project.fintech.persistence.repository.ArchivedTransactionRepository;
+import com.project.fintech.persistence.repository.TransactionRepository;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 거래 내역 조회. transactions(hot), archived_transactions, cold storage segment 에 나뉘어 있는 거래 내역을 합쳐서
+ * 거래 시각 순으로 반환한다.
+ * <p>
+ * TransactionArchiver 는 거래 내역을 archive table 로 복사하고 지우는 것을 한 transaction 에서 하므로, hot 과 archive 를 같은
+ * snapshot(REPEATABLE_READ) 에서 읽으면 빠지거나 두 번 나오는 거래 내역이 없다. ColdStorageCompactor 는 segment 를 먼저 기록하고
+ * row 를 지우므로 archive 를 읽은 뒤에 segment 를 읽는다. 그 사이에 옮겨진 월은 양쪽에 모두 보이는데, segment 는 archive id 를 그대로
+ * 가지고 있으므로 id 로 중복을 걸러낸다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TransactionHistoryService {
+
+    private static final Comparator<TransactionDto> HISTORY_ORDER = Comparator.comparing(
+        TransactionDto::getTransactionDate).thenComparing(TransactionDto::getTransactionTime);
+
+    private final AccountRepository accountRepository;
+    private final TransactionRepository transactionRepository;
+    private final ArchivedTransactionRepository archivedTransactionRepository;
+    private final ColdStorage coldStorage;
+    private final TransactionMapper transactionMapper;
+
+    /**
+     * 사용자 계좌의 거래일이 from ~ to(포함) 인 거래 내역 조회
+     *
+     * @param userId
+     * @param accountId
+     * @param from
+     * @param to
+     * @return (거래일, 거래시각) 순 거래 내역
+     */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public List<TransactionDto> getTransactionHistory(Long userId, Long accountId,
+        LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new CustomException(ErrorCode.INVALID_TRANSACTION_PERIOD);
+        }
+        if (!accountRepository.existsActiveAccount(accountId, userId)) {
+            throw new CustomException(ErrorCode.ACCOUNT_NOT_FOUND);
+        }
+
+        List<TransactionDto> history = new ArrayList<>(
+            transactionRepository.findTransactionDtos(accountId, from, to));
+        Map<Long, ColdTransaction> archived = new LinkedHashMap<>();
+        for (ColdTransaction transaction : archivedTransactionRepository.findColdTransactions(
+            accountId, from, to)) {
+            archived.put(transaction.id(), transaction);
+        }
+        // archive 를 읽은 뒤에 읽어야 그 사이 compaction 된 월이 빠지지 않는다
+        for (ColdTransaction transaction : coldStorage.read(accountId, from, to)) {
+            archived.putIfAbsent(transaction.id(), transaction);
+        }
+        for (ColdTransaction transaction : archived.values()) {
+            history.add(transactionMapper.toTransactionDto(transaction));
+        }
+        history.sort(HISTORY_ORDER);
+        return history;
+    }
+}
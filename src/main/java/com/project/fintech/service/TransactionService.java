@@ -0,0 +1,133 @@
+package com.project.fintech.service;
+
+import com.project.fintech.exception.CustomException;
+import com.project.fintech.exception.ErrorCode;
+import com.project.fintech.model.dto.domain.AccountDto;
+import com.project.fintech.model.type.TransactionType;
+import com.project.fintech.persistence.entity.Transaction;
+import com.project.fintech.persistence.repository.AccountRepository;
+import com.project.fintech.persistence.repository.TransactionRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 입금, 출금, 송금 처리
+ * <p>
+ * 잔액은 entity 로 읽어서 고쳐 쓰지 않고 조건부 UPDATE 한 번으로 바꾼다. row lock 은 UPDATE 부터 commit 까지만 잡히고
+ * SELECT ... FOR UPDATE 로 미리 잠그지 않으므로 같은 계좌에 요청이 몰려도 갱신이 사라지거나 잔액이 음수가 되지 않는다.
+ * 거래 내역은 같은 transaction 에서 저장하므로 잔액 변경과 함께 commit 되거나 함께 rollback 된다.
+ * <p>
+ * 송금은 두 계좌를 항상 id 가 작은 계좌부터 UPDATE 한다. 반대 방향 송금이 동시에 들어와도 row lock 을 같은 순서로 잡으므로
+ * 서로를 기다리는 deadlock 이 생기지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TransactionService {
+
+    private final AccountRepository accountRepository;
+    private final TransactionRepository transactionRepository;
+
+    /**
+     * 사용자의 계좌에 입금
+     *
+     * @param userId
+     * @param accountId
+     * @param amount    0보다 큰 금액
+     * @param memo
+     * @return 입금 후 계좌 DTO
+     */
+    @Transactional
+    public AccountDto deposit(Long userId, Long accountId, Long amount, String memo) {
+        if (accountRepository.increaseActiveBalance(accountId, userId, amount) == 0) {
+            throw new CustomException(ErrorCode.ACCOUNT_NOT_FOUND);
+        }
+        return record(userId, accountId, amount, TransactionType.DEPOSIT, memo);
+    }
+
+    /**
+     * 사용자의 계좌에서 출금. 잔액이 부족하면 잔액을 바꾸지 않는다.
+     *
+     * @param userId
+     * @param accountId
+     * @param amount    0보다 큰 금액
+     * @param memo
+     * @return 출금 후 계좌 DTO
+     */
+    @Transactional
+    public AccountDto withdraw(Long userId, Long accountId, Long amount, String memo) {
+        debit(userId, accountId, amount);
+        return record(userId, accountId, -amount, TransactionType.WITHDRAW, memo);
+    }
+
+    /**
+     * 사용자의 계좌에서 다른 계좌로 송금. 보낸 계좌와 받은 계좌에 TRANSFER 거래 내역을 한 쌍으로 남긴다.
+     *
+     * @param userId
+     * @param accountId              보내는 계좌 id
+     * @param recipientAccountNumber 받는 계좌번호
+     * @param amount                 0보다 큰 금액
+     * @param memo
+     * @return 송금 후 보낸 계좌 DTO
+     */
+    @Transactional
+    public AccountDto transfer(Long userId, Long accountId, String recipientAccountNumber,
+        Long amount, String memo) {
+        Long recipientAccountId = accountRepository.findActiveAccountId(recipientAccountNumber)
+            .orElseThrow(() -> new CustomException(ErrorCode.RECIPIENT_ACCOUNT_NOT_FOUND));
+        if (recipientAccountId.equals(accountId)) {
+            throw new CustomException(ErrorCode.TRANSFER_TO_SAME_ACCOUNT);
+        }
+        if (accountId < recipientAccountId) {
+            debit(userId, accountId, amount);
+            credit(recipientAccountId, amount);
+        } else {
+            credit(recipientAccountId, amount);
+            debit(userId, accountId, amount);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        transactionRepository.saveAll(List.of(
+            posting(accountId, -amount, TransactionType.TRANSFER, recipientAccountId, memo, now),
+            posting(recipientAccountId, amount, TransactionType.TRANSFER, accountId, memo, now)));
+        return findAccountDto(userId, accountId);
+    }
+
+    private void debit(Long userId, Long accountId, Long amount) {
+        // UPDATE 가 실패한 이유만 확인한다 (성공한 요청은 이 query 를 하지 않음)
+        if (accountRepository.decreaseActiveBalance(accountId, userId, amount) == 0) {
+            throw new CustomException(accountRepository.existsActiveAccount(accountId, userId)
+                ? ErrorCode.INSUFFICIENT_BALANCE : ErrorCode.ACCOUNT_NOT_FOUND);
+        }
+    }
+
+    private void credit(Long recipientAccountId, Long amount) {
+        // 계좌번호를 확인한 뒤 해지된 경우
+        if (accountRepository.creditActiveBalance(recipientAccountId, amount) == 0) {
+            throw new CustomException(ErrorCode.RECIPIENT_ACCOUNT_NOT_FOUND);
+        }
+    }
+
+    private AccountDto record(Long userId, Long accountId, Long signedAmount,
+        TransactionType transactionType, String memo) {
+        transactionRepository.save(posting(accountId, signedAmount, transactionType, null, memo,
+            LocalDateTime.now()));
+        return findAccountDto(userId, accountId);
+    }
+
+    private Transaction posting(Long accountId, Long signedAmount,
+        TransactionType transactionType, Long recipientAccountId, String memo,
+        LocalDateTime now) {
+        return Transaction.builder().account(accountRepository.getReferenceById(accountId))
+            .amount(signedAmount).transactionType(transactionType)
+            .recipientAccountId(recipientAccountId).memo(memo)
+            .transactionDate(now.toLocalDate()).transactionTime(now.toLocalTime()).build();
+    }
+
+    private AccountDto findAccountDto(Long userId, Long accountId) {
+        return accountRepository.findActiveAccountDto(accountId, userId)
+            .orElseThrow(() -> new CustomException(ErrorCode.ACCOUNT_NOT_FOUND));
+    }
+}
@@ -0,0 +1,14 @@
+-- 계좌번호 counter 구간을 노드별로 임대하기 위한 table
+CREATE TABLE account_number_sequences
+(
+    name       VARCHAR(50) NOT NULL
+        PRIMARY KEY,
+    next_value BIGINT      NOT NULL
+);
+
+INSERT INTO account_number_sequences (name, next_value)
+VALUES ('account_number', 0);
+
+-- entity 의 unique 제약을 DB 에도 적용
+ALTER TABLE accounts
+    ADD CONSTRAINT account_number_unique UNIQUE (account_number);
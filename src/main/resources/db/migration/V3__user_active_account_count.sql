@@ -0,0 +1,10 @@
+-- 계좌 개수 한도를 조건부 update 한 번으로 확인하기 위한 사용자별 활성 계좌 수
+ALTER TABLE users
+    ADD COLUMN active_account_count INT DEFAULT 0 NOT NULL;
+
+-- status 는 enum ordinal('0') 로 저장되어 왔으므로 이름과 함께 확인
+UPDATE users u
+SET active_account_count = (SELECT COUNT(*)
+                            FROM accounts a
+                            WHERE a.user_id = u.id
+                              AND a.status IN ('0', 'ACTIVE'));
@@ -0,0 +1,13 @@
+-- 사용자별 계좌 조회/개수 (findByUserAndStatus, countByUserAndStatus)
+CREATE INDEX idx_accounts_user_id_status ON accounts (user_id, status);
+
+-- 계좌별 거래 내역 조회 (거래일시 순)
+CREATE INDEX idx_transactions_account_id_date_time
+    ON transactions (account_id, transaction_date, transaction_time);
+
+-- 보관 거래 내역도 계좌별로 조회한다 (FK 가 없어 index 가 자동으로 생기지 않음)
+CREATE INDEX idx_archived_transactions_account_id_date_time
+    ON archived_transactions (account_id, transaction_date, transaction_time);
+
+-- 사용자별 OTP secret key 조회 (findByUser, email join)
+CREATE INDEX idx_otp_secret_keys_user_id ON otp_secret_keys (user_id);
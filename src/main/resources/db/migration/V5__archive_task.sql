@@ -0,0 +1,19 @@
+-- 삭제한 계좌의 거래 내역 archive 작업 (background worker 가 lease 를 잡고 chunk 단위로 처리)
+CREATE TABLE archive_tasks
+(
+    id                BIGINT AUTO_INCREMENT
+        PRIMARY KEY,
+    create_at         DATETIME(6) NOT NULL,
+    modified_at       DATETIME(6) NOT NULL,
+    account_id        BIGINT      NOT NULL,
+    status            VARCHAR(20) NOT NULL,
+    last_archived_id  BIGINT      NOT NULL DEFAULT 0,
+    archived_count    BIGINT      NOT NULL DEFAULT 0,
+    lease_owner       VARCHAR(64) NULL,
+    lease_until       DATETIME(6) NULL,
+
+    CONSTRAINT archive_task_account_unique UNIQUE (account_id)
+);
+
+-- 처리할 작업 조회 (status = 'PENDING' 이고 lease 가 없거나 만료된 작업)
+CREATE INDEX idx_archive_tasks_status_lease_until ON archive_tasks (status, lease_until);
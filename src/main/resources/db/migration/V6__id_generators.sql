@@ -0,0 +1,16 @@
+-- 대량으로 insert 하는 table 의 id 발급 counter (entity 의 @BlockId 와 bulk insert 의 id 구간 예약이 함께 사용)
+-- next_value 부터 block 단위로 예약해 가므로 JDBC batch insert 가 가능하다
+CREATE TABLE id_generators
+(
+    name       VARCHAR(50) NOT NULL
+        PRIMARY KEY,
+    next_value BIGINT      NOT NULL
+);
+
+INSERT INTO id_generators (name, next_value)
+SELECT 'transactions', COALESCE(MAX(id), 0) + 1
+FROM transactions;
+
+INSERT INTO id_generators (name, next_value)
+SELECT 'archived_transactions', COALESCE(MAX(id), 0) + 1
+FROM archived_transactions;
@@ -0,0 +1,9 @@
+-- 계좌번호 counter 를 id_generators 로 옮긴다
+-- 구간 임대를 id 구간 예약과 같은 전용 connection pool 에서 하므로 계좌 생성 transaction 이
+-- main pool 의 connection 을 하나 더 기다리지 않는다
+INSERT INTO id_generators (name, next_value)
+SELECT name, next_value
+FROM account_number_sequences
+WHERE name = 'account_number';
+
+DROP TABLE account_number_sequences;
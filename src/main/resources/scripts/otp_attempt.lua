@@ -0,0 +1,16 @@
+-- OTP 인증 시도 횟수 확인과 증가, TTL 설정(현재 TOTP 주기 종료 시각)을 한 번에 수행
+-- KEYS[1]: 시도 횟수 key
+-- ARGV[1]: 주기당 최대 시도 횟수, ARGV[2]: TOTP 주기(seconds)
+-- return: {허용 여부(1/0), 남은 시도 횟수}
+local limit = tonumber(ARGV[1])
+local count = tonumber(redis.call('GET', KEYS[1]) or '0')
+if count >= limit then
+    return {0, 0}
+end
+count = redis.call('INCR', KEYS[1])
+if count == 1 then
+    local now = tonumber(redis.call('TIME')[1])
+    local period = tonumber(ARGV[2])
+    redis.call('EXPIREAT', KEYS[1], now - (now % period) + period)
+end
+return {1, limit - count}
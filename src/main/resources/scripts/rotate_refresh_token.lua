@@ -0,0 +1,14 @@
+-- Refresh Token 교체 (소유자 확인 -> 기존 토큰 삭제 -> 새 토큰 저장)를 한 번에 수행
+-- KEYS[1]: 기존 refresh token key, KEYS[2]: 새 refresh token key
+-- ARGV[1]: user email, ARGV[2]: 새 refresh token TTL(millis)
+-- return: 1 교체 완료, 0 기존 토큰 없음, -1 사용자 불일치
+local owner = redis.call('GET', KEYS[1])
+if not owner then
+    return 0
+end
+if owner ~= ARGV[1] then
+    return -1
+end
+redis.call('DEL', KEYS[1])
+redis.call('SET', KEYS[2], ARGV[1], 'PX', ARGV[2])
+return 1
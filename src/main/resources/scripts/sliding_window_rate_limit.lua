@@ -0,0 +1,18 @@
+-- 여러 key(IP, email)의 sliding window 요청 수를 한 번에 확인하고, 모두 한도 미만일 때만 요청을 기록
+-- KEYS[i]: window key
+-- ARGV[1]: window(millis), ARGV[2]: 요청 id, ARGV[2 + i]: KEYS[i] 의 한도
+-- return: 1 허용, 0 거절
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+local window = tonumber(ARGV[1])
+for i, key in ipairs(KEYS) do
+    redis.call('ZREMRANGEBYSCORE', key, '-inf', now - window)
+    if redis.call('ZCARD', key) >= tonumber(ARGV[2 + i]) then
+        return 0
+    end
+end
+for _, key in ipairs(KEYS) do
+    redis.call('ZADD', key, now, ARGV[2])
+    redis.call('PEXPIRE', key, window)
+end
+return 1
@@ -1,10 +1,13 @@
 package com.project.fintech;
 
+import com.project.fintech.config.IdBlockConfig;
 import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
 @TestConfiguration
 @EnableJpaAuditing
+@Import(IdBlockConfig.class)
 public class TestConfig {
 
 }
@@ -9,6 +9,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.fintech.auth.AuthPrincipal;
 import com.project.fintech.builder.AccountTestDataBuilder;
 import com.project.fintech.exception.CustomException;
 import com.project.fintech.exception.ErrorCode;
@@ -75,7 +76,7 @@ public class AccountIntegrationTest {
 
         SecurityContext emptyContext = SecurityContextHolder.createEmptyContext();
         emptyContext.setAuthentication(
-            new UsernamePasswordAuthenticationToken(testUser.getEmail(), testUser.getPassword(),
+            new UsernamePasswordAuthenticationToken(AuthPrincipal.from(testUser), null,
                 List.of(new SimpleGrantedAuthority("ROLE_USER"))));
         SecurityContextHolder.setContext(emptyContext);
     }
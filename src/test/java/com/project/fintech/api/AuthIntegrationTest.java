@@ -1,6 +1,7 @@
 package com.project.fintech.api;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -8,8 +9,12 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.fintech.auth.AuthPrincipal;
 import com.project.fintech.auth.jwt.JwtUtil;
+import com.project.fintech.auth.jwt.VerifiedToken;
 import com.project.fintech.auth.otp.OtpUtil;
+import com.project.fintech.exception.CustomException;
+import com.project.fintech.exception.ErrorCode;
 import com.project.fintech.model.dto.IssueTokenRequestDto;
 import com.project.fintech.model.dto.LoginRequestDto;
 import com.project.fintech.model.dto.LogoutRequestDto;
@@ -26,6 +31,7 @@ import com.project.fintech.service.AuthService;
 import com.warrenstrange.googleauth.GoogleAuthenticator;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.Date;
 import java.util.Objects;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
@@ -41,6 +47,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
@@ -127,6 +134,30 @@ public class AuthIntegrationTest {
             .andExpect(jsonPath("$.data.refreshToken").exists());
     }
 
+    @Test
+    @DisplayName("Login - 성공 - 설정보다 낮은 cost 로 저장된 password hash 는 로그인 시 새 cost 로 갱신")
+    void loginTest_UpgradesPasswordHash_WhenStoredCostIsLower() throws Exception {
+        //given
+        String userEmail = "lowCostHash@test.com";
+        String password = "11111111";
+        String lowCostHash = new BCryptPasswordEncoder(4).encode(password);
+        userRepository.save(User.builder().name("name").phone("01010001000").email(userEmail)
+            .isVerifiedEmail(true).isOtpRegistered(true).password(lowCostHash).build());
+        LoginRequestDto loginRequestDto = LoginRequestDto.builder().email(userEmail)
+            .password(password).build();
+
+        //when
+        mockMvc.perform(post("/auth/login").contentType("application/json;charset=UTF-8")
+                .content(objectMapper.writeValueAsString(loginRequestDto)))
+            .andExpect(jsonPath("$.code").value(HttpServletResponse.SC_OK));
+
+        //then
+        String upgradedHash = userRepository.findByEmail(userEmail).orElseThrow().getPassword();
+        assertThat(upgradedHash).isNotEqualTo(lowCostHash);
+        assertThat(passwordEncoder.upgradeEncoding(upgradedHash)).isFalse();
+        assertThat(passwordEncoder.matches(password, upgradedHash)).isTrue();
+    }
+
     @Test
     @DisplayName("Login - 실패  - 이메일에 해당하는 회원이 존재 하지 않을 때")
     void loginTestWithGenerateTokens_Fail_WhenNotFoundUser() throws Exception {
@@ -149,7 +180,9 @@ public class AuthIntegrationTest {
         //given
         String userEmail = "prinarrow1219@gmail.com";
         String refreshToken = jwtUtil.generateRefreshToken(userEmail);
-        stringRedisTemplate.opsForValue().set("JWT_REFRESH_TOKEN::" + refreshToken, userEmail);
+        stringRedisTemplate.opsForValue()
+            .set(REFRESH_TOKEN_PREFIX + jwtUtil.parseVerifiedToken(refreshToken).getTokenId(),
+                userEmail);
 
         IssueTokenRequestDto issueTokenRequestDto = IssueTokenRequestDto.builder()
             .refreshToken(refreshToken).email(userEmail).build();
@@ -167,7 +200,7 @@ public class AuthIntegrationTest {
             });
         String newRefreshToken = tokenPairDtoResponseDto.getData().getRefreshToken();
         String result = stringRedisTemplate.opsForValue()
-            .get(REFRESH_TOKEN_PREFIX + newRefreshToken);
+            .get(REFRESH_TOKEN_PREFIX + jwtUtil.parseVerifiedToken(newRefreshToken).getTokenId());
         assertThat(result).isEqualTo(userEmail);
     }
 
@@ -176,8 +209,11 @@ public class AuthIntegrationTest {
     void logoutTestWithInvalidatesTokens_Success() throws Exception {
         String userEmail = "prinarrow1219@gmail.com";
         String refreshToken = jwtUtil.generateRefreshToken(userEmail);
-        String accessToken = jwtUtil.generateAccessToken(userEmail);
-        stringRedisTemplate.opsForValue().set("JWT_REFRESH_TOKEN::" + refreshToken, userEmail);
+        String accessToken = jwtUtil.generateAccessToken(
+            AuthPrincipal.from(userRepository.findByEmail(userEmail).orElseThrow()));
+        stringRedisTemplate.opsForValue()
+            .set(REFRESH_TOKEN_PREFIX + jwtUtil.parseVerifiedToken(refreshToken).getTokenId(),
+                userEmail);
         LogoutRequestDto logoutRequestDto = LogoutRequestDto.builder().accessToken(accessToken)
             .refreshToken(refreshToken).build();
         String logoutRequestDtoJson = objectMapper.writeValueAsString(logoutRequestDto);
@@ -187,10 +223,33 @@ public class AuthIntegrationTest {
             .content(logoutRequestDtoJson)).andDo(print());
 
         String redisRefreshToken = stringRedisTemplate.opsForValue()
-            .get(REFRESH_TOKEN_PREFIX + logoutRequestDto.getRefreshToken());
+            .get(REFRESH_TOKEN_PREFIX + jwtUtil.parseVerifiedToken(refreshToken).getTokenId());
         assertThat(redisRefreshToken).isNullOrEmpty();
         String redisAccessToken = stringRedisTemplate.opsForValue()
-            .get(DISABLED_TOKEN_PREFIX + logoutRequestDto.getAccessToken());
+            .get(DISABLED_TOKEN_PREFIX + jwtUtil.parseVerifiedToken(accessToken).getTokenId());
+        assertThat(redisAccessToken).isEqualTo(userEmail);
+    }
+
+    @Test
+    @DisplayName("Logout시 JWT token 처리 - 성공 - refresh token 이 만료되었어도 access token 은 black list 에 저장")
+    void logoutTestWithExpiredRefreshToken_BlacklistsAccessToken() throws Exception {
+        //given
+        String userEmail = "prinarrow1219@gmail.com";
+        String expiredRefreshToken = jwtUtil.tokenBuilder(userEmail)
+            .expiration(new Date(System.currentTimeMillis() - 1000)).compact();
+        String accessToken = jwtUtil.generateAccessToken(
+            AuthPrincipal.from(userRepository.findByEmail(userEmail).orElseThrow()));
+        LogoutRequestDto logoutRequestDto = LogoutRequestDto.builder().accessToken(accessToken)
+            .refreshToken(expiredRefreshToken).build();
+
+        //when
+        mockMvc.perform(post("/auth/logout").contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(objectMapper.writeValueAsString(logoutRequestDto)))
+            .andExpect(status().isOk());
+
+        //then
+        String redisAccessToken = stringRedisTemplate.opsForValue()
+            .get(DISABLED_TOKEN_PREFIX + jwtUtil.parseVerifiedToken(accessToken).getTokenId());
         assertThat(redisAccessToken).isEqualTo(userEmail);
     }
 
@@ -216,11 +275,22 @@ public class AuthIntegrationTest {
         String otpVerificationDtoJson = objectMapper.writeValueAsString(otpVerificationDto);
 
         //when & then
-        mockMvc.perform(post("/auth/otp/verify").contentType(MediaType.APPLICATION_JSON_VALUE)
-            .content(otpVerificationDtoJson))
+        MvcResult mvcResult = mockMvc.perform(
+                post("/auth/otp/verify").contentType(MediaType.APPLICATION_JSON_VALUE)
+                    .content(otpVerificationDtoJson))
             .andExpect(status().is(HttpServletResponse.SC_OK))
             .andExpect(jsonPath("$.message").value(Message.COMPLETE_VERIFY_OTP.getMessage()))
-            .andDo(print());
+            .andDo(print()).andReturn();
+
+        // session 대신 사용자에게 묶인 짧은 수명의 step-up token 을 반환
+        ResponseDto<String> responseDto = objectMapper.readValue(
+            mvcResult.getResponse().getContentAsString(), new TypeReference<>() {
+            });
+        VerifiedToken stepUpToken = jwtUtil.parseVerifiedToken(responseDto.getData());
+        assertThat(stepUpToken.getEmail()).isEqualTo(userEmail);
+        assertThat(stepUpToken.getAuthMethod()).isEqualTo(JwtUtil.OTP_AUTH_METHOD);
+        assertThat(stepUpToken.getExpiration().getTime() - stepUpToken.getIssuedAt().getTime())
+            .isLessThanOrEqualTo(JwtUtil.OTP_STEP_UP_TOKEN_TTL_MILLIS);
     }
 
     @Test
@@ -237,6 +307,7 @@ public class AuthIntegrationTest {
         user.setUserSecretKey(otpSecretKey);
         userRepository.save(user);
 
+        String accessTokenBeforeReset = jwtUtil.generateAccessToken(AuthPrincipal.from(user));
         UserEmailDto userEmailDto = UserEmailDto.builder().email(userEmail).build();
         String userEmailDtoJson = objectMapper.writeValueAsString(userEmailDto);
 
@@ -251,5 +322,11 @@ public class AuthIntegrationTest {
         String secretKeyBeforeReset = otpSecretKey.getSecretKey();
         String secretKeyAfterReset = user.getOtpSecretKey().getSecretKey();
         assertThat(secretKeyBeforeReset).isNotEqualTo(secretKeyAfterReset);
+
+        // 재발급 이전에 발급된 토큰은 모두 폐기
+        VerifiedToken revokedToken = jwtUtil.parseVerifiedToken(accessTokenBeforeReset);
+        assertThatThrownBy(() -> authService.verifyNotDisabledAccessToken(revokedToken))
+            .isInstanceOf(CustomException.class).extracting("errorCode")
+            .isEqualTo(ErrorCode.INVALID_TOKEN);
     }
 }
@@ -0,0 +1,94 @@
+package com.project.fintech.auth;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+
+import com.project.fintech.exception.CustomException;
+import com.project.fintech.exception.ErrorCode;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+class BoundedPasswordEncoderTest {
+
+    private BoundedPasswordEncoder boundedPasswordEncoder;
+
+    @AfterEach
+    void tearDown() {
+        boundedPasswordEncoder.destroy();
+    }
+
+    @Test
+    @DisplayName("hash 계산은 전용 pool 에서 수행하고 결과는 원래 encoder 와 같음")
+    void encodeAndMatches_Success() {
+        //given
+        boundedPasswordEncoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 2, 4,
+            Duration.ofSeconds(5));
+
+        //when
+        String encoded = boundedPasswordEncoder.encode("11111111");
+
+        //then
+        assertThat(boundedPasswordEncoder.matches("11111111", encoded)).isTrue();
+        assertThat(boundedPasswordEncoder.matches("22222222", encoded)).isFalse();
+    }
+
+    @Test
+    @DisplayName("pool 과 대기열이 가득 차면 기다리지 않고 바로 거절")
+    void matches_Fail_WhenPoolIsSaturated() throws Exception {
+        //given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blockingEncoder = new BCryptPasswordEncoder(4) {
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return true;
+            }
+        };
+        boundedPasswordEncoder = new BoundedPasswordEncoder(blockingEncoder, 1, 1,
+            Duration.ofSeconds(5));
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(
+            () -> boundedPasswordEncoder.matches("password", "hash"));
+        started.await(5, TimeUnit.SECONDS);
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(
+            () -> boundedPasswordEncoder.matches("password", "hash"));
+        Thread.sleep(100);
+
+        //when & then
+        long startNanos = System.nanoTime();
+        assertThatThrownBy(() -> boundedPasswordEncoder.matches("password", "hash")).isInstanceOf(
+                CustomException.class).extracting("errorCode")
+            .isEqualTo(ErrorCode.PASSWORD_HASHING_OVERLOADED);
+        assertThat(System.nanoTime() - startNanos).isLessThan(TimeUnit.MILLISECONDS.toNanos(500));
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("저장된 hash 의 cost 가 설정보다 낮으면 upgrade 필요")
+    void upgradeEncoding_True_WhenStoredCostIsLower() {
+        //given
+        boundedPasswordEncoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(6), 1, 1,
+            Duration.ofSeconds(5));
+        String lowCostHash = new BCryptPasswordEncoder(4).encode("11111111");
+        String currentCostHash = new BCryptPasswordEncoder(6).encode("11111111");
+
+        //when & then
+        assertThat(boundedPasswordEncoder.upgradeEncoding(lowCostHash)).isTrue();
+        assertThat(boundedPasswordEncoder.upgradeEncoding(currentCostHash)).isFalse();
+    }
+}
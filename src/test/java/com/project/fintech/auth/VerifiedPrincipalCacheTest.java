@@ -0,0 +1,124 @@
+package com.project.fintech.auth;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.project.fintech.auth.jwt.VerifiedToken;
+import com.project.fintech.exception.CustomException;
+import com.project.fintech.exception.ErrorCode;
+import com.project.fintech.model.type.Role;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+class VerifiedPrincipalCacheTest {
+
+    private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+    private final NearCacheChannel nearCacheChannel = mock(NearCacheChannel.class);
+    private final VerifiedPrincipalCache verifiedPrincipalCache = new VerifiedPrincipalCache(
+        stringRedisTemplate, nearCacheChannel);
+
+    private VerifiedToken accessToken(String token, String email, Role role, long issuedAt) {
+        return VerifiedToken.builder().token(token).userId(1L).email(email).role(role)
+            .issuedAt(new Date(issuedAt)).expiration(new Date(issuedAt + 1000 * 60 * 15))
+            .build();
+    }
+
+    @Test
+    @DisplayName("같은 토큰은 cache 에서 꺼내고 서명 검증을 다시 하지 않음")
+    void getOrVerify_Success_WhenCached() {
+        //given
+        AtomicInteger verifyCount = new AtomicInteger();
+        VerifiedToken verifiedToken = accessToken("token", "test@test.com", Role.USER,
+            System.currentTimeMillis());
+
+        //when
+        verifiedPrincipalCache.getOrVerify("token", token -> {
+            verifyCount.incrementAndGet();
+            return verifiedToken;
+        });
+        VerifiedToken cached = verifiedPrincipalCache.getOrVerify("token", token -> {
+            verifyCount.incrementAndGet();
+            return verifiedToken;
+        });
+
+        //then
+        assertThat(cached).isEqualTo(verifiedToken);
+        assertThat(verifyCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Refresh Token(user id, role claim 없음)으로는 인증 실패")
+    void getOrVerify_Fail_WhenNotAccessToken() {
+        //given
+        VerifiedToken refreshToken = VerifiedToken.builder().token("refresh")
+            .email("test@test.com").issuedAt(new Date())
+            .expiration(new Date(System.currentTimeMillis() + 1000 * 60)).build();
+
+        //when & then
+        assertThatThrownBy(
+            () -> verifiedPrincipalCache.getOrVerify("refresh", token -> refreshToken)).isInstanceOf(
+            CustomException.class).extracting("errorCode").isEqualTo(ErrorCode.INVALID_TOKEN);
+    }
+
+    @Test
+    @DisplayName("role 변경 이전에 발급된 토큰은 변경된 role 로 principal 생성")
+    void toPrincipal_UsesChangedRole_WhenRoleChangedAfterIssue() {
+        //given
+        String email = "test@test.com";
+        VerifiedToken issuedBeforeChange = accessToken("token", email, Role.USER,
+            System.currentTimeMillis() - 1000 * 60);
+        verifiedPrincipalCache.getOrVerify("token", token -> issuedBeforeChange);
+        when(stringRedisTemplate.opsForValue()).thenReturn(mock(ValueOperations.class));
+
+        //when
+        verifiedPrincipalCache.evictUser(email, Role.PENDING);
+        AuthPrincipal principal = verifiedPrincipalCache.toPrincipal(issuedBeforeChange);
+
+        //then
+        assertThat(principal.getRole()).isEqualTo(Role.PENDING);
+        assertThat(principal.getName()).isEqualTo(email);
+        verify(nearCacheChannel).publish(eq(VerifiedPrincipalCache.ROLE_CHANGE_CHANNEL),
+            eq(email), startsWith(Role.PENDING.name()));
+    }
+
+    @Test
+    @DisplayName("다른 노드가 전파한 role 변경 반영, 이전 변경이 늦게 도착해도 최근 변경 유지")
+    void onUpdate_AppliesLatestRoleChangeFromOtherNode() {
+        //given
+        String email = "test@test.com";
+        long now = System.currentTimeMillis();
+        VerifiedToken issuedBeforeChange = accessToken("token", email, Role.USER,
+            now - 1000 * 60);
+
+        //when
+        verifiedPrincipalCache.onUpdate(email, Role.PENDING.name() + "," + now);
+        verifiedPrincipalCache.onUpdate(email, Role.ADMIN.name() + "," + (now - 1000));
+
+        //then
+        assertThat(verifiedPrincipalCache.toPrincipal(issuedBeforeChange).getRole()).isEqualTo(
+            Role.PENDING);
+    }
+
+    @Test
+    @DisplayName("role 변경 이후 발급된 토큰은 토큰의 role 사용")
+    void toPrincipal_UsesTokenRole_WhenIssuedAfterRoleChange() {
+        //given
+        String email = "test@test.com";
+        long changedAt = System.currentTimeMillis() - 1000;
+        verifiedPrincipalCache.onUpdate(email, Role.PENDING.name() + "," + changedAt);
+        VerifiedToken issuedAfterChange = accessToken("token", email, Role.USER, changedAt + 1);
+
+        //when & then
+        assertThat(verifiedPrincipalCache.toPrincipal(issuedAfterChange).getRole()).isEqualTo(
+            Role.USER);
+    }
+}
@@ -0,0 +1,117 @@
+package com.project.fintech.auth.jwt;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatCode;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import com.project.fintech.auth.AuthPrincipal;
+import com.project.fintech.exception.CustomException;
+import com.project.fintech.exception.ErrorCode;
+import com.project.fintech.model.type.Role;
+import com.project.fintech.service.AuthService;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import redis.embedded.RedisServer;
+
+@SpringBootTest
+@TestInstance(Lifecycle.PER_CLASS)
+@ActiveProfiles("test")
+class AccessTokenBlacklistCacheIntegrationTest {
+
+    @Autowired
+    private AccessTokenBlacklistCache accessTokenBlacklistCache;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private RedisServer redisServer;
+
+    @BeforeAll
+    public void setUp() throws IOException {
+        redisServer = new RedisServer(6300);
+        redisServer.start();
+    }
+
+    @AfterAll
+    public void tearDown() throws IOException {
+        if (redisServer != null) {
+            Objects.requireNonNull(stringRedisTemplate.getConnectionFactory()).getConnection()
+                .serverCommands().flushAll();
+            redisServer.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("다른 노드가 발행한 black list 메시지를 받아 local 사본에 반영")
+    void onMessage_Success_WhenOtherNodePublishes() {
+        //given
+        String key = "revoked-on-other-node";
+        long expiresAt = System.currentTimeMillis() + 1000 * 60;
+
+        //when & then (구독이 연결될 때까지 재발행)
+        await().atMost(Duration.ofSeconds(15)).pollInterval(Duration.ofMillis(200))
+            .untilAsserted(() -> {
+                stringRedisTemplate.convertAndSend(AccessTokenBlacklistCache.BLACKLIST_CHANNEL,
+                    key + "|" + expiresAt);
+                assertThat(accessTokenBlacklistCache.isRevoked(key)).isTrue();
+            });
+    }
+
+    @Test
+    @DisplayName("구독 (재)연결 시 Redis 에 저장된 black list 를 local 사본으로 읽어옴")
+    void resync_Success() {
+        //given
+        String key = "stored-before-subscribe";
+        stringRedisTemplate.opsForValue()
+            .set(AccessTokenBlacklistCache.DISABLED_TOKEN_PREFIX + key, "test@test.com", 60,
+                TimeUnit.SECONDS);
+
+        //when
+        accessTokenBlacklistCache.resync();
+
+        //then
+        assertThat(accessTokenBlacklistCache.isRevoked(key)).isTrue();
+    }
+
+    @Test
+    @DisplayName("black list 에 추가한 access token 은 거부되고 다른 토큰은 통과")
+    void addAccessTokenBlackList_Success() {
+        //given
+        AuthPrincipal principal = AuthPrincipal.builder().userId(1L).email("test@test.com")
+            .role(Role.USER).build();
+        String revokedToken = jwtUtil.generateAccessToken(principal);
+        String activeToken = jwtUtil.generateAccessToken(
+            principal.toBuilder().userId(2L).email("other@test.com").build());
+
+        //when
+        authService.addAccessTokenBlackList(revokedToken);
+
+        //then
+        assertThatThrownBy(() -> authService.verifyNotDisabledAccessToken(
+            jwtUtil.parseVerifiedToken(revokedToken)))
+            .isInstanceOf(CustomException.class).extracting("errorCode")
+            .isEqualTo(ErrorCode.INVALID_TOKEN);
+        assertThatCode(() -> authService.verifyNotDisabledAccessToken(
+            jwtUtil.parseVerifiedToken(activeToken)))
+            .doesNotThrowAnyException();
+    }
+}
@@ -0,0 +1,127 @@
+package com.project.fintech.auth.jwt;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatCode;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+
+import com.project.fintech.auth.AuthPrincipal;
+import com.project.fintech.exception.CustomException;
+import com.project.fintech.exception.ErrorCode;
+import com.project.fintech.model.type.Role;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Encoders;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+
+class JwtKeyRingTest {
+
+    private static final Duration GRACE_PERIOD = Duration.ofDays(7);
+    private static final AuthPrincipal PRINCIPAL = AuthPrincipal.builder().userId(1L)
+        .email("test@test.com").role(Role.USER).build();
+
+    private final String oldKey = newKey();
+    private final String newKey = newKey();
+
+    private static String newKey() {
+        return Encoders.BASE64.encode(Jwts.SIG.HS256.key().build().getEncoded());
+    }
+
+    private static String line(String kid, Instant activatesAt, String key) {
+        return kid + "," + activatesAt + "," + key + "\n";
+    }
+
+    private static JwtKeyRing keyRing(String... lines) {
+        return new JwtKeyRing(
+            new ByteArrayResource(String.join("", lines).getBytes(StandardCharsets.UTF_8)),
+            GRACE_PERIOD);
+    }
+
+    @Test
+    @DisplayName("같은 key 파일을 읽은 다른 노드가 발급한 토큰을 검증")
+    void parseVerifiedToken_Success_WhenIssuedByOtherNode() {
+        //given
+        String keys = line("k1", Instant.now().minus(Duration.ofDays(1)), oldKey);
+        JwtUtil issuingNode = new JwtUtil(keyRing(keys));
+        JwtUtil verifyingNode = new JwtUtil(keyRing(keys));
+
+        //when
+        VerifiedToken verifiedToken = verifyingNode.parseVerifiedToken(
+            issuingNode.generateAccessToken(PRINCIPAL));
+
+        //then
+        assertThat(verifiedToken.getUserId()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("활성화된 key 중 가장 최근 key 로 서명하고, 아직 활성화되지 않은 key 는 검증에만 사용")
+    void signingKey_IsLatestActivatedKey() {
+        //given
+        Instant now = Instant.now();
+        JwtKeyRing keyRing = keyRing(line("k1", now.minus(Duration.ofDays(30)), oldKey),
+            line("k2", now.minus(Duration.ofDays(1)), newKey),
+            line("k3", now.plus(Duration.ofDays(1)), newKey()));
+
+        //when & then
+        assertThat(keyRing.signingKey().kid()).isEqualTo("k2");
+    }
+
+    @Test
+    @DisplayName("key 교체 후 grace period 동안은 이전 key 로 서명된 토큰도 검증")
+    void parseVerifiedToken_Success_WhenSignedByPreviousKeyWithinGracePeriod() {
+        //given
+        Instant now = Instant.now();
+        String previousKeyLine = line("k1", now.minus(Duration.ofDays(30)), oldKey);
+        String tokenSignedByPreviousKey = new JwtUtil(keyRing(previousKeyLine))
+            .generateAccessToken(PRINCIPAL);
+        JwtUtil rotated = new JwtUtil(
+            keyRing(previousKeyLine, line("k2", now.minus(Duration.ofDays(1)), newKey)));
+
+        //when & then
+        assertThatCode(() -> rotated.parseVerifiedToken(tokenSignedByPreviousKey))
+            .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("grace period 가 지난 이전 key 로 서명된 토큰은 검증 실패")
+    void parseVerifiedToken_Fail_WhenSignedByRetiredKey() {
+        //given
+        Instant now = Instant.now();
+        String previousKeyLine = line("k1", now.minus(Duration.ofDays(30)), oldKey);
+        String tokenSignedByPreviousKey = new JwtUtil(keyRing(previousKeyLine))
+            .generateAccessToken(PRINCIPAL);
+        JwtUtil rotated = new JwtUtil(
+            keyRing(previousKeyLine, line("k2", now.minus(Duration.ofDays(8)), newKey)));
+
+        //when & then
+        assertThatThrownBy(() -> rotated.parseVerifiedToken(tokenSignedByPreviousKey))
+            .isInstanceOf(CustomException.class).extracting("errorCode")
+            .isEqualTo(ErrorCode.INVALID_TOKEN);
+    }
+
+    @Test
+    @DisplayName("key ring 에 없는 key 로 서명된 토큰은 검증 실패")
+    void parseVerifiedToken_Fail_WhenUnknownKey() {
+        //given
+        Instant activatesAt = Instant.now().minus(Duration.ofDays(1));
+        String foreignToken = new JwtUtil(keyRing(line("foreign", activatesAt, newKey())))
+            .generateAccessToken(PRINCIPAL);
+        JwtUtil jwtUtil = new JwtUtil(keyRing(line("k1", activatesAt, oldKey)));
+
+        //when & then
+        assertThatThrownBy(() -> jwtUtil.parseVerifiedToken(foreignToken))
+            .isInstanceOf(CustomException.class).extracting("errorCode")
+            .isEqualTo(ErrorCode.INVALID_TOKEN);
+    }
+
+    @Test
+    @DisplayName("활성화된 key 가 없으면 시작 실패")
+    void keyRing_Fail_WhenNoActivatedKey() {
+        //when & then
+        assertThatThrownBy(() -> keyRing(line("k1", Instant.now().plus(Duration.ofDays(1)),
+            oldKey))).isInstanceOf(IllegalStateException.class);
+    }
+}
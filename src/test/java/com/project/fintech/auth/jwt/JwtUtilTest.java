@@ -0,0 +1,74 @@
+package com.project.fintech.auth.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.project.fintech.exception.CustomException;
+import com.project.fintech.exception.ErrorCode;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Encoders;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+
+class JwtUtilTest {
+
+    private final JwtUtil jwtUtil = new JwtUtil(new JwtKeyRing(new ByteArrayResource(
+        ("k1," + Instant.now().minus(Duration.ofDays(1)) + ","
+            + Encoders.BASE64.encode(Jwts.SIG.HS256.key().build().getEncoded()) + "\n")
+            .getBytes(StandardCharsets.UTF_8)), Duration.ofDays(7)));
+
+    @Test
+    @DisplayName("refresh token 발급 - 반환한 jti, 만료 시각이 token 에 담긴 값과 같음")
+    void issueRefreshToken_ReturnsClaimsOfIssuedToken() {
+        //when
+        VerifiedToken issued = jwtUtil.issueRefreshToken("test@test.com");
+
+        //then
+        VerifiedToken parsed = jwtUtil.parseVerifiedToken(issued.getToken());
+        assertThat(issued.getTokenId()).isEqualTo(parsed.getTokenId());
+        assertThat(issued.getEmail()).isEqualTo(parsed.getEmail());
+        // exp claim 은 초 단위
+        assertThat(issued.getExpiration().getTime() / 1000).isEqualTo(
+            parsed.getExpiration().getTime() / 1000);
+        assertThat(parsed.getUserId()).isNull();
+    }
+
+    @Test
+    @DisplayName("token 발급 시각을 millisecond 단위로 읽음 (iat claim 은 초 단위)")
+    void parseVerifiedToken_IssuedAtInMillis() {
+        //given
+        VerifiedToken issued = jwtUtil.issueRefreshToken("test@test.com");
+
+        //when
+        VerifiedToken parsed = jwtUtil.parseVerifiedToken(issued.getToken());
+
+        //then
+        assertThat(parsed.getIssuedAt()).isEqualTo(issued.getIssuedAt());
+    }
+
+    @Test
+    @DisplayName("만료를 허용해서 parse - 만료된 token 도 서명이 맞으면 jti 를 읽고, 서명이 틀리면 실패")
+    void parseVerifiedTokenAllowingExpired_ReadsExpiredTokenWithValidSignature() {
+        //given
+        String expired = jwtUtil.tokenBuilder("test@test.com")
+            .expiration(new Date(System.currentTimeMillis() - 1000)).compact();
+        String tampered = expired.substring(0, expired.length() - 2)
+            + (expired.endsWith("AA") ? "BB" : "AA");
+
+        //when
+        VerifiedToken parsed = jwtUtil.parseVerifiedTokenAllowingExpired(expired);
+
+        //then
+        assertThat(parsed.getTokenId()).isNotBlank();
+        assertThat(parsed.getExpiration()).isBefore(new Date());
+        assertThatThrownBy(() -> jwtUtil.parseVerifiedToken(expired)).isInstanceOf(
+            CustomException.class).extracting("errorCode").isEqualTo(ErrorCode.TOKEN_EXPIRED);
+        assertThatThrownBy(() -> jwtUtil.parseVerifiedTokenAllowingExpired(tampered)).isInstanceOf(
+            CustomException.class).extracting("errorCode").isEqualTo(ErrorCode.INVALID_TOKEN);
+    }
+}
@@ -0,0 +1,65 @@
+package com.project.fintech.auth.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.project.fintech.auth.NearCacheChannel;
+import java.util.Date;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+class RevocationEpochCacheTest {
+
+    private static final String EMAIL = "test@test.com";
+
+    private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+    private final RevocationEpochCache revocationEpochCache = new RevocationEpochCache(
+        stringRedisTemplate, mock(NearCacheChannel.class));
+
+    @SuppressWarnings("unchecked")
+    private long revokeNow() {
+        when(stringRedisTemplate.opsForValue()).thenReturn(mock(ValueOperations.class));
+        long before = System.currentTimeMillis();
+        revocationEpochCache.revokeAllIssuedBefore(EMAIL);
+        return before;
+    }
+
+    @Test
+    @DisplayName("폐기 이전에 발급된 토큰은 폐기")
+    void isRevoked_True_WhenIssuedBeforeRevocation() {
+        //given
+        long revokedAt = revokeNow();
+
+        //when & then
+        assertThat(revocationEpochCache.isRevoked(EMAIL, new Date(revokedAt - 1))).isTrue();
+    }
+
+    @Test
+    @DisplayName("폐기 직후 같은 초에 발급된 토큰은 폐기되지 않음")
+    void isRevoked_False_WhenIssuedRightAfterRevocation() {
+        //given
+        revokeNow();
+        long issuedAt = System.currentTimeMillis() + 1;
+
+        //when & then
+        assertThat(revocationEpochCache.isRevoked(EMAIL, new Date(issuedAt))).isFalse();
+    }
+
+    @Test
+    @DisplayName("다른 노드가 전파한 폐기 시각 반영")
+    void onUpdate_AppliesEpochFromOtherNode() {
+        //given
+        long epoch = System.currentTimeMillis();
+
+        //when
+        revocationEpochCache.onUpdate(EMAIL, String.valueOf(epoch));
+
+        //then
+        assertThat(revocationEpochCache.isRevoked(EMAIL, new Date(epoch - 1))).isTrue();
+        assertThat(revocationEpochCache.isRevoked(EMAIL, new Date(epoch))).isFalse();
+        assertThat(revocationEpochCache.isRevoked("other@test.com", new Date(0))).isFalse();
+    }
+}
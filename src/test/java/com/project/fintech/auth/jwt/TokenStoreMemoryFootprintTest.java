@@ -0,0 +1,103 @@
+package com.project.fintech.auth.jwt;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+import com.project.fintech.auth.AuthPrincipal;
+import com.project.fintech.model.type.Role;
+import java.io.IOException;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import redis.embedded.RedisServer;
+
+/**
+ * 토큰 원문 대신 token id(jti)를 key 로 사용했을 때 Redis 메모리 사용량 비교
+ */
+@Slf4j
+@SpringBootTest
+@TestInstance(Lifecycle.PER_CLASS)
+@ActiveProfiles("test")
+class TokenStoreMemoryFootprintTest {
+
+    private static final int TOKEN_COUNT = 5_000;
+    private static final String EMAIL = "footprint@test.com";
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private RedisServer redisServer;
+
+    @BeforeAll
+    public void setUp() throws IOException {
+        redisServer = new RedisServer(6300);
+        redisServer.start();
+    }
+
+    @AfterAll
+    public void tearDown() throws IOException {
+        if (redisServer != null) {
+            flushAll();
+            redisServer.stop();
+        }
+    }
+
+    @BeforeEach
+    public void flushAll() {
+        Objects.requireNonNull(stringRedisTemplate.getConnectionFactory()).getConnection()
+            .serverCommands().flushAll();
+    }
+
+    @Test
+    @DisplayName("black list 를 token id 로 저장하면 토큰 원문으로 저장할 때보다 메모리를 훨씬 적게 사용")
+    void blacklistKeyedByTokenId_UsesLessMemoryThanRawToken() {
+        //given
+        AuthPrincipal principal = AuthPrincipal.builder().userId(1L).email(EMAIL).role(Role.USER)
+            .build();
+        String[] tokens = new String[TOKEN_COUNT];
+        for (int i = 0; i < TOKEN_COUNT; i++) {
+            tokens[i] = jwtUtil.generateAccessToken(principal);
+        }
+
+        //when
+        long rawTokenBytes = measure(tokens, false);
+        flushAll();
+        long tokenIdBytes = measure(tokens, true);
+
+        //then
+        log.info("black list memory. raw token: {} bytes, token id: {} bytes", rawTokenBytes,
+            tokenIdBytes);
+        assertThat(tokenIdBytes * 2).isLessThan(rawTokenBytes);
+    }
+
+    private long measure(String[] tokens, boolean keyedByTokenId) {
+        long before = usedMemory();
+        for (String token : tokens) {
+            String key = keyedByTokenId ? jwtUtil.parseVerifiedToken(token).getTokenId() : token;
+            stringRedisTemplate.opsForValue()
+                .set(AccessTokenBlacklistCache.DISABLED_TOKEN_PREFIX + key, EMAIL, 15,
+                    TimeUnit.MINUTES);
+        }
+        return usedMemory() - before;
+    }
+
+    private long usedMemory() {
+        Properties info = Objects.requireNonNull(stringRedisTemplate.getConnectionFactory())
+            .getConnection().serverCommands().info("memory");
+        return Long.parseLong(Objects.requireNonNull(info).getProperty("used_memory"));
+    }
+}
@@ -0,0 +1,80 @@
+package com.project.fintech.auth.otp;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.project.fintech.auth.NearCacheChannel;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import javax.crypto.spec.SecretKeySpec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class OtpSecretKeyCacheTest {
+
+    private final NearCacheChannel nearCacheChannel = mock(NearCacheChannel.class);
+    private final OtpSecretKeyCache otpSecretKeyCache = new OtpSecretKeyCache(nearCacheChannel);
+
+    @Test
+    @DisplayName("한 번 조회한 secret key 는 DB 조회 없이 복호화해서 반환")
+    void get_LoadsOnce() {
+        //given
+        AtomicInteger loadCount = new AtomicInteger();
+
+        //when
+        String first = otpSecretKeyCache.get("test@test.com", email -> {
+            loadCount.incrementAndGet();
+            return "JBSWY3DPEHPK3PXP";
+        });
+        String second = otpSecretKeyCache.get("test@test.com", email -> {
+            loadCount.incrementAndGet();
+            return "JBSWY3DPEHPK3PXP";
+        });
+
+        //then
+        assertThat(first).isEqualTo("JBSWY3DPEHPK3PXP");
+        assertThat(second).isEqualTo("JBSWY3DPEHPK3PXP");
+        assertThat(loadCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("evict 하면 다음 조회 시 DB 에서 다시 읽고 다른 노드에 알림")
+    void evict_ReloadsAndPublishes() {
+        //given
+        otpSecretKeyCache.get("test@test.com", email -> "OLDSECRETKEY");
+
+        //when
+        otpSecretKeyCache.evict("test@test.com");
+        String reloaded = otpSecretKeyCache.get("test@test.com", email -> "NEWSECRETKEY");
+
+        //then
+        assertThat(reloaded).isEqualTo("NEWSECRETKEY");
+        verify(nearCacheChannel).publish(OtpSecretKeyCache.EVICT_CHANNEL, "test@test.com", "");
+    }
+
+    @Test
+    @DisplayName("OTP 검증용 HMAC key 는 decode 한 같은 instance 를 반환하고 evict 하면 다시 decode")
+    void getHmacKey_ReturnsSameInstanceUntilEvicted() {
+        //given
+        AtomicInteger loadCount = new AtomicInteger();
+        Function<String, String> loader = email -> {
+            loadCount.incrementAndGet();
+            return "JBSWY3DPEHPK3PXP";
+        };
+
+        //when
+        SecretKeySpec first = otpSecretKeyCache.getHmacKey("test@test.com", loader);
+        SecretKeySpec second = otpSecretKeyCache.getHmacKey("test@test.com", loader);
+        otpSecretKeyCache.evict("test@test.com");
+        SecretKeySpec reloaded = otpSecretKeyCache.getHmacKey("test@test.com", loader);
+
+        //then
+        assertThat(second).isSameAs(first);
+        assertThat(reloaded).isNotSameAs(first);
+        assertThat(first.getEncoded()).isEqualTo(
+            TotpVerifier.decodeKey("JBSWY3DPEHPK3PXP").getEncoded());
+        assertThat(otpSecretKeyCache.get("test@test.com", loader)).isEqualTo("JBSWY3DPEHPK3PXP");
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+}
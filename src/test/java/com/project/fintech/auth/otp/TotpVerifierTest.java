@@ -0,0 +1,108 @@
+package com.project.fintech.auth.otp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.warrenstrange.googleauth.GoogleAuthenticator;
+import java.util.Random;
+import javax.crypto.spec.SecretKeySpec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TotpVerifierTest {
+
+    private static final long TIME_STEP_MILLIS = 30_000;
+
+    private final GoogleAuthenticator gAuth = new GoogleAuthenticator();
+    private final TotpVerifier totpVerifier = new TotpVerifier();
+
+    @Test
+    @DisplayName("임의의 secret key, 시각, code 에 대해 GoogleAuthenticator 와 같은 검증 결과")
+    void verify_SameResultAsGoogleAuthenticator() {
+        //given
+        Random random = new Random(20_240_601L);
+
+        for (int i = 0; i < 200; i++) {
+            String secretKey = gAuth.createCredentials().getKey();
+            long time = Math.floorMod(random.nextLong(), 4_000_000_000_000L);
+            int[] codes = {
+                gAuth.getTotpPassword(secretKey, time),
+                gAuth.getTotpPassword(secretKey, time - TIME_STEP_MILLIS),
+                gAuth.getTotpPassword(secretKey, time + TIME_STEP_MILLIS),
+                gAuth.getTotpPassword(secretKey, time - 2 * TIME_STEP_MILLIS),
+                gAuth.getTotpPassword(secretKey, time + 2 * TIME_STEP_MILLIS),
+                random.nextInt(1_000_000), 0, -1, 999_999, 1_000_000, Integer.MAX_VALUE,
+                Integer.MIN_VALUE};
+
+            for (int code : codes) {
+                //when
+                boolean verified = totpVerifier.verify(secretKey, code, time);
+
+                //then
+                assertThat(verified).as("secret: %s, time: %d, code: %d", secretKey, time, code)
+                    .isEqualTo(gAuth.authorize(secretKey, code, time));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("소문자 secret key 도 GoogleAuthenticator 와 같이 decode")
+    void verify_LowerCaseSecretKey() {
+        //given
+        String secretKey = gAuth.createCredentials().getKey();
+        long time = System.currentTimeMillis();
+        int code = gAuth.getTotpPassword(secretKey, time);
+
+        //when
+        boolean verified = totpVerifier.verify(secretKey.toLowerCase(), code, time);
+
+        //then
+        assertThat(verified).isEqualTo(gAuth.authorize(secretKey.toLowerCase(), code, time))
+            .isTrue();
+    }
+
+    @Test
+    @DisplayName("secret key 가 null 이면 IllegalArgumentException")
+    void verify_Fail_NullSecretKey() {
+        //when & then
+        assertThatThrownBy(() -> totpVerifier.verify(null, 123_456, 0L))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("같은 key instance 로 반복 검증하면 Mac 을 한 번만 init")
+    void verify_ReusesMacForSameKey() {
+        //given
+        String secretKey = gAuth.createCredentials().getKey();
+        SecretKeySpec key = TotpVerifier.decodeKey(secretKey);
+        long time = System.currentTimeMillis();
+        int invalidCode = gAuth.getTotpPassword(secretKey, time + 10 * TIME_STEP_MILLIS);
+        long initCountBefore = totpVerifier.macInitCount();
+
+        //when (실패한 code 는 window 전체를 계산)
+        for (int i = 0; i < 100; i++) {
+            totpVerifier.verify(key, gAuth.getTotpPassword(secretKey, time), time);
+            totpVerifier.verify(key, invalidCode, time);
+        }
+
+        //then
+        assertThat(totpVerifier.macInitCount() - initCountBefore).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 key 로 바꿔 검증하면 Mac 을 다시 init")
+    void verify_ReinitializesMacForDifferentKey() {
+        //given
+        SecretKeySpec first = TotpVerifier.decodeKey(gAuth.createCredentials().getKey());
+        SecretKeySpec second = TotpVerifier.decodeKey(gAuth.createCredentials().getKey());
+        long initCountBefore = totpVerifier.macInitCount();
+
+        //when
+        totpVerifier.verify(first, 123_456, 0L);
+        totpVerifier.verify(second, 123_456, 0L);
+        totpVerifier.verify(first, 123_456, 0L);
+
+        //then
+        assertThat(totpVerifier.macInitCount() - initCountBefore).isEqualTo(3);
+    }
+}
@@ -0,0 +1,126 @@
+package com.project.fintech.auth.ratelimit;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.fintech.exception.CustomException;
+import com.project.fintech.exception.ErrorCode;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+@ExtendWith(MockitoExtension.class)
+class RateLimitFilterTest {
+
+    @Mock
+    RateLimiter rateLimiter;
+
+    @Mock
+    FilterChain filterChain;
+
+    RateLimitFilter rateLimitFilter;
+
+    @BeforeEach
+    void setUp() {
+        rateLimitFilter = new RateLimitFilter(rateLimiter, new ObjectMapper());
+    }
+
+    private MockHttpServletRequest loginRequest(byte[] body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/auth/login");
+        request.setRemoteAddr("10.0.0.1");
+        request.setContent(body);
+        return request;
+    }
+
+    @Test
+    @DisplayName("body 를 읽은 뒤에도 다음 filter 에서 같은 body 를 읽을 수 있음")
+    void doFilter_PassesCachedBody() throws Exception {
+        //given
+        byte[] body = "{\"email\":\"test@test.com\"}".getBytes(StandardCharsets.UTF_8);
+        when(rateLimiter.tryAcquire(RateLimitRule.LOGIN, "10.0.0.1", "test@test.com")).thenReturn(
+            true);
+        ArgumentCaptor<ServletRequest> passedRequest = ArgumentCaptor.forClass(
+            ServletRequest.class);
+
+        //when
+        rateLimitFilter.doFilter(loginRequest(body), new MockHttpServletResponse(), filterChain);
+
+        //then
+        verify(filterChain).doFilter(passedRequest.capture(), any());
+        assertThat(passedRequest.getValue().getInputStream().readAllBytes()).isEqualTo(body);
+    }
+
+    @Test
+    @DisplayName("body 가 제한보다 크면 잘라서 넘기지 않고 413 으로 거절")
+    void doFilter_Fail_WhenBodyTooLarge() throws Exception {
+        //given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        byte[] body = new byte[16 * 1024 + 1];
+
+        //when & then
+        assertThatThrownBy(
+            () -> rateLimitFilter.doFilter(loginRequest(body), response, filterChain)).isInstanceOf(
+                CustomException.class).extracting("errorCode")
+            .isEqualTo(ErrorCode.REQUEST_BODY_TOO_LARGE);
+        assertThat(response.getStatus()).isEqualTo(
+            HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE);
+        verifyNoInteractions(rateLimiter);
+        verify(filterChain, never()).doFilter(any(), any());
+    }
+
+    @Test
+    @DisplayName("non-blocking 으로 읽어도 cache 된 body 를 모두 전달")
+    void getInputStream_NotifiesReadListener() throws Exception {
+        //given
+        byte[] body = "{\"email\":\"test@test.com\"}".getBytes(StandardCharsets.UTF_8);
+        CachedBodyHttpServletRequest cachedRequest = new CachedBodyHttpServletRequest(
+            loginRequest(body), 16 * 1024);
+        ServletInputStream inputStream = cachedRequest.getInputStream();
+        ByteArrayOutputStream read = new ByteArrayOutputStream();
+        boolean[] allDataRead = new boolean[1];
+
+        //when
+        inputStream.setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() throws IOException {
+                while (inputStream.isReady() && !inputStream.isFinished()) {
+                    read.write(inputStream.read());
+                }
+            }
+
+            @Override
+            public void onAllDataRead() {
+                allDataRead[0] = true;
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                throw new AssertionError(t);
+            }
+        });
+
+        //then
+        assertThat(read.toByteArray()).isEqualTo(body);
+        assertThat(allDataRead[0]).isTrue();
+    }
+}
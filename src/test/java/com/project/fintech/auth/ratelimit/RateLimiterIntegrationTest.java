@@ -0,0 +1,107 @@
+package com.project.fintech.auth.ratelimit;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.fintech.exception.ErrorCode;
+import com.project.fintech.model.dto.LoginRequestDto;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Objects;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import redis.embedded.RedisServer;
+
+@SpringBootTest
+@TestInstance(Lifecycle.PER_CLASS)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class RateLimiterIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    private RedisServer redisServer;
+
+    @BeforeAll
+    public void setUp() throws IOException {
+        redisServer = new RedisServer(6300);
+        redisServer.start();
+    }
+
+    @AfterAll
+    public void tearDown() throws IOException {
+        if (redisServer != null) {
+            Objects.requireNonNull(stringRedisTemplate.getConnectionFactory()).getConnection()
+                .serverCommands().flushAll();
+            redisServer.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("여러 노드의 요청 수를 Redis sliding window 로 합산해 제한")
+    void tryAcquire_SharesWindowAcrossNodes() {
+        //given
+        RateLimiter nodeA = new RateLimiter(stringRedisTemplate);
+        RateLimiter nodeB = new RateLimiter(stringRedisTemplate);
+        String email = "shared-window@test.com";
+        int limit = RateLimitRule.LOGIN.getLimitPerEmail();
+
+        //when
+        for (int i = 0; i < limit; i++) {
+            RateLimiter node = i % 2 == 0 ? nodeA : nodeB;
+            assertThat(node.tryAcquire(RateLimitRule.LOGIN, "10.0.0." + i, email)).isTrue();
+        }
+
+        //then (각 노드의 local bucket 에는 token 이 남아 있지만 전체 요청 수가 한도에 도달)
+        assertThat(nodeA.tryAcquire(RateLimitRule.LOGIN, "10.0.1.1", email)).isFalse();
+        assertThat(nodeB.tryAcquire(RateLimitRule.LOGIN, "10.0.1.2", email)).isFalse();
+    }
+
+    @Test
+    @DisplayName("한도를 넘은 로그인 요청은 인증 filter 에 도달하기 전에 429 로 거절")
+    void login_Rejected_WhenEmailLimitExceeded() throws Exception {
+        //given
+        String email = "credential-stuffing@test.com";
+        String loginRequestJson = objectMapper.writeValueAsString(
+            LoginRequestDto.builder().email(email).password("wrong-password").build());
+        int limit = RateLimitRule.LOGIN.getLimitPerEmail();
+
+        //when
+        for (int i = 0; i < limit; i++) {
+            String ip = "10.1.0." + i;
+            mockMvc.perform(post("/auth/login").contentType("application/json;charset=UTF-8")
+                .content(loginRequestJson).with(request -> {
+                    request.setRemoteAddr(ip);
+                    return request;
+                }));
+        }
+
+        //then
+        mockMvc.perform(post("/auth/login").contentType("application/json;charset=UTF-8")
+                .content(loginRequestJson).with(request -> {
+                    request.setRemoteAddr("10.1.1.1");
+                    return request;
+                })).andExpect(status().is(HttpServletResponse.SC_TOO_MANY_REQUESTS))
+            .andExpect(jsonPath("$.code").value(ErrorCode.TOO_MANY_REQUESTS.getCode()));
+    }
+}
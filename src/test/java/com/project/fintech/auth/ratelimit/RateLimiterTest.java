@@ -0,0 +1,61 @@
+package com.project.fintech.auth.ratelimit;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+@ExtendWith(MockitoExtension.class)
+class RateLimiterTest {
+
+    @Mock
+    StringRedisTemplate stringRedisTemplate;
+
+    @InjectMocks
+    RateLimiter rateLimiter;
+
+    @Test
+    @DisplayName("노드 내 token bucket 이 비면 Redis 조회 없이 거절")
+    void tryAcquire_RejectsLocally_WhenLocalBucketIsEmpty() {
+        //given
+        int limit = RateLimitRule.LOGIN.getLimitPerIp();
+        // args: window, 요청 id, IP 한도
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(), any(),
+            any())).thenReturn(1L);
+        for (int i = 0; i < limit; i++) {
+            assertThat(rateLimiter.tryAcquire(RateLimitRule.LOGIN, "10.0.0.1", null)).isTrue();
+        }
+
+        //when
+        boolean allowed = rateLimiter.tryAcquire(RateLimitRule.LOGIN, "10.0.0.1", null);
+
+        //then
+        assertThat(allowed).isFalse();
+        verify(stringRedisTemplate, times(limit)).execute(any(RedisScript.class), anyList(), any(),
+            any(), any());
+    }
+
+    @Test
+    @DisplayName("Redis 에 접근할 수 없으면 노드 내 제한만 적용")
+    void tryAcquire_FallsBackToLocal_WhenRedisUnavailable() {
+        //given
+        // args: window, 요청 id, IP 한도, email 한도
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any(),
+            any())).thenThrow(new IllegalStateException("redis down"));
+
+        //when & then
+        assertThat(rateLimiter.tryAcquire(RateLimitRule.REGISTER, "10.0.0.2",
+            "test@test.com")).isTrue();
+    }
+}
@@ -0,0 +1,62 @@
+package com.project.fintech.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LoggerSamplingTurboFilterTest {
+
+    private static final String HOT_LOGGER = "com.project.fintech.auth.jwt.JwtFilter";
+
+    private final LoggerContext loggerContext = new LoggerContext();
+    private LoggerSamplingTurboFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        loggerContext.getLogger(Logger.ROOT_LOGGER_NAME).setLevel(Level.INFO);
+        filter = new LoggerSamplingTurboFilter();
+        filter.setContext(loggerContext);
+        filter.setLogger(HOT_LOGGER);
+        filter.setSampleRate(10);
+        filter.start();
+    }
+
+    private long countAccepted(Logger logger, Level level, int calls) {
+        return IntStream.range(0, calls)
+            .mapToObj(i -> filter.decide(null, logger, level, "message", null, null))
+            .filter(reply -> reply == FilterReply.NEUTRAL).count();
+    }
+
+    @Test
+    @DisplayName("hot path logger 의 INFO log 는 sampleRate 건 중 1건만 기록")
+    void decide_SamplesHotLogger() {
+        //when
+        long accepted = countAccepted(loggerContext.getLogger(HOT_LOGGER), Level.INFO, 1_000);
+
+        //then
+        assertThat(accepted).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("WARN 이상, 다른 logger, 기록되지 않을 level 은 sampling 하지 않음")
+    void decide_Neutral_WhenNotSampled() {
+        //given
+        Logger hotLogger = loggerContext.getLogger(HOT_LOGGER);
+
+        //when & then
+        assertThat(countAccepted(hotLogger, Level.WARN, 100)).isEqualTo(100);
+        assertThat(countAccepted(loggerContext.getLogger("com.project.fintech.service"),
+            Level.INFO, 100)).isEqualTo(100);
+        assertThat(countAccepted(hotLogger, Level.DEBUG, 5)).isEqualTo(5);
+        // DEBUG 호출이 sampling 횟수에 포함되지 않았으므로 다음 INFO 는 기록
+        assertThat(filter.decide(null, hotLogger, Level.INFO, "message", null, null))
+            .isEqualTo(FilterReply.NEUTRAL);
+    }
+}
@@ -0,0 +1,114 @@
+package com.project.fintech.persistence.coldstorage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.project.fintech.model.type.TransactionType;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ColdSegmentTest {
+
+    private static final long ACCOUNT_ID = 7L;
+    private static final YearMonth MONTH = YearMonth.of(2024, 2);
+
+    @TempDir
+    Path directory;
+
+    private ColdTransaction transaction(long id, int day, LocalTime time, long amount,
+        Long recipientAccountId, String memo, TransactionType type) {
+        return new ColdTransaction(id, ACCOUNT_ID, amount, recipientAccountId, memo, type,
+            MONTH.atDay(day), time);
+    }
+
+    @Test
+    @DisplayName("segment 기록 후 조회 - 모든 column 값이 그대로 복원됨")
+    void writeAndRead_RoundTrip() {
+        //given
+        Path path = directory.resolve("segment.seg");
+        List<ColdTransaction> rows = List.of(
+            transaction(30L, 29, LocalTime.of(23, 59, 59, 999_999_999), -5_000L, 12L, "송금",
+                TransactionType.TRANSFER),
+            transaction(10L, 1, LocalTime.MIDNIGHT, 1_000L, null, null, TransactionType.DEPOSIT),
+            transaction(11L, 1, LocalTime.of(9, 30), Long.MAX_VALUE, null, "",
+                TransactionType.WITHDRAW),
+            transaction(5L, 15, LocalTime.of(12, 0), Long.MIN_VALUE, Long.MAX_VALUE,
+                "memo with emoji 😀", TransactionType.DEPOSIT));
+
+        //when
+        ColdSegmentWriter.write(path, ACCOUNT_ID, MONTH, rows);
+        ColdSegmentReader reader = ColdSegmentReader.open(path);
+        List<ColdTransaction> read = reader.read(MONTH.atDay(1), MONTH.atEndOfMonth());
+
+        //then
+        assertThat(reader.getAccountId()).isEqualTo(ACCOUNT_ID);
+        assertThat(reader.getMonth()).isEqualTo(MONTH);
+        assertThat(reader.getRowCount()).isEqualTo(4);
+        assertThat(read).containsExactly(rows.get(1), rows.get(2), rows.get(3), rows.get(0));
+    }
+
+    @Test
+    @DisplayName("날짜 범위 조회 - 날짜 index 로 범위 안의 거래 내역만 반환")
+    void read_DateRange() {
+        //given
+        Path path = directory.resolve("segment.seg");
+        Random random = new Random(2024L);
+        List<ColdTransaction> rows = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            rows.add(transaction(i + 1L, 1 + random.nextInt(MONTH.lengthOfMonth()),
+                LocalTime.ofSecondOfDay(random.nextInt(86_400)), random.nextLong(), null,
+                "memo-" + (i % 7), TransactionType.DEPOSIT));
+        }
+        ColdSegmentWriter.write(path, ACCOUNT_ID, MONTH, rows);
+        ColdSegmentReader reader = ColdSegmentReader.open(path);
+        LocalDate from = MONTH.atDay(10);
+        LocalDate to = MONTH.atDay(12);
+
+        //when
+        List<ColdTransaction> read = reader.read(from, to);
+
+        //then
+        assertThat(read).containsExactlyElementsOf(rows.stream()
+            .filter(row -> !row.transactionDate().isBefore(from) && !row.transactionDate()
+                .isAfter(to)).sorted(
+                Comparator.comparing(ColdTransaction::transactionDate)
+                    .thenComparing(ColdTransaction::transactionTime)
+                    .thenComparing(ColdTransaction::id)).toList());
+        assertThat(reader.read(MONTH.minusMonths(1).atDay(1),
+            MONTH.minusMonths(1).atEndOfMonth())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("segment 기록 - 실패 - 다른 월의 거래 내역이 섞여 있을 때")
+    void write_Fail_WhenRowOutsideMonth() {
+        //given
+        ColdTransaction otherMonth = new ColdTransaction(1L, ACCOUNT_ID, 1L, null, null,
+            TransactionType.DEPOSIT, MONTH.plusMonths(1).atDay(1), LocalTime.NOON);
+
+        //when & then
+        assertThatThrownBy(() -> ColdSegmentWriter.write(directory.resolve("segment.seg"),
+            ACCOUNT_ID, MONTH, List.of(otherMonth))).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("segment 열기 - 실패 - segment 파일이 아닐 때")
+    void open_Fail_WhenNotSegment() throws IOException {
+        //given
+        Path path = Files.write(directory.resolve("other.seg"), new byte[256]);
+
+        //when & then
+        assertThatThrownBy(() -> ColdSegmentReader.open(path)).isInstanceOf(
+            IllegalStateException.class);
+    }
+}
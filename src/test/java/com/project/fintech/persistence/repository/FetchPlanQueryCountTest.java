@@ -0,0 +1,162 @@
+package com.project.fintech.persistence.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.project.fintech.TestConfig;
+import com.project.fintech.persistence.entity.Account;
+import com.project.fintech.persistence.entity.User;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import java.util.function.Supplier;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 흐름별 fetch plan 이 정한 SQL 개수를 넘지 않는지 확인
+ * <p>
+ * 연관관계는 모두 lazy 이고, 함께 읽어야 하는 연관관계는 repository 에서 entity graph 로 고른다. 흐름에서 연관관계를 새로 읽게 되면
+ * 이 test 의 query 개수가 늘어나므로 fetch plan 도 함께 고친다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+    + "com.project.fintech.persistence.repository.RecordingStatementInspector")
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+class FetchPlanQueryCountTest {
+
+    private static final String EMAIL = "fetch-plan@test.com";
+
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private AccountRepository accountRepository;
+    @Autowired
+    private OtpSecretKeyRepository otpSecretKeyRepository;
+
+    private Long userId;
+    private Long accountId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("""
+            INSERT INTO users (name, password, phone, create_at, modified_at, email,
+                               is_otp_registered, is_verified_email)
+            VALUES ('name', 'password', '01000000000', NOW(), NOW(), ?, 1, 1)""", EMAIL);
+        userId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = ?", Long.class,
+            EMAIL);
+        jdbcTemplate.update("""
+            INSERT INTO otp_secret_keys (create_at, modified_at, secret_key, user_id)
+            VALUES (NOW(), NOW(), 'FETCHPLANSECRET', ?)""", userId);
+        jdbcTemplate.update("""
+            INSERT INTO accounts (create_at, modified_at, account_number, balance, status, user_id)
+            VALUES (NOW(), NOW(), 'FETCH-PLAN-1', 0, '0', ?)""", userId);
+        accountId = jdbcTemplate.queryForObject(
+            "SELECT id FROM accounts WHERE account_number = 'FETCH-PLAN-1'", Long.class);
+        for (int i = 0; i < 3; i++) {
+            jdbcTemplate.update("""
+                INSERT INTO transactions (amount, transaction_date, transaction_time,
+                                          transaction_type, account_id)
+                VALUES (1000, CURRENT_DATE, CURRENT_TIME, 'DEPOSIT', ?)""", accountId);
+        }
+    }
+
+    private <T> List<String> recordStatements(Supplier<T> flow) {
+        entityManager.flush();
+        entityManager.clear();
+        RecordingStatementInspector.start();
+        flow.get();
+        return RecordingStatementInspector.stop();
+    }
+
+    @Test
+    @DisplayName("인증 - users 한 번의 query, OTP secret key 와 계좌는 읽지 않음")
+    void authentication_SingleQuery() {
+        //when
+        List<String> statements = recordStatements(() -> {
+            User user = userRepository.findByEmail(EMAIL).orElseThrow();
+            return List.of(user.getPassword(), user.getAuthorities());
+        });
+
+        //then
+        assertThat(statements).hasSize(1);
+        assertThat(statements.get(0)).doesNotContainIgnoringCase("otp_secret_keys")
+            .doesNotContainIgnoringCase("accounts");
+    }
+
+    @Test
+    @DisplayName("계좌 목록 조회 - DTO projection 한 번의 query")
+    void accountListing_SingleQuery() {
+        //when
+        List<String> statements = recordStatements(
+            () -> accountRepository.findActiveAccountDtos(userId));
+
+        //then
+        assertThat(statements).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("계좌 조회 - user 를 join 하지 않음")
+    void accountLoad_DoesNotLoadUser() {
+        //when
+        List<String> statements = recordStatements(() -> {
+            Account account = accountRepository.findById(accountId).orElseThrow();
+            assertThat(Hibernate.isInitialized(account.getUser())).isFalse();
+            return account;
+        });
+
+        //then
+        assertThat(statements).hasSize(1);
+        assertThat(statements.get(0)).doesNotContainIgnoringCase("users");
+    }
+
+    @Test
+    @DisplayName("OTP 검증 - secret key 한 번의 query")
+    void otpVerification_SingleQuery() {
+        //when
+        List<String> statements = recordStatements(
+            () -> otpSecretKeyRepository.findSecretKeyByUserEmail(EMAIL).orElseThrow());
+
+        //then
+        assertThat(statements).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("OTP secret key 등록/삭제 - user 와 secret key 를 한 번의 query 로 조회")
+    void otpSecretKeyChange_SingleQuery() {
+        //when
+        List<String> statements = recordStatements(() -> userRepository
+            .findWithOtpSecretKeyByEmail(EMAIL).orElseThrow().getOtpSecretKey().getSecretKey());
+
+        //then
+        assertThat(statements).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("계좌 삭제 - 계좌 한 번, 소유자 확인 한 번 (거래 내역은 entity 로 읽지 않음)")
+    void accountDeletion_TwoQueries() {
+        //when
+        List<String> statements = recordStatements(() -> {
+            Account account = accountRepository.findById(accountId).orElseThrow();
+            accountRepository.existsByIdAndUserId(accountId, userId);
+            assertThat(Hibernate.isInitialized(account.getTransactions())).isFalse();
+            assertThat(Hibernate.isInitialized(account.getUser())).isFalse();
+            return account;
+        });
+
+        //then
+        assertThat(statements).hasSize(2);
+    }
+}
@@ -0,0 +1,40 @@
+package com.project.fintech.persistence.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.project.fintech.TestConfig;
+import com.project.fintech.builder.UserTestDataBuilder;
+import com.project.fintech.persistence.entity.OtpSecretKey;
+import com.project.fintech.persistence.entity.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+class OtpSecretKeyRepositoryTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private OtpSecretKeyRepository otpSecretKeyRepository;
+
+    @Test
+    void findSecretKeyByUserEmail() {
+        //given
+        String email = "otpRepoTest@test.com";
+        User user = new UserTestDataBuilder().withEmail(email).withOtpSecretKey(null).build();
+        user.setUserSecretKey(
+            OtpSecretKey.builder().secretKey("REPOSITORYTESTKEY").user(user).build());
+        userRepository.save(user);
+
+        //when & then
+        assertThat(otpSecretKeyRepository.findSecretKeyByUserEmail(email)).hasValue(
+            "REPOSITORYTESTKEY");
+        assertThat(otpSecretKeyRepository.findSecretKeyByUserEmail("none@test.com")).isEmpty();
+    }
+}
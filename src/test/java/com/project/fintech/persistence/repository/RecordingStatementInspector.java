@@ -0,0 +1,32 @@
+package com.project.fintech.persistence.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 가 실행하는 SQL 을 기록하는 test 용 StatementInspector
+ */
+public class RecordingStatementInspector implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> RECORDED = new ThreadLocal<>();
+
+    public static void start() {
+        RECORDED.set(new ArrayList<>());
+    }
+
+    public static List<String> stop() {
+        List<String> recorded = RECORDED.get();
+        RECORDED.remove();
+        return recorded == null ? List.of() : recorded;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        List<String> recorded = RECORDED.get();
+        if (recorded != null) {
+            recorded.add(sql);
+        }
+        return sql;
+    }
+}
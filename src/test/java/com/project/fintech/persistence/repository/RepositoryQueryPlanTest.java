@@ -0,0 +1,230 @@
+package com.project.fintech.persistence.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.project.fintech.TestConfig;
+import com.project.fintech.model.type.Status;
+import com.project.fintech.persistence.entity.Account;
+import com.project.fintech.persistence.entity.ArchiveTask;
+import com.project.fintech.persistence.entity.User;
+import jakarta.persistence.EntityManager;
+import java.sql.Date;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * repository query 가 full scan 없이 index 를 타는지 EXPLAIN 으로 확인
+ * <p>
+ * Hibernate 가 실제로 만든 SQL 을 기록해 H2(MySQL mode) 의 EXPLAIN 결과에 tableScan 이 없는지 본다. 계좌가 많은 table 에서
+ * full scan 은 p99 지연의 대부분을 차지하므로, 새 query 를 추가하면 이 test 에도 추가한다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+    + "com.project.fintech.persistence.repository.RecordingStatementInspector")
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+class RepositoryQueryPlanTest {
+
+    private static final int SEED_USERS = 500;
+    private static final String SEED_EMAIL = "plan-seed1@test.com";
+
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private AccountRepository accountRepository;
+    @Autowired
+    private OtpSecretKeyRepository otpSecretKeyRepository;
+    @Autowired
+    private TransactionRepository transactionRepository;
+    @Autowired
+    private ArchivedTransactionRepository archivedTransactionRepository;
+    @Autowired
+    private ArchiveTaskRepository archiveTaskRepository;
+
+    private User user;
+    private Account account;
+
+    @BeforeEach
+    void setUp() {
+        // 적은 row 에서는 full scan 이 더 싸다고 판단할 수 있으므로 table 마다 충분한 row 를 넣는다
+        jdbcTemplate.update("""
+            INSERT INTO users (name, password, phone, create_at, modified_at, email,
+                               is_otp_registered, is_verified_email)
+            SELECT 'seed', 'password', '01000000000', NOW(), NOW(),
+                   CONCAT('plan-seed', X, '@test.com'), 1, 1
+            FROM SYSTEM_RANGE(1, ?)""", SEED_USERS);
+        jdbcTemplate.update("""
+            INSERT INTO otp_secret_keys (create_at, modified_at, secret_key, user_id)
+            SELECT NOW(), NOW(), CONCAT('SECRET', id), id FROM users
+            WHERE email LIKE 'plan-seed%'""");
+        for (String status : List.of("0", "1")) {
+            jdbcTemplate.update("""
+                INSERT INTO accounts (create_at, modified_at, account_number, balance, status,
+                                      user_id)
+                SELECT NOW(), NOW(), CONCAT('PLAN', ?, '-', id), 0, ?, id FROM users
+                WHERE email LIKE 'plan-seed%'""", status, status);
+        }
+        for (int i = 0; i < 3; i++) {
+            jdbcTemplate.update("""
+                INSERT INTO transactions (amount, transaction_date, transaction_time,
+                                          transaction_type, account_id)
+                SELECT 1000, CURRENT_DATE, CURRENT_TIME, 'DEPOSIT', id FROM accounts
+                WHERE account_number LIKE 'PLAN%'""");
+        }
+        user = userRepository.findByEmail(SEED_EMAIL).orElseThrow();
+        account = accountRepository.findByUserAndStatus(user, Status.ACTIVE).get(0);
+    }
+
+    private void assertNoFullScan(Runnable query) {
+        entityManager.flush();
+        entityManager.clear();
+        RecordingStatementInspector.start();
+        query.run();
+        entityManager.flush();
+        List<String> statements = RecordingStatementInspector.stop();
+
+        assertThat(statements).isNotEmpty();
+        for (String sql : statements) {
+            String plan = explain(sql);
+            assertThat(plan).as("SQL: %s%nPLAN: %s", sql, plan)
+                .doesNotContainIgnoringCase("tableScan");
+        }
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.execute("EXPLAIN " + sql, (PreparedStatement statement) -> {
+            ParameterMetaData metaData = statement.getParameterMetaData();
+            for (int i = 1; i <= metaData.getParameterCount(); i++) {
+                statement.setObject(i, sampleValue(metaData.getParameterType(i)));
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getString(1);
+            }
+        });
+    }
+
+    private Object sampleValue(int sqlType) {
+        return switch (sqlType) {
+            case Types.BIGINT, Types.INTEGER, Types.SMALLINT, Types.TINYINT -> 1L;
+            case Types.BOOLEAN, Types.BIT -> true;
+            case Types.DATE -> Date.valueOf(LocalDate.now());
+            case Types.TIME -> Time.valueOf(LocalTime.now());
+            case Types.TIMESTAMP -> Timestamp.valueOf(LocalDateTime.now());
+            default -> "1";
+        };
+    }
+
+    @Test
+    @DisplayName("UserRepository - email 조회, 활성 계좌 수 조건부 update")
+    void userRepository_UsesIndex() {
+        assertNoFullScan(() -> userRepository.findByEmail(SEED_EMAIL));
+        assertNoFullScan(() -> userRepository.existsByEmail(SEED_EMAIL));
+        assertNoFullScan(() -> userRepository.incrementActiveAccountCount(user.getId(), 3));
+        assertNoFullScan(() -> userRepository.decrementActiveAccountCount(user.getId()));
+    }
+
+    @Test
+    @DisplayName("AccountRepository - 사용자별 계좌 조회, 계좌번호 조회, 계좌 비활성화")
+    void accountRepository_UsesIndex() {
+        assertNoFullScan(() -> accountRepository.findActiveAccounts(user));
+        assertNoFullScan(
+            () -> accountRepository.findByAccountNumber(account.getAccountNumber()));
+        assertNoFullScan(
+            () -> accountRepository.existsByAccountNumber(account.getAccountNumber()));
+        assertNoFullScan(() -> accountRepository.findById(account.getId()));
+        assertNoFullScan(() -> accountRepository.findActiveAccountDtos(user.getId()));
+        assertNoFullScan(
+            () -> accountRepository.findActiveAccountDto(account.getId(), user.getId()));
+        assertNoFullScan(
+            () -> accountRepository.existsByIdAndUserId(account.getId(), user.getId()));
+        assertNoFullScan(
+            () -> accountRepository.existsActiveAccount(account.getId(), user.getId()));
+        assertNoFullScan(
+            () -> accountRepository.findActiveAccountId(account.getAccountNumber()));
+        assertNoFullScan(
+            () -> accountRepository.disableActiveAccount(account.getId(), user.getId()));
+    }
+
+    @Test
+    @DisplayName("계좌의 거래 내역 조회")
+    void accountTransactions_UsesIndex() {
+        assertNoFullScan(() -> Hibernate.initialize(
+            accountRepository.findById(account.getId()).orElseThrow().getTransactions()));
+    }
+
+    @Test
+    @DisplayName("계좌 삭제 시 거래 내역 archive - chunk 경계 조회, 복사, 삭제")
+    void transactionArchive_UsesIndex() {
+        assertNoFullScan(() -> transactionRepository.findIdAtOffset(account.getId(), 0L, 999));
+        assertNoFullScan(() -> transactionRepository.findMaxIdAfter(account.getId(), 0L));
+        assertNoFullScan(() -> transactionRepository.countByAccountIdAndIdRange(
+            account.getId(), 0L, Long.MAX_VALUE));
+        assertNoFullScan(() -> archivedTransactionRepository.copyFromTransactions(
+            account.getId(), 0L, Long.MAX_VALUE, Long.MAX_VALUE / 2));
+        assertNoFullScan(() -> transactionRepository.deleteByAccountIdAndIdRange(
+            account.getId(), 0L, Long.MAX_VALUE));
+    }
+
+    @Test
+    @DisplayName("archive 거래 내역을 cold storage 로 옮기기 - 기간 조회, 삭제")
+    void coldStorageCompaction_UsesIndex() {
+        LocalDate today = LocalDate.now();
+        assertNoFullScan(
+            () -> archivedTransactionRepository.findFirstTransactionDate(account.getId()));
+        assertNoFullScan(
+            () -> archivedTransactionRepository.findLastTransactionDate(account.getId()));
+        assertNoFullScan(() -> archivedTransactionRepository.findColdTransactions(
+            account.getId(), today, today));
+        assertNoFullScan(
+            () -> archivedTransactionRepository.deleteByAccountIdAndTransactionDateBetween(
+                account.getId(), today, today));
+    }
+
+    @Test
+    @DisplayName("ArchiveTaskRepository - 처리할 작업 조회, lease (archive, cold storage)")
+    void archiveTaskRepository_UsesIndex() {
+        Long taskId = archiveTaskRepository.save(ArchiveTask.pending(account.getId())).getId();
+        LocalDateTime now = LocalDateTime.now();
+        assertNoFullScan(() -> archiveTaskRepository.findClaimableIds(now, 10));
+        assertNoFullScan(() -> archiveTaskRepository.acquireLease(taskId, "worker", now, now));
+        assertNoFullScan(() -> archiveTaskRepository.renewLease(taskId, "worker", now));
+        assertNoFullScan(() -> archiveTaskRepository.recordProgress(taskId, "worker", 1L, 1L));
+        assertNoFullScan(() -> archiveTaskRepository.complete(taskId, "worker"));
+        assertNoFullScan(() -> archiveTaskRepository.findCompactableIds(now, 10));
+        assertNoFullScan(
+            () -> archiveTaskRepository.acquireCompactionLease(taskId, "worker", now, now));
+        assertNoFullScan(() -> archiveTaskRepository.renewCompactionLease(taskId, "worker", now));
+        assertNoFullScan(() -> archiveTaskRepository.completeCompaction(taskId, "worker"));
+    }
+
+    @Test
+    @DisplayName("OtpSecretKeyRepository - 사용자별 OTP secret key 조회")
+    void otpSecretKeyRepository_UsesIndex() {
+        assertNoFullScan(() -> otpSecretKeyRepository.findByUser(user));
+        assertNoFullScan(() -> otpSecretKeyRepository.findSecretKeyByUserEmail(SEED_EMAIL));
+    }
+}
@@ -0,0 +1,86 @@
+package com.project.fintech.persistence.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.project.fintech.TestConfig;
+import com.project.fintech.model.type.TransactionType;
+import com.project.fintech.persistence.entity.Account;
+import com.project.fintech.persistence.entity.IdGenerator;
+import com.project.fintech.persistence.entity.Transaction;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+class TransactionBatchInsertTest {
+
+    private static final int ROWS = 250;
+
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    private Account account() {
+        jdbcTemplate.update("""
+            INSERT INTO users (name, password, phone, create_at, modified_at, email,
+                               is_otp_registered, is_verified_email)
+            VALUES ('name', 'password', '01000000000', NOW(), NOW(), 'batch-insert@test.com', 1, 1)""");
+        jdbcTemplate.update("""
+            INSERT INTO accounts (create_at, modified_at, account_number, balance, status, user_id)
+            SELECT NOW(), NOW(), 'BATCH-INSERT', 0, '0', id FROM users
+            WHERE email = 'batch-insert@test.com'""");
+        return entityManager.getReference(Account.class, jdbcTemplate.queryForObject(
+            "SELECT id FROM accounts WHERE account_number = 'BATCH-INSERT'", Long.class));
+    }
+
+    @Test
+    @DisplayName("거래 내역 여러 건 저장 - id 를 block 단위로 예약하고 JDBC batch 로 insert")
+    void saveAll_BatchesInserts() {
+        //given
+        Account account = account();
+        List<Transaction> transactions = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            transactions.add(Transaction.builder().account(account).amount(1_000L)
+                .transactionType(TransactionType.DEPOSIT).transactionDate(LocalDate.now())
+                .transactionTime(LocalTime.now()).build());
+        }
+        Statistics statistics = entityManager.getEntityManagerFactory()
+            .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        //when
+        transactionRepository.saveAll(transactions);
+        entityManager.flush();
+
+        //then
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(ROWS);
+        // batch 당 insert statement 1개, id block 예약 몇 번 (row 마다 statement 를 만들지 않음)
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(
+            ROWS / IdGenerator.ALLOCATION_SIZE * 4L + 4);
+        assertThat(transactions.stream().mapToLong(Transaction::getId).distinct().count())
+            .isEqualTo(ROWS);
+        long firstId = transactions.get(0).getId();
+        assertThat(transactions.stream().mapToLong(Transaction::getId))
+            .containsExactlyElementsOf(LongStream.range(firstId, firstId + ROWS).boxed().toList());
+    }
+}
@@ -0,0 +1,120 @@
+package com.project.fintech.persistence.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.project.fintech.TestConfig;
+import com.project.fintech.model.type.TransactionType;
+import com.project.fintech.persistence.entity.Account;
+import com.project.fintech.persistence.entity.Transaction;
+import jakarta.persistence.EntityManager;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 거래 내역 insert 처리량 비교 ({@code ./gradlew benchmark})
+ * <p>
+ * identityPerRow: IDENTITY id 를 쓰던 때처럼 row 마다 insert 하고 생성된 id 를 받아옴
+ * <p>
+ * tableIdBatched: table 에서 예약한 id 로 JDBC batch insert (현재 Transaction entity 의 방식)
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = "spring.jpa.show-sql=false")
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+class TransactionInsertBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(
+        TransactionInsertBenchmarkTest.class);
+    private static final int ROWS = 100_000;
+    private static final int FLUSH_SIZE = 1_000;
+
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    private Long accountId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("""
+            INSERT INTO users (name, password, phone, create_at, modified_at, email,
+                               is_otp_registered, is_verified_email)
+            VALUES ('name', 'password', '01000000000', NOW(), NOW(), 'insert-bench@test.com', 1, 1)""");
+        jdbcTemplate.update("""
+            INSERT INTO accounts (create_at, modified_at, account_number, balance, status, user_id)
+            SELECT NOW(), NOW(), 'INSERT-BENCH', 0, '0', id FROM users
+            WHERE email = 'insert-bench@test.com'""");
+        accountId = jdbcTemplate.queryForObject(
+            "SELECT id FROM accounts WHERE account_number = 'INSERT-BENCH'", Long.class);
+    }
+
+    private long rowsPerSecond(long startNanos) {
+        return ROWS * 1_000_000_000L / Math.max(System.nanoTime() - startNanos, 1);
+    }
+
+    @Test
+    @DisplayName("거래 내역 10만 건 insert - row 별 IDENTITY insert 와 batch insert 비교")
+    void insertThroughput() {
+        //when
+        long identityStart = System.nanoTime();
+        for (int i = 0; i < ROWS; i++) {
+            GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.update(connection -> {
+                PreparedStatement statement = connection.prepareStatement("""
+                    INSERT INTO transactions (amount, transaction_date, transaction_time,
+                                              transaction_type, account_id)
+                    VALUES (1000, CURRENT_DATE, CURRENT_TIME, 'DEPOSIT', ?)""",
+                    Statement.RETURN_GENERATED_KEYS);
+                statement.setLong(1, accountId);
+                return statement;
+            }, keyHolder);
+        }
+        long identityRowsPerSecond = rowsPerSecond(identityStart);
+        jdbcTemplate.update("DELETE FROM transactions WHERE account_id = ?", accountId);
+
+        Account account = entityManager.getReference(Account.class, accountId);
+        long batchedStart = System.nanoTime();
+        for (int i = 0; i < ROWS; i += FLUSH_SIZE) {
+            List<Transaction> transactions = new ArrayList<>(FLUSH_SIZE);
+            for (int j = 0; j < FLUSH_SIZE; j++) {
+                transactions.add(Transaction.builder().account(account).amount(1_000L)
+                    .transactionType(TransactionType.DEPOSIT).transactionDate(LocalDate.now())
+                    .transactionTime(LocalTime.now()).build());
+            }
+            transactionRepository.saveAll(transactions);
+            entityManager.flush();
+            entityManager.clear();
+            account = entityManager.getReference(Account.class, accountId);
+        }
+        long batchedRowsPerSecond = rowsPerSecond(batchedStart);
+
+        //then
+        log.info("transactions insert - identityPerRow: {} rows/s, tableIdBatched: {} rows/s",
+            identityRowsPerSecond, batchedRowsPerSecond);
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM transactions WHERE account_id = ?", Long.class, accountId))
+            .isEqualTo(ROWS);
+    }
+}
@@ -0,0 +1,111 @@
+package com.project.fintech.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.project.fintech.exception.CustomException;
+import com.project.fintech.exception.ErrorCode;
+import com.project.fintech.persistence.entity.User;
+import com.project.fintech.persistence.repository.AccountRepository;
+import com.project.fintech.persistence.repository.UserRepository;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import redis.embedded.RedisServer;
+
+@SpringBootTest
+@TestInstance(Lifecycle.PER_CLASS)
+@ActiveProfiles("test")
+class AccountCreationLimitConcurrencyTest {
+
+    private static final int CONCURRENT_REQUESTS = 16;
+    private static final int MAX_ACCOUNT_COUNT = 3;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    private RedisServer redisServer;
+    private User user;
+
+    @BeforeAll
+    public void setUp() throws IOException {
+        redisServer = new RedisServer(6300);
+        redisServer.start();
+        user = userRepository.save(
+            User.builder().name("name").phone("01010001000").email("account-limit@test.com")
+                .isVerifiedEmail(true).isOtpRegistered(true).password("encodedPassword")
+                .build());
+    }
+
+    @AfterAll
+    public void tearDown() throws IOException {
+        accountRepository.deleteAll(accountRepository.findActiveAccounts(user));
+        userRepository.delete(user);
+        if (redisServer != null) {
+            Objects.requireNonNull(stringRedisTemplate.getConnectionFactory()).getConnection()
+                .serverCommands().flushAll();
+            redisServer.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("동시에 계좌 생성을 요청해도 사용자별 최대 계좌 수(3)까지만 생성")
+    void createAccount_HoldsLimit_WhenConcurrent() throws Exception {
+        //given
+        ExecutorService executorService = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<ErrorCode>> futures = new ArrayList<>();
+
+        //when
+        for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+            futures.add(executorService.submit(() -> {
+                startLatch.await();
+                try {
+                    accountService.createAccount(user);
+                    return null;
+                } catch (CustomException e) {
+                    return e.getErrorCode();
+                }
+            }));
+        }
+        startLatch.countDown();
+        List<ErrorCode> results = new ArrayList<>();
+        for (Future<ErrorCode> future : futures) {
+            results.add(future.get(10, TimeUnit.SECONDS));
+        }
+        executorService.shutdown();
+
+        //then
+        assertThat(results.stream().filter(Objects::isNull).count()).isEqualTo(MAX_ACCOUNT_COUNT);
+        assertThat(results.stream().filter(Objects::nonNull))
+            .hasSize(CONCURRENT_REQUESTS - MAX_ACCOUNT_COUNT)
+            .allMatch(errorCode -> errorCode == ErrorCode.ACCOUNT_CREATION_LIMIT_EXCEEDED);
+        assertThat(accountRepository.findActiveAccounts(user)).hasSize(MAX_ACCOUNT_COUNT);
+        assertThat(userRepository.findById(user.getId()).orElseThrow().getActiveAccountCount())
+            .isEqualTo(MAX_ACCOUNT_COUNT);
+    }
+}
@@ -0,0 +1,268 @@
+package com.project.fintech.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.project.fintech.TestConfig;
+import com.project.fintech.exception.CustomException;
+import com.project.fintech.exception.ErrorCode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 계좌 삭제가 다른 요청과 겹쳐도 활성 계좌 수와 잔액이 어긋나지 않는지 확인한다. 요청마다 transaction 을 commit 해야 하므로 test
+ * transaction 없이 실행하고 데이터는 직접 지운다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@ActiveProfiles("test")
+@Import({TestConfig.class, AccountService.class, AccountNumberAllocator.class,
+    TransactionService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AccountDeleteConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final int ROUNDS = 20;
+
+    @Autowired
+    private AccountService accountService;
+    @Autowired
+    private TransactionService transactionService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long userId;
+    private Long accountId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("""
+            INSERT INTO users (name, password, phone, create_at, modified_at, email,
+                               is_otp_registered, is_verified_email, active_account_count)
+            VALUES ('name', 'password', '01000000000', NOW(), NOW(), 'delete-race@test.com', 1, 1,
+                    1)""");
+        userId = jdbcTemplate.queryForObject(
+            "SELECT id FROM users WHERE email = 'delete-race@test.com'", Long.class);
+        accountId = insertAccount(userId, "DELETE-RACE");
+    }
+
+    private Long insertAccount(Long ownerId, String accountNumber) {
+        jdbcTemplate.update("""
+            INSERT INTO accounts (create_at, modified_at, account_number, balance, status, user_id)
+            VALUES (NOW(), NOW(), ?, 0, '0', ?)""", accountNumber, ownerId);
+        return jdbcTemplate.queryForObject("SELECT id FROM accounts WHERE account_number = ?",
+            Long.class, accountNumber);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM archive_tasks");
+        jdbcTemplate.update("DELETE FROM transactions");
+        jdbcTemplate.update("DELETE FROM accounts");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    private int activeAccountCount() {
+        return jdbcTemplate.queryForObject("SELECT active_account_count FROM users WHERE id = ?",
+            Integer.class, userId);
+    }
+
+    private long balance(Long id) {
+        return jdbcTemplate.queryForObject("SELECT balance FROM accounts WHERE id = ?",
+            Long.class, id);
+    }
+
+    private String status(Long id) {
+        return jdbcTemplate.queryForObject("SELECT status FROM accounts WHERE id = ?",
+            String.class, id);
+    }
+
+    private long transactionAmountSum(Long id) {
+        return jdbcTemplate.queryForObject(
+            "SELECT COALESCE(SUM(amount), 0) FROM transactions WHERE account_id = ?", Long.class,
+            id);
+    }
+
+    private long archiveTaskCount() {
+        return jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM archive_tasks WHERE account_id = ?", Long.class, accountId);
+    }
+
+    /**
+     * 모든 thread 가 준비된 뒤 동시에 task 를 시작한다
+     */
+    private void runConcurrently(Callable<Void> task) throws Exception {
+        runConcurrently(thread -> task.call());
+    }
+
+    /**
+     * thread 번호(0 ~ THREADS - 1)를 받아 task 를 동시에 시작한다
+     */
+    private void runConcurrently(ThreadTask task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            int thread = i;
+            futures.add(executor.submit(() -> {
+                start.await();
+                task.run(thread);
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<Void> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 계좌 삭제 동시 요청 - 한 번만 삭제되고 활성 계좌 수도 한 번만 줄어듦")
+    void deleteAccount_Concurrently_DisablesOnce() throws Exception {
+        //given
+        AtomicInteger deleted = new AtomicInteger();
+        AtomicInteger notFound = new AtomicInteger();
+
+        //when
+        runConcurrently(() -> {
+            try {
+                accountService.deleteAccount(userId, accountId);
+                deleted.incrementAndGet();
+            } catch (CustomException e) {
+                assertThat(e.getErrorCode()).isEqualTo(ErrorCode.ACCOUNT_NOT_FOUND);
+                notFound.incrementAndGet();
+            }
+            return null;
+        });
+
+        //then
+        assertThat(deleted.get()).isEqualTo(1);
+        assertThat(notFound.get()).isEqualTo(THREADS - 1);
+        assertThat(activeAccountCount()).isZero();
+        assertThat(archiveTaskCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("계좌 삭제와 입금 동시 요청 - 입금이 먼저면 삭제 실패, 삭제가 먼저면 입금 실패, 입금액은 사라지지 않음")
+    void deleteAccount_ConcurrentWithDeposit_NeverLosesDeposit() throws Exception {
+        for (int round = 0; round < ROUNDS; round++) {
+            //given
+            Long roundAccountId = insertAccount(userId, "DELETE-DEPOSIT-" + round);
+            jdbcTemplate.update("UPDATE users SET active_account_count = 1 WHERE id = ?", userId);
+            AtomicInteger deleted = new AtomicInteger();
+            AtomicInteger deposited = new AtomicInteger();
+
+            //when (0번 thread 는 삭제, 나머지는 입금)
+            runConcurrently(thread -> {
+                try {
+                    if (thread == 0) {
+                        accountService.deleteAccount(userId, roundAccountId);
+                        deleted.incrementAndGet();
+                    } else {
+                        transactionService.deposit(userId, roundAccountId, 100L, null);
+                        deposited.incrementAndGet();
+                    }
+                } catch (CustomException e) {
+                    assertThat(e.getErrorCode()).isEqualTo(thread == 0
+                        ? ErrorCode.ACCOUNT_BALANCE_NOT_ZERO : ErrorCode.ACCOUNT_NOT_FOUND);
+                }
+            });
+
+            //then
+            assertThat(balance(roundAccountId)).isEqualTo(deposited.get() * 100L)
+                .isEqualTo(transactionAmountSum(roundAccountId));
+            if (deleted.get() == 1) {
+                assertThat(status(roundAccountId)).isEqualTo("1");
+                assertThat(deposited.get()).isZero();
+            } else {
+                assertThat(status(roundAccountId)).isEqualTo("0");
+                assertThat(deposited.get()).isPositive();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("계좌 삭제와 그 계좌로의 송금 동시 요청 - 송금액이 비활성 계좌에 들어가거나 사라지지 않음")
+    void deleteAccount_ConcurrentWithIncomingTransfer_NeverLosesCredit() throws Exception {
+        //given
+        long initialBalance = 1_000_000L;
+        jdbcTemplate.update("""
+            INSERT INTO users (name, password, phone, create_at, modified_at, email,
+                               is_otp_registered, is_verified_email, active_account_count)
+            VALUES ('sender', 'password', '01000000001', NOW(), NOW(), 'delete-race-sender@test.com',
+                    1, 1, 1)""");
+        Long senderId = jdbcTemplate.queryForObject(
+            "SELECT id FROM users WHERE email = 'delete-race-sender@test.com'", Long.class);
+        Long senderAccountId = insertAccount(senderId, "DELETE-TRANSFER-SENDER");
+        jdbcTemplate.update("UPDATE accounts SET balance = ? WHERE id = ?", initialBalance,
+            senderAccountId);
+        AtomicInteger transferred = new AtomicInteger();
+
+        for (int round = 0; round < ROUNDS; round++) {
+            String recipientAccountNumber = "DELETE-TRANSFER-" + round;
+            Long recipientAccountId = insertAccount(userId, recipientAccountNumber);
+            jdbcTemplate.update("UPDATE users SET active_account_count = 1 WHERE id = ?", userId);
+            AtomicInteger deleted = new AtomicInteger();
+            AtomicInteger credited = new AtomicInteger();
+
+            //when (0번 thread 는 받는 계좌의 소유자가 삭제, 나머지는 다른 사용자가 송금)
+            runConcurrently(thread -> {
+                try {
+                    if (thread == 0) {
+                        accountService.deleteAccount(userId, recipientAccountId);
+                        deleted.incrementAndGet();
+                    } else {
+                        transactionService.transfer(senderId, senderAccountId,
+                            recipientAccountNumber, 100L, null);
+                        credited.incrementAndGet();
+                    }
+                } catch (CustomException e) {
+                    assertThat(e.getErrorCode()).isEqualTo(thread == 0
+                        ? ErrorCode.ACCOUNT_BALANCE_NOT_ZERO
+                        : ErrorCode.RECIPIENT_ACCOUNT_NOT_FOUND);
+                }
+            });
+            transferred.addAndGet(credited.get());
+
+            //then
+            assertThat(balance(recipientAccountId)).isEqualTo(credited.get() * 100L)
+                .isEqualTo(transactionAmountSum(recipientAccountId));
+            if (deleted.get() == 1) {
+                assertThat(status(recipientAccountId)).isEqualTo("1");
+                assertThat(credited.get()).isZero();
+            } else {
+                assertThat(status(recipientAccountId)).isEqualTo("0");
+                assertThat(credited.get()).isPositive();
+            }
+        }
+        // 실패한 송금은 보내는 계좌의 차감도 rollback 된다
+        assertThat(balance(senderAccountId)).isEqualTo(initialBalance - transferred.get() * 100L)
+            .isEqualTo(initialBalance + transactionAmountSum(senderAccountId));
+    }
+
+    @FunctionalInterface
+    private interface ThreadTask {
+
+        void run(int thread) throws Exception;
+    }
+}
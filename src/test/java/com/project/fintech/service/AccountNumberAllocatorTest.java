@@ -0,0 +1,158 @@
+package com.project.fintech.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.project.fintech.exception.CustomException;
+import com.project.fintech.exception.ErrorCode;
+import com.project.fintech.persistence.entity.IdGenerator;
+import com.project.fintech.persistence.id.IdBlockSource;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AccountNumberAllocatorTest {
+
+    private static final String PERMUTATION_KEY = "dGVzdC1wZXJtdXRhdGlvbi1rZXk=";
+
+    @Mock
+    IdBlockSource idBlockSource;
+
+    private AccountNumberAllocator allocator(long blockSize) {
+        return new AccountNumberAllocator(idBlockSource, PERMUTATION_KEY, blockSize);
+    }
+
+    /**
+     * id_generators 의 account_number counter 처럼 예약한 개수만큼 늘어나는 counter
+     */
+    private AtomicLong counterStartingAt(long nextValue) {
+        AtomicLong counter = new AtomicLong(nextValue);
+        when(idBlockSource.reserve(eq(IdGenerator.ACCOUNT_NUMBERS), anyLong())).thenAnswer(
+            invocation -> counter.getAndAdd(invocation.getArgument(1)));
+        return counter;
+    }
+
+    @Test
+    @DisplayName("앞쪽 counter 1,000,000 개의 순열 결과가 겹치지 않고 8자리 범위를 벗어나지 않음")
+    void permute_IsInjectiveOverLeadingCounters() {
+        //given
+        AccountNumberAllocator allocator = allocator(1_000);
+        int counters = 1_000_000;
+        BitSet issued = new BitSet((int) AccountNumberAllocator.DOMAIN_SIZE);
+
+        //when
+        for (long counter = 0; counter < counters; counter++) {
+            long permuted = allocator.permute(counter);
+            assertThat(permuted).isBetween(0L, AccountNumberAllocator.DOMAIN_SIZE - 1);
+            issued.set((int) permuted);
+        }
+
+        //then
+        assertThat(issued.cardinality()).isEqualTo(counters);
+    }
+
+    // 90,000,000 개를 모두 계산하므로 ./gradlew benchmark 로만 실행
+    @Test
+    @Tag("benchmark")
+    @DisplayName("counter 전체 범위에서 순열 결과가 겹치지 않고 8자리 범위를 벗어나지 않음")
+    void permute_IsBijectionOverWholeDomain() {
+        //given
+        AccountNumberAllocator allocator = allocator(1_000);
+        BitSet issued = new BitSet((int) AccountNumberAllocator.DOMAIN_SIZE);
+
+        long outOfRange = 0;
+
+        //when
+        for (long counter = 0; counter < AccountNumberAllocator.DOMAIN_SIZE; counter++) {
+            long permuted = allocator.permute(counter);
+            if (permuted < 0 || permuted >= AccountNumberAllocator.DOMAIN_SIZE) {
+                outOfRange++;
+                continue;
+            }
+            issued.set((int) permuted);
+        }
+
+        //then (겹치는 값이 있으면 set 된 bit 수가 counter 개수보다 작다)
+        assertThat(outOfRange).isZero();
+        assertThat(issued.cardinality()).isEqualTo((int) AccountNumberAllocator.DOMAIN_SIZE);
+    }
+
+    @Test
+    @DisplayName("permutation key 가 비어 있거나 짧으면 생성 실패")
+    void constructor_Fail_WhenPermutationKeyTooShort() {
+        //when & then
+        assertThatThrownBy(
+            () -> new AccountNumberAllocator(idBlockSource, "", 1_000)).isInstanceOf(
+            IllegalStateException.class);
+        assertThatThrownBy(
+            () -> new AccountNumberAllocator(idBlockSource, "c2hvcnQ=", 1_000)).isInstanceOf(
+            IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("임대한 block 을 다 쓸 때만 DB 에서 다음 block 을 임대")
+    void nextMiddleNumber_LeasesBlockOnlyWhenExhausted() {
+        //given
+        AtomicLong counter = counterStartingAt(0L);
+        AccountNumberAllocator allocator = allocator(3);
+        Set<Long> middleNumbers = new HashSet<>();
+
+        //when
+        for (int i = 0; i < 5; i++) {
+            middleNumbers.add(allocator.nextMiddleNumber());
+        }
+
+        //then
+        assertThat(middleNumbers).hasSize(5).allMatch(
+            number -> number >= 10_000_000L && number <= 99_999_999L);
+        assertThat(counter.get()).isEqualTo(6L);
+        verify(idBlockSource, times(2)).reserve(IdGenerator.ACCOUNT_NUMBERS, 3);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 임대한 구간과 겹치지 않는 번호 발급")
+    void nextMiddleNumber_DisjointAcrossNodes() {
+        //given
+        counterStartingAt(0L);
+        AccountNumberAllocator nodeA = allocator(100);
+        AccountNumberAllocator nodeB = allocator(100);
+        Set<Long> middleNumbers = new HashSet<>();
+
+        //when
+        for (int i = 0; i < 250; i++) {
+            middleNumbers.add(nodeA.nextMiddleNumber());
+            middleNumbers.add(nodeB.nextMiddleNumber());
+        }
+
+        //then
+        assertThat(middleNumbers).hasSize(500);
+    }
+
+    @Test
+    @DisplayName("발급 가능한 counter 를 모두 쓰면 예외")
+    void nextMiddleNumber_Fail_WhenExhausted() {
+        //given
+        counterStartingAt(AccountNumberAllocator.DOMAIN_SIZE - 1);
+        AccountNumberAllocator allocator = allocator(1_000);
+
+        //when
+        allocator.nextMiddleNumber();
+
+        //then
+        assertThatThrownBy(allocator::nextMiddleNumber).isInstanceOf(CustomException.class)
+            .extracting("errorCode").isEqualTo(ErrorCode.ACCOUNT_NUMBER_EXHAUSTED);
+    }
+}
@@ -2,25 +2,28 @@ package com.project.fintech.service;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.project.fintech.builder.AccountTestDataBuilder;
-import com.project.fintech.builder.TransactionTestDataBuilder;
 import com.project.fintech.builder.UserTestDataBuilder;
 import com.project.fintech.exception.CustomException;
 import com.project.fintech.exception.ErrorCode;
-import com.project.fintech.model.dto.domain.TransactionMapper;
+import com.project.fintech.model.dto.domain.AccountDto;
+import com.project.fintech.model.type.ArchiveTaskStatus;
 import com.project.fintech.model.type.Status;
 import com.project.fintech.persistence.entity.Account;
+import com.project.fintech.persistence.entity.ArchiveTask;
 import com.project.fintech.persistence.entity.User;
 import com.project.fintech.persistence.repository.AccountRepository;
-import com.project.fintech.persistence.repository.ArchivedTransactionRepository;
-import com.project.fintech.persistence.repository.TransactionRepository;
+import com.project.fintech.persistence.repository.ArchiveTaskRepository;
 import com.project.fintech.persistence.repository.UserRepository;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -44,21 +47,18 @@ class AccountServiceTest {
     AccountRepository accountRepository;
 
     @Mock
-    TransactionRepository transactionRepository;
+    ArchiveTaskRepository archiveTaskRepository;
 
     @Mock
-    ArchivedTransactionRepository archivedTransactionRepository;
-
-    @Mock
-    TransactionMapper transactionMapper;
+    UserRepository userRepository;
 
     @Mock
-    UserRepository userRepository;
+    AccountNumberAllocator accountNumberAllocator;
 
     @InjectMocks
     AccountService accountService;
 
-    private Long MAX_ACCOUNT_COUNT = 3L;
+    private int MAX_ACCOUNT_COUNT = 3;
     private String SERVICE_CODE = "177";
 
     @Test
@@ -126,7 +126,9 @@ class AccountServiceTest {
         Account account = new AccountTestDataBuilder().build();
         User user = new UserTestDataBuilder().withAccounts(new ArrayList<>(List.of(account)))
             .build();
-        when(accountRepository.countActiveAccountsByUser(any())).thenReturn(1L);
+        when(userRepository.incrementActiveAccountCount(user.getId(), MAX_ACCOUNT_COUNT))
+            .thenReturn(1);
+        when(accountNumberAllocator.nextMiddleNumber()).thenReturn(12_345_678L);
 
         //when
         Account newAccount = accountService.createAccount(user);
@@ -138,12 +140,33 @@ class AccountServiceTest {
         assertThat(userAccounts.stream().anyMatch(x -> x.equals(newAccount))).isTrue();
     }
 
+    @Test
+    @DisplayName("계좌 생성 - 발급기 도입 전에 발급한 계좌번호와 겹치면 다음 번호 사용")
+    void createAccount_SkipsExistingAccountNumber() {
+        //given
+        User user = new UserTestDataBuilder().build();
+        when(userRepository.incrementActiveAccountCount(user.getId(), MAX_ACCOUNT_COUNT))
+            .thenReturn(1);
+        when(accountNumberAllocator.nextMiddleNumber()).thenReturn(12_345_678L, 87_654_321L);
+        when(accountRepository.existsByAccountNumber(startsWith(SERVICE_CODE + "12345678")))
+            .thenReturn(true);
+        when(accountRepository.save(any(Account.class))).then(returnsFirstArg());
+
+        //when
+        Account newAccount = accountService.createAccount(user);
+
+        //then
+        assertThat(newAccount.getAccountNumber()).startsWith(SERVICE_CODE + "87654321");
+        verify(accountNumberAllocator, times(2)).nextMiddleNumber();
+    }
+
     @Test
     @DisplayName("계좌 생성 - 실패 - 최대 계설 가능 계좌 개수에 도달했을때")
     void createAccount_Fail_WhenAccountCreationLimitExceeded() {
         //given
         User user = new UserTestDataBuilder().build();
-        when(accountRepository.countActiveAccountsByUser(user)).thenReturn(MAX_ACCOUNT_COUNT);
+        when(userRepository.incrementActiveAccountCount(user.getId(), MAX_ACCOUNT_COUNT))
+            .thenReturn(0);
 
         //when & then
         assertThatThrownBy(() -> accountService.createAccount(user)).isInstanceOf(
@@ -155,61 +178,121 @@ class AccountServiceTest {
     @DisplayName("계좌 삭제 - 성공")
     void deleteAccount_Success() {
         //given
-        Account account = new AccountTestDataBuilder().withTransactions(
-            new ArrayList<>(List.of(new TransactionTestDataBuilder().build()))).build();
-        User user = new UserTestDataBuilder().withAccounts(new ArrayList<>(List.of(account)))
-            .build();
-        int transactionsSizeBefore = account.getTransactions().size();
+        Long userId = 1L;
+        Long accountId = 10L;
+        AccountDto accountDto = new AccountDto(accountId, "test@test.com", "177256143201", 0L);
+        when(accountRepository.disableActiveAccount(accountId, userId)).thenReturn(1);
+        when(accountRepository.findAccountDtoByIdAndUserIdAndStatus(accountId, userId,
+            Status.DISABLED)).thenReturn(Optional.of(accountDto));
 
         //when
-        accountService.deleteAccount(user, account);
-        int transactionsSizeAfter = account.getTransactions().size();
+        AccountDto deletedAccount = accountService.deleteAccount(userId, accountId);
 
         //then
-        assertThat(account.getStatus()).isEqualTo(Status.DISABLED);
-        assertThat(transactionsSizeBefore).isNotZero();
-        assertThat(transactionsSizeAfter).isZero();
+        assertThat(deletedAccount).isEqualTo(accountDto);
+        verify(userRepository, times(1)).decrementActiveAccountCount(userId);
+        ArgumentCaptor<ArchiveTask> taskCaptor = ArgumentCaptor.forClass(ArchiveTask.class);
+        verify(archiveTaskRepository, times(1)).save(taskCaptor.capture());
+        assertThat(taskCaptor.getValue().getAccountId()).isEqualTo(accountId);
+        assertThat(taskCaptor.getValue().getStatus()).isEqualTo(ArchiveTaskStatus.PENDING);
+        verify(accountRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("계좌 삭제 - 실패 - 계좌가 없거나 이미 삭제되었을 때")
+    void deleteAccount_Fail_WhenAccountAlreadyDisabled() {
+        //given
+        Account account = new AccountTestDataBuilder().withBalance(0L).build();
+        account.disabled();
+        Long userId = 1L;
+        Long accountId = 10L;
+        when(accountRepository.disableActiveAccount(accountId, userId)).thenReturn(0);
+        when(accountRepository.findById(accountId)).thenReturn(Optional.of(account));
+
+        //when & then
+        assertThatThrownBy(() -> accountService.deleteAccount(userId, accountId)).isInstanceOf(
+                CustomException.class).extracting("errorCode")
+            .isEqualTo(ErrorCode.ACCOUNT_NOT_FOUND);
+        verify(userRepository, never()).decrementActiveAccountCount(anyLong());
+        verify(archiveTaskRepository, never()).save(any());
     }
 
     @Test
     @DisplayName("계좌 삭제 - 실패 - 사용자와 계좌의 정보가 일치하지 않을 때")
     void deleteAccount_Fail_WhenAccountUserMismatch() {
         //given
-        Account userAccount = new AccountTestDataBuilder().withTransactions(
-            new ArrayList<>(List.of(new TransactionTestDataBuilder().build()))).build();
-        Account otherAccount = new AccountTestDataBuilder().build();
-        User user = new UserTestDataBuilder().withAccounts(new ArrayList<>(List.of(userAccount)))
-            .build();
+        Account otherAccount = new AccountTestDataBuilder().withBalance(0L).build();
+        Long userId = 1L;
+        Long accountId = 10L;
+        when(accountRepository.disableActiveAccount(accountId, userId)).thenReturn(0);
+        when(accountRepository.findById(accountId)).thenReturn(Optional.of(otherAccount));
+        when(accountRepository.existsByIdAndUserId(accountId, userId)).thenReturn(false);
 
         //when & then
-        assertThatThrownBy(() -> accountService.deleteAccount(user, otherAccount)).isInstanceOf(
+        assertThatThrownBy(() -> accountService.deleteAccount(userId, accountId)).isInstanceOf(
                 CustomException.class).extracting("errorCode")
             .isEqualTo(ErrorCode.ACCOUNT_USER_MISMATCH);
+        verify(userRepository, never()).decrementActiveAccountCount(anyLong());
+    }
+
+    @Test
+    @DisplayName("계좌 삭제 - 실패 - 잔액이 남아있을 때")
+    void deleteAccount_Fail_WhenBalanceNotZero() {
+        //given
+        Account account = new AccountTestDataBuilder().withBalance(1000L).build();
+        Long userId = 1L;
+        Long accountId = 10L;
+        when(accountRepository.disableActiveAccount(accountId, userId)).thenReturn(0);
+        when(accountRepository.findById(accountId)).thenReturn(Optional.of(account));
+        when(accountRepository.existsByIdAndUserId(accountId, userId)).thenReturn(true);
+
+        //when & then
+        assertThatThrownBy(() -> accountService.deleteAccount(userId, accountId)).isInstanceOf(
+                CustomException.class).extracting("errorCode")
+            .isEqualTo(ErrorCode.ACCOUNT_BALANCE_NOT_ZERO);
+        verify(userRepository, never()).decrementActiveAccountCount(anyLong());
+        verify(archiveTaskRepository, never()).save(any());
     }
 
     @Test
     @DisplayName("사용자의 보유 계좌 목록 조회 - 성공")
     void getUserAccounts_Success() {
         //given
-        User user = new UserTestDataBuilder().build();
-        Account account = new AccountTestDataBuilder().build();
-        when(accountRepository.findByUserAndStatus(user, Status.ACTIVE)).thenReturn(List.of(account));
+        Long userId = 1L;
+        AccountDto accountDto = new AccountDto(10L, "test@test.com", "177256143201", 1000L);
+        when(accountRepository.findActiveAccountDtos(userId)).thenReturn(List.of(accountDto));
 
         //when
-        accountService.getUserAccounts(user);
+        List<AccountDto> userAccounts = accountService.getUserAccounts(userId);
 
         //then
-        verify(accountRepository, times(1)).findByUserAndStatus(user, Status.ACTIVE);
+        assertThat(userAccounts.get(0)).isEqualTo(accountDto);
+        verify(accountRepository, times(1)).findActiveAccountDtos(userId);
     }
 
     @Test
     @DisplayName("사용자의 보유 계좌 목록 조회 - 실패 - 사용자의 계좌가 없을 때")
     void getUserAccounts_Fail_WhenUserAccountNotFound() {
         //given
-        User user = new UserTestDataBuilder().withAccounts(Collections.emptyList()).build();
+        Long userId = 1L;
+        when(accountRepository.findActiveAccountDtos(userId)).thenReturn(Collections.emptyList());
+
+        //when & then
+        assertThatThrownBy(() -> accountService.getUserAccounts(userId)).isInstanceOf(
+            CustomException.class).extracting("errorCode").isEqualTo(ErrorCode.ACCOUNT_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("사용자의 단일 계좌 조회 - 실패 - 다른 사용자의 계좌일 때")
+    void getUserAccount_Fail_WhenAccountOfOtherUser() {
+        //given
+        Long userId = 1L;
+        Long accountId = 10L;
+        when(accountRepository.findActiveAccountDto(accountId, userId)).thenReturn(
+            Optional.empty());
 
-        //awhen & then
-        assertThatThrownBy(() -> accountService.getUserAccounts(user)).isInstanceOf(CustomException.class)
-            .extracting("errorCode").isEqualTo(ErrorCode.ACCOUNT_NOT_FOUND);
+        //when & then
+        assertThatThrownBy(() -> accountService.getUserAccount(userId, accountId)).isInstanceOf(
+            CustomException.class).extracting("errorCode").isEqualTo(ErrorCode.ACCOUNT_NOT_FOUND);
     }
 }
@@ -0,0 +1,154 @@
+package com.project.fintech.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.project.fintech.TestConfig;
+import com.project.fintech.model.type.ArchiveTaskStatus;
+import com.project.fintech.persistence.entity.ArchiveTask;
+import com.project.fintech.persistence.repository.ArchiveTaskRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * worker 는 chunk 마다 transaction 을 commit 하므로 test transaction 없이 실행하고 데이터는 직접 지운다
+ */
+@DataJpaTest(properties = "account.archive.chunk-size=" + ArchiveWorkerTest.CHUNK_SIZE)
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@ActiveProfiles("test")
+@Import({TestConfig.class, TransactionArchiver.class,
+    IdBlockReserver.class, ArchiveWorker.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ArchiveWorkerTest {
+
+    static final int CHUNK_SIZE = 2;
+    private static final int TRANSACTION_COUNT = 5;
+
+    @Autowired
+    private ArchiveWorker archiveWorker;
+    @Autowired
+    private ArchiveTaskRepository archiveTaskRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long accountId;
+    private List<Long> transactionIds;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("""
+            INSERT INTO users (name, password, phone, create_at, modified_at, email,
+                               is_otp_registered, is_verified_email)
+            VALUES ('name', 'password', '01000000000', NOW(), NOW(), 'archive-worker@test.com', 1, 1)""");
+        jdbcTemplate.update("""
+            INSERT INTO accounts (create_at, modified_at, account_number, balance, status, user_id)
+            SELECT NOW(), NOW(), 'ARCHIVE-WORKER', 0, '1', id FROM users
+            WHERE email = 'archive-worker@test.com'""");
+        accountId = jdbcTemplate.queryForObject(
+            "SELECT id FROM accounts WHERE account_number = 'ARCHIVE-WORKER'", Long.class);
+        jdbcTemplate.update("""
+            INSERT INTO transactions (amount, transaction_date, transaction_time, transaction_type,
+                                      account_id)
+            SELECT X, CURRENT_DATE, CURRENT_TIME, 'DEPOSIT', ? FROM SYSTEM_RANGE(1, ?)""",
+            accountId, TRANSACTION_COUNT);
+        transactionIds = jdbcTemplate.queryForList(
+            "SELECT id FROM transactions WHERE account_id = ? ORDER BY id", Long.class, accountId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM archive_tasks");
+        jdbcTemplate.update("DELETE FROM archived_transactions");
+        jdbcTemplate.update("DELETE FROM transactions");
+        jdbcTemplate.update("DELETE FROM accounts");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM " + table + " WHERE account_id = ?", Long.class, accountId);
+    }
+
+    @Test
+    @DisplayName("archive 작업 처리 - 성공 - 거래 내역을 모두 옮기고 완료 처리")
+    void drain_Success() {
+        //given
+        Long taskId = archiveTaskRepository.save(ArchiveTask.pending(accountId)).getId();
+
+        //when
+        int completed = archiveWorker.drain();
+
+        //then
+        ArchiveTask task = archiveTaskRepository.findById(taskId).orElseThrow();
+        assertThat(completed).isEqualTo(1);
+        assertThat(task.getStatus()).isEqualTo(ArchiveTaskStatus.DONE);
+        assertThat(task.getArchivedCount()).isEqualTo(TRANSACTION_COUNT);
+        assertThat(task.getLastArchivedId()).isEqualTo(transactionIds.get(TRANSACTION_COUNT - 1));
+        assertThat(task.getLeaseOwner()).isNull();
+        assertThat(count("transactions")).isZero();
+        assertThat(count("archived_transactions")).isEqualTo(TRANSACTION_COUNT);
+    }
+
+    @Test
+    @DisplayName("archive 작업 처리 - 도중에 죽은 worker 의 lease 가 만료되면 기록된 진행 상태부터 이어서 처리")
+    void drain_ResumesAfterExpiredLease() {
+        //given
+        Long taskId = archiveTaskRepository.save(ArchiveTask.pending(accountId)).getId();
+        Long lastArchivedId = transactionIds.get(CHUNK_SIZE - 1);
+        // 첫 chunk 를 옮기고 죽은 worker 의 상태
+        jdbcTemplate.update("""
+            INSERT INTO archived_transactions (amount, transaction_date, transaction_time,
+                                               transaction_type, account_id)
+            SELECT amount, transaction_date, transaction_time, transaction_type, account_id
+            FROM transactions WHERE account_id = ? AND id <= ?""", accountId, lastArchivedId);
+        jdbcTemplate.update("DELETE FROM transactions WHERE account_id = ? AND id <= ?",
+            accountId, lastArchivedId);
+        jdbcTemplate.update("""
+            UPDATE archive_tasks SET last_archived_id = ?, archived_count = ?,
+                                     lease_owner = 'dead-worker', lease_until = ?
+            WHERE id = ?""", lastArchivedId, CHUNK_SIZE, LocalDateTime.now().minusMinutes(1),
+            taskId);
+
+        //when
+        int completed = archiveWorker.drain();
+
+        //then
+        ArchiveTask task = archiveTaskRepository.findById(taskId).orElseThrow();
+        assertThat(completed).isEqualTo(1);
+        assertThat(task.getStatus()).isEqualTo(ArchiveTaskStatus.DONE);
+        assertThat(task.getArchivedCount()).isEqualTo(TRANSACTION_COUNT);
+        assertThat(count("transactions")).isZero();
+        assertThat(count("archived_transactions")).isEqualTo(TRANSACTION_COUNT);
+    }
+
+    @Test
+    @DisplayName("archive 작업 처리 - 다른 worker 가 lease 를 가진 작업은 처리하지 않음")
+    void drain_SkipsLeasedTask() {
+        //given
+        Long taskId = archiveTaskRepository.save(ArchiveTask.pending(accountId)).getId();
+        jdbcTemplate.update(
+            "UPDATE archive_tasks SET lease_owner = 'other-worker', lease_until = ? WHERE id = ?",
+            LocalDateTime.now().plusMinutes(1), taskId);
+
+        //when
+        int completed = archiveWorker.drain();
+
+        //then
+        assertThat(completed).isZero();
+        assertThat(archiveTaskRepository.findById(taskId).orElseThrow().getStatus())
+            .isEqualTo(ArchiveTaskStatus.PENDING);
+        assertThat(count("transactions")).isEqualTo(TRANSACTION_COUNT);
+    }
+}
@@ -4,29 +4,43 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatCode;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
-import com.project.fintech.auth.CustomUserDetailsService;
+import com.project.fintech.auth.AuthPrincipal;
+import com.project.fintech.auth.VerifiedPrincipalCache;
+import com.project.fintech.auth.jwt.AccessTokenBlacklistCache;
 import com.project.fintech.auth.jwt.JwtUtil;
+import com.project.fintech.auth.jwt.RevocationEpochCache;
+import com.project.fintech.auth.jwt.VerifiedToken;
+import com.project.fintech.auth.otp.OtpAttempt;
+import com.project.fintech.auth.otp.OtpSecretKeyCache;
 import com.project.fintech.auth.otp.OtpUtil;
+import com.project.fintech.auth.otp.TotpVerifier;
 import com.project.fintech.builder.RegisterRequestDtoTestDataBuilder;
 import com.project.fintech.builder.UserTestDataBuilder;
 import com.project.fintech.exception.CustomException;
 import com.project.fintech.exception.ErrorCode;
 import com.project.fintech.model.dto.RegisterRequestDto;
+import com.project.fintech.model.type.RefreshTokenRotation;
+import com.project.fintech.model.type.Role;
 import com.project.fintech.persistence.entity.OtpSecretKey;
 import com.project.fintech.persistence.entity.User;
 import com.project.fintech.persistence.repository.OtpSecretKeyRepository;
 import com.project.fintech.persistence.repository.UserRepository;
 import java.util.Date;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import javax.crypto.spec.SecretKeySpec;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -36,6 +50,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
@@ -60,7 +75,7 @@ class AuthServiceTest {
     JwtUtil jwtUtil;
 
     @Mock
-    CustomUserDetailsService customUserDetailsService;
+    VerifiedPrincipalCache verifiedPrincipalCache;
 
     @Mock
     StringRedisTemplate stringRedisTemplate;
@@ -71,6 +86,15 @@ class AuthServiceTest {
     @Mock
     ValueOperations<String, String> valueOperations;
 
+    @Mock
+    AccessTokenBlacklistCache accessTokenBlacklistCache;
+
+    @Mock
+    RevocationEpochCache revocationEpochCache;
+
+    @Mock
+    OtpSecretKeyCache otpSecretKeyCache;
+
     @InjectMocks
     AuthService authService;
 
@@ -179,7 +203,7 @@ class AuthServiceTest {
         String secretKey = "12341234";
         ArgumentCaptor<OtpSecretKey> captor = ArgumentCaptor.forClass(OtpSecretKey.class);
         User user = new UserTestDataBuilder().withEmail(email).build();
-        when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
+        when(userRepository.findWithOtpSecretKeyByEmail(email)).thenReturn(Optional.of(user));
         //when
         authService.saveOtpSecretKey(secretKey, email);
         verify(otpSecretKeyRepository, times(1)).save(captor.capture()); // capture를 진행
@@ -194,12 +218,12 @@ class AuthServiceTest {
         //given
         String email = "zerobase@zero.com";
         String secretKey = "12341234";
-        when(userRepository.findByEmail(email)).thenReturn(Optional.empty());
+        when(userRepository.findWithOtpSecretKeyByEmail(email)).thenReturn(Optional.empty());
 
         //when & then
         assertThatThrownBy(() -> authService.saveOtpSecretKey(secretKey, email)).isInstanceOf(
             CustomException.class).extracting("errorCode").isEqualTo(ErrorCode.USER_NOT_FOUND);
-        verify(userRepository, times(1)).findByEmail(email);
+        verify(userRepository, times(1)).findWithOtpSecretKeyByEmail(email);
     }
 
     @Test
@@ -208,7 +232,7 @@ class AuthServiceTest {
         //given
         User user = new UserTestDataBuilder().build();
         String email = user.getEmail();
-        when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
+        when(userRepository.findWithOtpSecretKeyByEmail(email)).thenReturn(Optional.of(user));
 
         //when
         authService.invalidateOtpSecretKey(email);
@@ -223,7 +247,7 @@ class AuthServiceTest {
         //given
         User user = new UserTestDataBuilder().build();
         String email = user.getEmail();
-        when(userRepository.findByEmail(email)).thenReturn(Optional.empty());
+        when(userRepository.findWithOtpSecretKeyByEmail(email)).thenReturn(Optional.empty());
 
         //when & then
         assertThatThrownBy(() -> authService.invalidateOtpSecretKey(email)).isInstanceOf(
@@ -261,60 +285,103 @@ class AuthServiceTest {
             CustomException.class).extracting("errorCode").isEqualTo(ErrorCode.USER_NOT_FOUND);
     }
 
+    private void loadThroughOtpSecretKeyCache(String email) {
+        when(otpSecretKeyCache.get(eq(email), any())).thenAnswer(
+            invocation -> invocation.<Function<String, String>>getArgument(1).apply(email));
+    }
+
     @Test
-    @DisplayName("DB에서 사용자의 email로 OTP secret key 조회 - 성공")
+    @DisplayName("DB에서 사용자의 email로 OTP secret key 조회 - 성공 - user 조회 없이 한 번의 query")
     void getUserSecretKey_Success() {
         //given
-        OtpSecretKey otpSecretKey = OtpSecretKey.builder().secretKey("TESTKEY").build();
-        User user = new UserTestDataBuilder().withOtpSecretKey(otpSecretKey).build();
-        String email = user.getEmail();
+        String email = "testmail@test.com";
+        loadThroughOtpSecretKeyCache(email);
+        when(otpSecretKeyRepository.findSecretKeyByUserEmail(email)).thenReturn(
+            Optional.of("TESTKEY"));
 
         //when
-        when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
-        when(otpSecretKeyRepository.findByUser(user)).thenReturn(Optional.of(otpSecretKey));
         String userSecretKey = authService.getUserSecretKey(email);
 
         //then
-        assertThat(userSecretKey).isEqualTo(otpSecretKey.getSecretKey());
+        assertThat(userSecretKey).isEqualTo("TESTKEY");
+        verifyNoInteractions(userRepository);
     }
 
     @Test
-    @DisplayName("DB에서 사용자의 email로 OTP secret key 조회 - 실패(사용자를 찾을 수 없을때)")
-    void getUserSecretKey_Fail_WhenNotFoundUser() {
+    @DisplayName("OTP secret key 조회 - 성공 - cache 에 있으면 DB 조회 없음")
+    void getUserSecretKey_Success_WhenCached() {
         //given
-        OtpSecretKey otpSecretKey = OtpSecretKey.builder().secretKey("TESTKEY").build();
-        User user = new UserTestDataBuilder().withOtpSecretKey(otpSecretKey).build();
-        String email = user.getEmail();
+        String email = "testmail@test.com";
+        when(otpSecretKeyCache.get(eq(email), any())).thenReturn("TESTKEY");
 
         //when
-        when(userRepository.findByEmail(email)).thenReturn(Optional.empty());
+        String userSecretKey = authService.getUserSecretKey(email);
 
         //then
-        assertThatThrownBy(() -> authService.getUserSecretKey(email)).isInstanceOf(
-            CustomException.class).extracting("errorCode").isEqualTo(ErrorCode.USER_NOT_FOUND);
-        verify(userRepository, times(1)).findByEmail(email);
-
+        assertThat(userSecretKey).isEqualTo("TESTKEY");
+        verifyNoInteractions(otpSecretKeyRepository, userRepository);
     }
 
     @Test
-    @DisplayName("DB에서 사용자의 email로 OTP secret key 조회 - 실패(사용자의 OTP secretkey가 없을 때(등록전))")
+    @DisplayName("DB에서 사용자의 email로 OTP secret key 조회 - 실패(사용자 혹은 사용자의 OTP secretkey가 없을 때(등록전))")
     void getUserSecretKey_Fail_WhenOtpNotRegistered() {
         //given
-        User user = new UserTestDataBuilder().withOtpSecretKey(null).build();
-        String email = user.getEmail();
-
-        when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
-        when(otpSecretKeyRepository.findByUser(user)).thenReturn(Optional.empty());
+        String email = "testmail@test.com";
+        loadThroughOtpSecretKeyCache(email);
+        when(otpSecretKeyRepository.findSecretKeyByUserEmail(email)).thenReturn(Optional.empty());
 
         //when & then
         assertThatThrownBy(() -> authService.getUserSecretKey(email)).isInstanceOf(
                 CustomException.class).extracting("errorCode")
             .isEqualTo(ErrorCode.OTP_SECRET_KEY_NOT_FOUND);
-        verify(otpSecretKeyRepository, times(1)).findByUser(user);
+        verify(otpSecretKeyRepository, times(1)).findSecretKeyByUserEmail(email);
+    }
+
+    @Test
+    @DisplayName("OTP 검증용 key 조회 - cache 에 없으면 DB 에서 한 번 조회")
+    void getUserOtpKey_LoadsThroughOtpSecretKeyCache() {
+        //given
+        String email = "testmail@test.com";
+        when(otpSecretKeyCache.getHmacKey(eq(email), any())).thenAnswer(
+            invocation -> TotpVerifier.decodeKey(
+                invocation.<Function<String, String>>getArgument(1).apply(email)));
+        when(otpSecretKeyRepository.findSecretKeyByUserEmail(email)).thenReturn(
+            Optional.of("JBSWY3DPEHPK3PXP"));
+
+        //when
+        SecretKeySpec hmacKey = authService.getUserOtpKey(email);
+
+        //then
+        assertThat(hmacKey.getEncoded()).isEqualTo(
+            TotpVerifier.decodeKey("JBSWY3DPEHPK3PXP").getEncoded());
+        verify(otpSecretKeyRepository, times(1)).findSecretKeyByUserEmail(email);
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("OTP secret key 저장/삭제 시 cache 에서 제거")
+    void invalidateOtpSecretKey_EvictsOtpSecretKeyCache() {
+        //given
+        User user = new UserTestDataBuilder().build();
+        String email = user.getEmail();
+        when(userRepository.findWithOtpSecretKeyByEmail(email)).thenReturn(Optional.of(user));
+
+        //when
+        authService.invalidateOtpSecretKey(email);
+        authService.saveOtpSecretKey("NEWKEY", email);
+
+        //then
+        verify(otpSecretKeyCache, times(2)).evict(email);
+    }
+
+    private void stubOtpAttempt(String email, long allowed, long remaining) {
+        when(stringRedisTemplate.execute(any(RedisScript.class),
+            eq(List.of(OTP_COUNTING_PREFIX + email)), eq("3"), eq("30"))).thenReturn(
+            List.of(allowed, remaining));
     }
 
     @Test
-    @DisplayName("사용자가 입력한 OTP 코드 검증 - 성공")
+    @DisplayName("사용자가 입력한 OTP 코드 검증 - 성공 - 시도 횟수 초기화")
     void verifyOtpCode_Success() {
         //given
         int code = 301304;
@@ -322,33 +389,34 @@ class AuthServiceTest {
         OtpSecretKey otpSecretKey = user.getOtpSecretKey();
         String email = user.getEmail();
 
-        when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
-        when(otpSecretKeyRepository.findByUser(user)).thenReturn(Optional.of(otpSecretKey));
-        when(otpUtil.isCodeValid(otpSecretKey.getSecretKey(), code)).thenReturn(true);
-        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
-        when(valueOperations.get(OTP_COUNTING_PREFIX + email)).thenReturn("1");
+        SecretKeySpec hmacKey = TotpVerifier.decodeKey(otpSecretKey.getSecretKey());
+        when(otpSecretKeyCache.getHmacKey(eq(email), any())).thenReturn(hmacKey);
+        when(otpUtil.isCodeValid(hmacKey, code)).thenReturn(true);
+        stubOtpAttempt(email, 1L, 1L);
 
         //when & then
         assertThatCode(() -> authService.verifyOtpCode(code, email)).doesNotThrowAnyException();
+        verify(stringRedisTemplate, times(1)).delete(OTP_COUNTING_PREFIX + email);
     }
 
     @Test
-    @DisplayName("사용자가 입력한 OTP 코드 검증 - 실패(OTP 코드 검증에 실패했을 때)")
+    @DisplayName("사용자가 입력한 OTP 코드 검증 - 실패(OTP 코드 검증에 실패했을 때) - 추가 Redis 호출 없음")
     void verifyOtpCode_Fail_WhenNotValidCode() {
         //given
         int code = 301304;
         User user = new UserTestDataBuilder().build();
         OtpSecretKey otpSecretKey = user.getOtpSecretKey();
         String email = user.getEmail();
-        when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
-        when(otpSecretKeyRepository.findByUser(user)).thenReturn(Optional.of(otpSecretKey));
-        when(otpUtil.isCodeValid(otpSecretKey.getSecretKey(), code)).thenReturn(false);
-        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
-        when(valueOperations.get(OTP_COUNTING_PREFIX + email)).thenReturn("1");
+        SecretKeySpec hmacKey = TotpVerifier.decodeKey(otpSecretKey.getSecretKey());
+        when(otpSecretKeyCache.getHmacKey(eq(email), any())).thenReturn(hmacKey);
+        when(otpUtil.isCodeValid(hmacKey, code)).thenReturn(false);
+        stubOtpAttempt(email, 1L, 1L);
 
         //when & then
         assertThatThrownBy(() -> authService.verifyOtpCode(code, email)).isInstanceOf(
             CustomException.class).extracting("errorCode").isEqualTo(ErrorCode.INVALID_OTP_CODE);
+        verify(stringRedisTemplate, never()).delete(anyString());
+        verify(stringRedisTemplate, never()).opsForValue();
     }
 
     @Test
@@ -357,134 +425,133 @@ class AuthServiceTest {
         int code = 301304;
         User user = new UserTestDataBuilder().build();
         String email = user.getEmail();
-        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
-        when(valueOperations.get(OTP_COUNTING_PREFIX + email)).thenReturn("3");
+        stubOtpAttempt(email, 0L, 0L);
 
         assertThatThrownBy(() -> authService.verifyOtpCode(code, email)).isInstanceOf(
                 CustomException.class).extracting("errorCode")
             .isEqualTo(ErrorCode.OTP_ATTEMPT_EXCEEDED);
+        verifyNoInteractions(otpUtil, otpSecretKeyCache);
     }
 
     @Test
-    @DisplayName("OTP 인증 시도 횟수 카운팅 - 성공 - 처음 인증시도 실패 카운팅")
-    void countUpOtpAttempt_Success() {
+    @DisplayName("OTP 인증 시도 예약 - 성공 - script 결과를 허용 여부와 남은 횟수로 변환")
+    void reserveOtpAttempt_Success() {
         //given
         String email = "test.com@gmail.com";
-
-        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
-        when(valueOperations.increment(OTP_COUNTING_PREFIX + email)).thenReturn(1L);
+        stubOtpAttempt(email, 1L, 2L);
 
         //when
-        authService.countUpOtpAttempt(email);
+        OtpAttempt otpAttempt = authService.reserveOtpAttempt(email);
 
         //then
-        verify(stringRedisTemplate, times(1)).expire(eq(OTP_COUNTING_PREFIX + email), anyLong(),
-            eq(TimeUnit.SECONDS));
+        assertThat(otpAttempt.allowed()).isTrue();
+        assertThat(otpAttempt.remaining()).isEqualTo(2);
     }
 
     @Test
-    @DisplayName("OTP 인증 시도 카운팅 - 성공 - 인증 시도 실패 2번째부터는 만료설정 없이 카운팅만 진행")
-    void countUpOtpAttempt_Success_NoExpireForSubsequentAttempts() {
+    @DisplayName("인증된 Token 정보로 객체 생성 - 성공")
+    void getAuthenticationByToken_Success() {
         //given
-        String email = "test.com@gmail.com";
+        String email = "testmail@test.com";
+        VerifiedToken verifiedToken = VerifiedToken.builder().token("1234ABC").userId(1L)
+            .email(email).role(Role.USER).build();
+        AuthPrincipal principal = AuthPrincipal.builder().userId(1L).email(email)
+            .role(Role.USER).build();
+        when(verifiedPrincipalCache.toPrincipal(verifiedToken)).thenReturn(principal);
 
-        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
-        when(valueOperations.increment(OTP_COUNTING_PREFIX + email)).thenReturn(2L);
         //when
-        authService.countUpOtpAttempt(email);
+        Authentication authenticationFromToken = authService.getAuthenticationByToken(
+            verifiedToken);
 
         //then
-        verify(stringRedisTemplate, never()).expire(anyString(), anyLong(), any(TimeUnit.class));
+        assertThat(authenticationFromToken.getName()).isEqualTo(email);
+        assertThat(authenticationFromToken.getPrincipal()).isEqualTo(principal);
+        verify(userRepository, never()).findByEmail(anyString());
     }
 
     @Test
-    @DisplayName("인증된 Token 정보로 객체 생성 - 성공")
-    void getAuthenticationByToken_Success() {
+    @DisplayName("OTP 등록 여부 전환 시 principal cache 무효화")
+    void markOtpAsRegistered_EvictsPrincipalCache() {
         //given
-        String token = "1234ABC";
-        String email = "testmail@test.com";
-        User user = new UserTestDataBuilder().withEmail(email).build();
-        when(jwtUtil.getEmailFromToken(token)).thenReturn(email);
-        when(customUserDetailsService.loadUserByUsername(email)).thenReturn(user);
+        User user = new UserTestDataBuilder().withIsVerifiedEmail(true).build();
+        String email = user.getEmail();
+        when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
 
         //when
-        Authentication authenticationFromToken = authService.getAuthenticationByToken(token);
+        authService.markOtpAsRegistered(email, true);
 
         //then
-        assertThat(authenticationFromToken.getName()).isEqualTo(email);
+        verify(verifiedPrincipalCache, times(1)).evictUser(email, Role.USER);
     }
 
-    @Test
-    @DisplayName("인증된 Token 정보로 객체 생성 - 실패 - email과 일치하는 사용자가 없을 때")
-    void getAuthenticationByToken_Fail_WhenNotFoundUser() {
-        //given
-        String token = "1234ABC";
-        String email = "testmail@test.com";
-        when(jwtUtil.getEmailFromToken(token)).thenReturn(email);
-        when(customUserDetailsService.loadUserByUsername(email)).thenThrow(
-            new CustomException(ErrorCode.USER_NOT_FOUND));
-
-        // when & then
-        assertThatThrownBy(() -> authService.getAuthenticationByToken(token)).isInstanceOf(
-            CustomException.class).extracting("errorCode").isEqualTo(ErrorCode.USER_NOT_FOUND);
+    private VerifiedToken verifiedToken(String tokenId, String email, long expiresInMillis) {
+        return VerifiedToken.builder().token("token-" + tokenId).tokenId(tokenId).email(email)
+            .expiration(new Date(System.currentTimeMillis() + expiresInMillis)).build();
     }
 
     @Test
     @DisplayName("Redis에서 Refresh Token 삭제 - 성공")
     void invalidateRefreshToken_Success() {
         //given
-        String refreshToken = "1234ABC";
-        when(stringRedisTemplate.hasKey(REFRESH_TOKEN_PREFIX + refreshToken)).thenReturn(true);
+        VerifiedToken refreshToken = verifiedToken("1234ABC", "testmail@test.com", 1000 * 60);
+        when(stringRedisTemplate.hasKey(REFRESH_TOKEN_PREFIX + "1234ABC")).thenReturn(true);
 
         //when
         authService.invalidateRefreshToken(refreshToken);
 
         //then
-        verify(stringRedisTemplate, times(1)).delete(REFRESH_TOKEN_PREFIX + refreshToken);
+        verify(stringRedisTemplate, times(1)).delete(REFRESH_TOKEN_PREFIX + "1234ABC");
     }
 
     @Test
     @DisplayName("Redis에서 Refresh Token 삭제 실패 - Redis에 저장된 해당 Refresh token이 존재하지 않을 때")
     void invalidateRefreshToken_Fail_WhenNotFoundToken() {
         //given
-        String refreshToken = "1234ABC";
-        when(stringRedisTemplate.hasKey(REFRESH_TOKEN_PREFIX + refreshToken)).thenReturn(false);
+        VerifiedToken refreshToken = verifiedToken("1234ABC", "testmail@test.com", 1000 * 60);
+        when(stringRedisTemplate.hasKey(REFRESH_TOKEN_PREFIX + "1234ABC")).thenReturn(false);
         // when & then
         assertThatThrownBy(() -> authService.invalidateRefreshToken(refreshToken)).isInstanceOf(
             CustomException.class).extracting("errorCode").isEqualTo(ErrorCode.TOKEN_NOT_FOUND);
     }
 
     @Test
-    @DisplayName("Redis에 Refresh Token 저장 - 성공")
+    @DisplayName("Redis에 Refresh Token 저장 - 성공 - token id 를 key 로, 남은 수명을 millisecond TTL 로 저장")
     void storeRefreshToken_Success() {
         //given
-        String token = "1234ABC";
         String email = "testmail@test.com";
+        long sevenDays = 1000L * 60 * 60 * 24 * 7;
+        VerifiedToken refreshToken = verifiedToken("1234ABC", email, sevenDays);
         when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
         //when
-        authService.storeRefreshToken(token, email);
+        authService.storeRefreshToken(refreshToken, email);
         //then
-        verify(valueOperations, times(1)).set(REFRESH_TOKEN_PREFIX + token, email, 7L,
-            TimeUnit.DAYS);
+        ArgumentCaptor<Long> ttlCaptor = ArgumentCaptor.forClass(Long.class);
+        verify(valueOperations, times(1)).set(eq(REFRESH_TOKEN_PREFIX + "1234ABC"), eq(email),
+            ttlCaptor.capture(), eq(TimeUnit.MILLISECONDS));
+        assertThat(ttlCaptor.getValue()).isBetween(sevenDays - 1000 * 60, sevenDays);
     }
 
     @Test
-    @DisplayName("Redis에 Access Token을 Black list에 저장 - 성공")
+    @DisplayName("Redis에 Access Token을 Black list에 저장 - 성공 - token id 를 key 로, 남은 수명을 millisecond TTL 로 저장")
     void addAccessTokenBlackList_Success() {
         //given
         String token = "1234ABC";
         String email = "testmail@test.com";
-        Date expiration = new Date(System.currentTimeMillis() + 1000 * 60 * 15);
-        when(jwtUtil.getTokenExpiration(token)).thenReturn(expiration);
-        when(jwtUtil.getEmailFromToken(token)).thenReturn(email);
+        long fifteenMinutes = 1000 * 60 * 15;
+        VerifiedToken verifiedToken = verifiedToken("jti", email, fifteenMinutes);
+        when(jwtUtil.parseVerifiedTokenAllowingExpired(token)).thenReturn(verifiedToken);
         when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
 
         //when
         authService.addAccessTokenBlackList(token);
 
         //then
-        verify(valueOperations, times(1)).set(eq(DISABLED_TOKEN_PREFIX + token), eq(email),
-            anyLong(), eq(TimeUnit.SECONDS));
+        ArgumentCaptor<Long> ttlCaptor = ArgumentCaptor.forClass(Long.class);
+        verify(valueOperations, times(1)).set(eq(DISABLED_TOKEN_PREFIX + "jti"), eq(email),
+            ttlCaptor.capture(), eq(TimeUnit.MILLISECONDS));
+        assertThat(ttlCaptor.getValue()).isBetween(fifteenMinutes - 1000 * 60, fifteenMinutes);
+        verify(accessTokenBlacklistCache, times(1)).publishRevoked("jti",
+            verifiedToken.getExpiration().getTime());
     }
 
     @Test
@@ -493,95 +560,189 @@ class AuthServiceTest {
         //given
         String token = "1234ABC";
         String email = "testmail@test.com";
-        Date expiration = new Date(System.currentTimeMillis() - 1000 * 60 * 15);
-        when(jwtUtil.getTokenExpiration(token)).thenReturn(expiration);
-        when(jwtUtil.getEmailFromToken(token)).thenReturn(email);
+        when(jwtUtil.parseVerifiedTokenAllowingExpired(token)).thenReturn(
+            verifiedToken("jti", email, -1000 * 60 * 15));
 
         //when
         authService.addAccessTokenBlackList(token);
 
         //then
-        verify(valueOperations, never()).set(eq(DISABLED_TOKEN_PREFIX + email), eq(token),
-            anyLong(), eq(TimeUnit.SECONDS));
+        verify(valueOperations, never()).set(anyString(), anyString(), anyLong(),
+            any(TimeUnit.class));
     }
 
     @Test
-    @DisplayName("redis에 저장된 refresh token 의 사용자 정보와 사용자가 일치하는지 검증 - 성공")
-    void verifyRefreshTokenEmailPair_Success() {
+    @DisplayName("Refresh Token 교체 - 성공 - script 한 번으로 기존 토큰 삭제와 새 토큰 저장")
+    void rotateRefreshToken_Success() {
         //given
-        User user = new UserTestDataBuilder().build();
-        String userEmail = user.getEmail();
-        String token = "testtoken";
-        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
-        when(valueOperations.get(REFRESH_TOKEN_PREFIX + token)).thenReturn(userEmail);
+        String userEmail = "testmail@test.com";
+        VerifiedToken refreshToken = verifiedToken("old", userEmail, 1000 * 60);
+        VerifiedToken newRefreshToken = verifiedToken("new", userEmail, 1000 * 60 * 60);
+        when(stringRedisTemplate.execute(any(RedisScript.class),
+            eq(List.of(REFRESH_TOKEN_PREFIX + "old", REFRESH_TOKEN_PREFIX + "new")),
+            eq(userEmail), anyString())).thenReturn(1L);
+
+        //when
+        RefreshTokenRotation rotation = authService.rotateRefreshToken(refreshToken,
+            newRefreshToken, userEmail);
+
+        //then
+        assertThat(rotation).isEqualTo(RefreshTokenRotation.ROTATED);
+        verify(stringRedisTemplate, never()).opsForValue();
+        verify(stringRedisTemplate, never()).delete(anyString());
+    }
+
+    @Test
+    @DisplayName("Refresh Token 교체 - 실패 - 사용자의 refresh 토큰이 redis에 저장되어 있지 않을때")
+    void rotateRefreshToken_Fail_WhenUserRefreshTokenIsNotExist() {
+        //given
+        String userEmail = "testmail@test.com";
+        VerifiedToken refreshToken = verifiedToken("old", userEmail, 1000 * 60);
+        VerifiedToken newRefreshToken = verifiedToken("new", userEmail, 1000 * 60 * 60);
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), eq(userEmail),
+            anyString())).thenReturn(0L);
+
+        //when
+        RefreshTokenRotation rotation = authService.rotateRefreshToken(refreshToken,
+            newRefreshToken, userEmail);
+
+        //then
+        assertThat(rotation).isEqualTo(RefreshTokenRotation.NOT_FOUND);
+        assertThat(rotation.getErrorCode()).isEqualTo(ErrorCode.TOKEN_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("Refresh Token 교체 - 실패 - 사용자와 refresh 토큰의 사용자 정보가 불일치 할 때")
+    void rotateRefreshToken_Fail_WhenMismatchRefreshTokenAndUser() {
+        //given
+        String userEmail = "testmail@test.com";
+        VerifiedToken refreshToken = verifiedToken("old", "somebody@test.com", 1000 * 60);
+        VerifiedToken newRefreshToken = verifiedToken("new", userEmail, 1000 * 60 * 60);
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), eq(userEmail),
+            anyString())).thenReturn(-1L);
+
+        //when
+        RefreshTokenRotation rotation = authService.rotateRefreshToken(refreshToken,
+            newRefreshToken, userEmail);
+
+        //then
+        assertThat(rotation).isEqualTo(RefreshTokenRotation.USER_MISMATCH);
+        assertThat(rotation.getErrorCode()).isEqualTo(ErrorCode.REFRESH_TOKEN_USER_MISMATCH);
+    }
+
+    @Test
+    @DisplayName("사용자 access token의 disabled token 여부 검증 - 성공 - Redis 조회 없이 local 사본으로 확인")
+    void verifyNotDisabledAccessToken_Success() {
+        //given
+        VerifiedToken accessToken = verifiedToken("jti", "testEmail@gmail.com", 1000 * 60);
+        when(accessTokenBlacklistCache.isRevoked("jti")).thenReturn(false);
+
+        //when & then
+        assertThatCode(() -> authService.verifyNotDisabledAccessToken(
+            accessToken)).doesNotThrowAnyException();
+        verifyNoInteractions(stringRedisTemplate);
+    }
+
+    @Test
+    @DisplayName("사용자 access token의 disabled token 여부 검증 - 실패 - 사용자의 토큰이 blacklist에 올라가 있을때")
+    void verifyNotDisabledAccessToken_Fail_WhenAccessTokenIsStoredInBlackList() {
+        //given
+        VerifiedToken accessToken = verifiedToken("jti", "testEmail@gmail.com", 1000 * 60);
+        when(accessTokenBlacklistCache.isRevoked("jti")).thenReturn(true);
 
         //when & then
-        assertThatCode(() -> authService.verifyRefreshTokenEmailPair(token,
-            userEmail)).doesNotThrowAnyException();
+        assertThatThrownBy(
+            () -> authService.verifyNotDisabledAccessToken(accessToken)).isInstanceOf(
+            CustomException.class).extracting("errorCode").isEqualTo(ErrorCode.INVALID_TOKEN);
     }
 
     @Test
-    @DisplayName("Redis에 저장된 refresh token 의 사용자 정보와 사용자가 일치하는지 검증 - 실패 - 사용자의 refresh 토큰이 redis에 저장되어 있지 않을때")
-    void verifyRefreshTokenEmailPairs_Fail_WhenUserRefreshTokenIsNotExist() {
+    @DisplayName("사용자 access token의 disabled token 여부 검증 - 실패 - 사용자의 전체 폐기 시각 이전에 발급된 토큰일 때")
+    void verifyNotDisabledAccessToken_Fail_WhenIssuedBeforeUserRevocation() {
         //given
-        User user = new UserTestDataBuilder().build();
-        String userEmail = user.getEmail();
-        String token = "testtoken";
-        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
-        when(valueOperations.get(REFRESH_TOKEN_PREFIX + token)).thenReturn(null);
+        VerifiedToken accessToken = VerifiedToken.builder().tokenId("jti")
+            .email("testEmail@gmail.com").issuedAt(new Date()).build();
+        when(accessTokenBlacklistCache.isRevoked("jti")).thenReturn(false);
+        when(revocationEpochCache.isRevoked("testEmail@gmail.com",
+            accessToken.getIssuedAt())).thenReturn(true);
 
         //when & then
         assertThatThrownBy(
-            () -> authService.verifyRefreshTokenEmailPair(token, userEmail)).isInstanceOf(
-            CustomException.class).extracting("errorCode").isEqualTo(ErrorCode.TOKEN_NOT_FOUND);
+            () -> authService.verifyNotDisabledAccessToken(accessToken)).isInstanceOf(
+            CustomException.class).extracting("errorCode").isEqualTo(ErrorCode.INVALID_TOKEN);
     }
 
     @Test
-    @DisplayName("Redis에 저장된 refresh token 의 사용자 정보와 사용자가 일치하는지 검증 - 실패 - 사용자와 refresh 토큰의 사용자 정보가 불일치 할 때")
-    void verifyRefreshTokenEmailPairs_Fail_WhenMismatchRefreshTokenAndUser() {
+    @DisplayName("Refresh Token 교체 - 실패 - 사용자의 전체 폐기 시각 이전에 발급된 토큰은 Redis 조회 없이 거부")
+    void rotateRefreshToken_Fail_WhenIssuedBeforeUserRevocation() {
         //given
-        User user = new UserTestDataBuilder().build();
-        String userEmail = user.getEmail();
-        String otherEmail = "somebody@test.com";
-        String token = "testtoken";
-        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
-        when(valueOperations.get(REFRESH_TOKEN_PREFIX + token)).thenReturn(otherEmail);
+        String userEmail = "testEmail@gmail.com";
+        VerifiedToken refreshToken = VerifiedToken.builder().tokenId("jti").email(userEmail)
+            .issuedAt(new Date()).build();
+        when(revocationEpochCache.isRevoked(userEmail, refreshToken.getIssuedAt())).thenReturn(
+            true);
 
         //when & then
         assertThatThrownBy(
-            () -> authService.verifyRefreshTokenEmailPair(token, userEmail)).isInstanceOf(
-                CustomException.class).extracting("errorCode")
-            .isEqualTo(ErrorCode.REFRESH_TOKEN_USER_MISMATCH);
+            () -> authService.rotateRefreshToken(refreshToken, refreshToken, userEmail)).isInstanceOf(
+            CustomException.class).extracting("errorCode").isEqualTo(ErrorCode.INVALID_TOKEN);
+        verifyNoInteractions(stringRedisTemplate);
     }
 
     @Test
-    @DisplayName("사용자 access token의 disabled token 여부 검증 - 성공")
-    void verifyNotDisabledAccessToken_Success() {
+    @DisplayName("사용자의 모든 토큰 폐기 - 성공 - 토큰별 black list 없이 폐기 시각만 기록")
+    void revokeAllTokensOfUser_Success() {
         //given
-        String token = "testToken";
         String email = "testEmail@gmail.com";
 
-        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
-        when(valueOperations.get(DISABLED_TOKEN_PREFIX + token)).thenReturn(null);
+        //when
+        authService.revokeAllTokensOfUser(email);
+
+        //then
+        verify(revocationEpochCache, times(1)).revokeAllIssuedBefore(email);
+        verifyNoInteractions(accessTokenBlacklistCache);
+    }
+
+    @Test
+    @DisplayName("OTP step-up token 확인 - 성공 - Redis, DB 조회 없음")
+    void verifyOtpStepUpToken_Success() {
+        //given
+        String email = "testEmail@gmail.com";
+        VerifiedToken stepUpToken = VerifiedToken.builder().tokenId("jti").email(email)
+            .authMethod(JwtUtil.OTP_AUTH_METHOD).issuedAt(new Date()).build();
 
         //when & then
-        assertThatCode(() -> authService.verifyNotDisabledAccessToken(token,
-            email)).doesNotThrowAnyException();
+        assertThatCode(() -> authService.verifyOtpStepUpToken(stepUpToken, email))
+            .doesNotThrowAnyException();
+        verifyNoInteractions(stringRedisTemplate, userRepository);
     }
 
     @Test
-    @DisplayName("사용자 access token의 disabled token 여부 검증 - 실패 - 사용자의 토큰이 blacklist에 올라가 있을때")
-    void verifyNotDisabledAccessToken_Fail_WhenAccessTokenIsStoredInBlackList() {
+    @DisplayName("OTP step-up token 확인 - 실패(OTP 인증으로 발급된 토큰이 아닐 때)")
+    void verifyOtpStepUpToken_Fail_WhenNotOtpAuthenticated() {
         //given
-        String token = "testToken";
         String email = "testEmail@gmail.com";
+        VerifiedToken refreshToken = VerifiedToken.builder().tokenId("jti").email(email)
+            .issuedAt(new Date()).build();
 
-        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
-        when(valueOperations.get(DISABLED_TOKEN_PREFIX + token)).thenReturn(email);
+        //when & then
+        assertThatThrownBy(() -> authService.verifyOtpStepUpToken(refreshToken, email))
+            .isInstanceOf(CustomException.class).extracting("errorCode")
+            .isEqualTo(ErrorCode.INVALID_OTP_CODE);
+    }
+
+    @Test
+    @DisplayName("OTP step-up token 확인 - 실패(access token 의 사용자와 다를 때)")
+    void verifyOtpStepUpToken_Fail_WhenUserMismatch() {
+        //given
+        VerifiedToken stepUpToken = VerifiedToken.builder().tokenId("jti")
+            .email("other@gmail.com").authMethod(JwtUtil.OTP_AUTH_METHOD).issuedAt(new Date())
+            .build();
 
         //when & then
         assertThatThrownBy(
-            () -> authService.verifyNotDisabledAccessToken(token, email)).isInstanceOf(
-            CustomException.class).extracting("errorCode").isEqualTo(ErrorCode.INVALID_TOKEN);
+            () -> authService.verifyOtpStepUpToken(stepUpToken, "testEmail@gmail.com"))
+            .isInstanceOf(CustomException.class).extracting("errorCode")
+            .isEqualTo(ErrorCode.INVALID_OTP_CODE);
     }
 }
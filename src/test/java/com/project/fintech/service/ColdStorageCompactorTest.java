@@ -0,0 +1,187 @@
+package com.project.fintech.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.project.fintech.TestConfig;
+import com.project.fintech.model.type.ArchiveTaskStatus;
+import com.project.fintech.persistence.coldstorage.ColdStorage;
+import com.project.fintech.persistence.coldstorage.ColdTransaction;
+import com.project.fintech.persistence.entity.ArchiveTask;
+import com.project.fintech.persistence.repository.ArchiveTaskRepository;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@ActiveProfiles("test")
+@Import({TestConfig.class, ColdStorage.class, ColdStorageCompactor.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ColdStorageCompactorTest {
+
+    @TempDir
+    static Path coldStorageDirectory;
+
+    @Autowired
+    private ColdStorageCompactor coldStorageCompactor;
+    @Autowired
+    private ColdStorage coldStorage;
+    @Autowired
+    private ArchiveTaskRepository archiveTaskRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long accountId;
+
+    private long archivedCount() {
+        return jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM archived_transactions WHERE account_id = ?", Long.class,
+            accountId);
+    }
+
+    @DynamicPropertySource
+    static void coldStorageProperties(DynamicPropertyRegistry registry) {
+        registry.add("account.archive.cold-storage.directory", coldStorageDirectory::toString);
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("""
+            INSERT INTO users (name, password, phone, create_at, modified_at, email,
+                               is_otp_registered, is_verified_email)
+            VALUES ('name', 'password', '01000000000', NOW(), NOW(), 'cold-storage@test.com', 1, 1)""");
+        jdbcTemplate.update("""
+            INSERT INTO accounts (create_at, modified_at, account_number, balance, status, user_id)
+            SELECT NOW(), NOW(), 'COLD-STORAGE', 0, '1', id FROM users
+            WHERE email = 'cold-storage@test.com'""");
+        accountId = jdbcTemplate.queryForObject(
+            "SELECT id FROM accounts WHERE account_number = 'COLD-STORAGE'", Long.class);
+        insertArchived(1_000L, "2024-01-31", "memo");
+        insertArchived(-300L, "2024-02-01", null);
+        insertArchived(2_000L, "2024-04-15", "memo");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM archive_tasks");
+        jdbcTemplate.update("DELETE FROM archived_transactions");
+        jdbcTemplate.update("DELETE FROM accounts");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    private void insertArchived(Long amount, String date, String memo) {
+        jdbcTemplate.update("""
+            INSERT INTO archived_transactions (amount, memo, transaction_date, transaction_time,
+                                               transaction_type, account_id)
+            VALUES (?, ?, ?, '10:00:00', 'DEPOSIT', ?)""", amount, memo, date, accountId);
+    }
+
+    @Test
+    @DisplayName("archive 를 마친 계좌의 거래 내역을 월별 segment 로 옮김 - 성공")
+    void compactArchivedAccounts_Success() {
+        //given
+        Long taskId = archiveTaskRepository.save(ArchiveTask.pending(accountId)).getId();
+        jdbcTemplate.update("UPDATE archive_tasks SET status = 'DONE' WHERE id = ?", taskId);
+
+        //when
+        int compacted = coldStorageCompactor.compactArchivedAccounts();
+
+        //then
+        assertThat(compacted).isEqualTo(1);
+        assertThat(archiveTaskRepository.findById(taskId).orElseThrow().getStatus())
+            .isEqualTo(ArchiveTaskStatus.COMPACTED);
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM archived_transactions WHERE account_id = ?", Long.class,
+            accountId)).isZero();
+        List<ColdTransaction> history = coldStorage.read(accountId, LocalDate.of(2024, 1, 1),
+            LocalDate.of(2024, 12, 31));
+        assertThat(history).extracting(ColdTransaction::amount)
+            .containsExactly(1_000L, -300L, 2_000L);
+        assertThat(history).extracting(ColdTransaction::memo).containsExactly("memo", null,
+            "memo");
+        assertThat(coldStorage.read(accountId, LocalDate.of(2024, 2, 1),
+            LocalDate.of(2024, 3, 31))).extracting(ColdTransaction::amount).containsExactly(-300L);
+    }
+
+    @Test
+    @DisplayName("archive 가 끝나지 않은 계좌는 옮기지 않음")
+    void compactArchivedAccounts_SkipsPendingTask() {
+        //given
+        archiveTaskRepository.save(ArchiveTask.pending(accountId));
+
+        //when
+        int compacted = coldStorageCompactor.compactArchivedAccounts();
+
+        //then
+        assertThat(compacted).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM archived_transactions WHERE account_id = ?", Long.class,
+            accountId)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 lease 를 가진 작업은 옮기지 않음")
+    void compactArchivedAccounts_SkipsTaskLeasedByOtherWorker() {
+        //given
+        Long taskId = archiveTaskRepository.save(ArchiveTask.pending(accountId)).getId();
+        jdbcTemplate.update("""
+            UPDATE archive_tasks SET status = 'DONE', lease_owner = 'other-worker',
+                                     lease_until = DATEADD('MINUTE', 1, NOW())
+            WHERE id = ?""", taskId);
+
+        //when
+        int compacted = coldStorageCompactor.compactArchivedAccounts();
+
+        //then
+        assertThat(compacted).isZero();
+        assertThat(archiveTaskRepository.findById(taskId).orElseThrow().getStatus())
+            .isEqualTo(ArchiveTaskStatus.DONE);
+        assertThat(archivedCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("lease 가 만료된 작업은 다른 노드가 이어서 옮김")
+    void compactArchivedAccounts_TakesOverExpiredLease() {
+        //given
+        Long taskId = archiveTaskRepository.save(ArchiveTask.pending(accountId)).getId();
+        jdbcTemplate.update("""
+            UPDATE archive_tasks SET status = 'DONE', lease_owner = 'dead-worker',
+                                     lease_until = DATEADD('MINUTE', -1, NOW())
+            WHERE id = ?""", taskId);
+
+        //when
+        int compacted = coldStorageCompactor.compactArchivedAccounts();
+
+        //then
+        assertThat(compacted).isEqualTo(1);
+        assertThat(archiveTaskRepository.findById(taskId).orElseThrow().getStatus())
+            .isEqualTo(ArchiveTaskStatus.COMPACTED);
+        assertThat(archivedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("cold storage directory 가 없거나 상대 경로면 생성 실패")
+    void coldStorage_Fail_WhenDirectoryNotShared() {
+        //when & then
+        assertThatThrownBy(() -> new ColdStorage("")).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new ColdStorage("data/cold-storage")).isInstanceOf(
+            IllegalStateException.class);
+    }
+}
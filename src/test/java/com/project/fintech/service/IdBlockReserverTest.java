@@ -0,0 +1,158 @@
+package com.project.fintech.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.project.fintech.TestConfig;
+import com.project.fintech.model.type.TransactionType;
+import com.project.fintech.persistence.entity.Account;
+import com.project.fintech.persistence.entity.IdGenerator;
+import com.project.fintech.persistence.entity.Transaction;
+import com.project.fintech.persistence.repository.AccountRepository;
+import com.project.fintech.persistence.repository.TransactionRepository;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * id 구간 예약이 겹치지 않고, main connection pool 을 고갈시키지 않는지 확인한다. main pool 을 작게 두고 connection 을 기다리는
+ * 시간도 줄여서 예약이 main pool 의 connection 을 하나 더 기다리면 바로 실패하게 한다.
+ */
+@DataJpaTest(properties = {"spring.datasource.hikari.maximum-pool-size=4",
+    "spring.datasource.hikari.connection-timeout=5000"})
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@ActiveProfiles("test")
+@Import({TestConfig.class, IdBlockReserver.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class IdBlockReserverTest {
+
+    private static final int THREADS = 8;
+    private static final int RESERVATIONS_PER_THREAD = 20;
+    private static final int BLOCK_SIZE = 7;
+    // main pool 크기(4)보다 많은 transaction 을 동시에 실행
+    private static final int POOL_STARVING_THREADS = 16;
+
+    @Autowired
+    private IdBlockReserver idBlockReserver;
+    @Autowired
+    private AccountRepository accountRepository;
+    @Autowired
+    private TransactionRepository transactionRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM transactions");
+        jdbcTemplate.update("DELETE FROM accounts");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    private Long insertAccount() {
+        jdbcTemplate.update("""
+            INSERT INTO users (name, password, phone, create_at, modified_at, email,
+                               is_otp_registered, is_verified_email)
+            VALUES ('name', 'password', '01000000000', NOW(), NOW(), 'id-block@test.com', 1, 1)""");
+        jdbcTemplate.update("""
+            INSERT INTO accounts (create_at, modified_at, account_number, balance, status, user_id)
+            SELECT NOW(), NOW(), 'ID-BLOCK', 0, '0', id FROM users
+            WHERE email = 'id-block@test.com'""");
+        return jdbcTemplate.queryForObject(
+            "SELECT id FROM accounts WHERE account_number = 'ID-BLOCK'", Long.class);
+    }
+
+    @Test
+    @DisplayName("동시에 예약한 id 구간은 겹치지 않음")
+    void reserve_ConcurrentBlocksDoNotOverlap() throws Exception {
+        //given
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<List<Long>>> futures = new ArrayList<>();
+
+        //when
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(executor.submit(() -> {
+                List<Long> starts = new ArrayList<>();
+                for (int j = 0; j < RESERVATIONS_PER_THREAD; j++) {
+                    starts.add(idBlockReserver.reserve(IdGenerator.ARCHIVED_TRANSACTIONS,
+                        BLOCK_SIZE));
+                }
+                return starts;
+            }));
+        }
+        List<Long> ids = new ArrayList<>();
+        for (Future<List<Long>> future : futures) {
+            for (long start : future.get(30, TimeUnit.SECONDS)) {
+                for (long id = start; id < start + BLOCK_SIZE; id++) {
+                    ids.add(id);
+                }
+            }
+        }
+        executor.shutdown();
+
+        //then
+        assertThat(ids).hasSize(THREADS * RESERVATIONS_PER_THREAD * BLOCK_SIZE)
+            .doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("pool 의 connection 보다 많은 transaction 이 동시에 id 를 예약해도 connection 을 기다리다 실패하지 않음")
+    void reserve_MoreTransactionsThanPoolConnections_DoesNotStarvePool() throws Exception {
+        //given
+        Long accountId = insertAccount();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        ExecutorService executor = Executors.newFixedThreadPool(POOL_STARVING_THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<Long>>> futures = new ArrayList<>();
+
+        //when (main pool 의 connection 을 잡은 transaction 안에서 entity id 와 bulk insert 용 id 를 모두 예약)
+        for (int i = 0; i < POOL_STARVING_THREADS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return transactionTemplate.execute(status -> {
+                    Account account = accountRepository.getReferenceById(accountId);
+                    List<Transaction> transactions = new ArrayList<>();
+                    for (int j = 0; j <= IdGenerator.ALLOCATION_SIZE; j++) {
+                        transactions.add(Transaction.builder().account(account).amount(1_000L)
+                            .transactionType(TransactionType.DEPOSIT)
+                            .transactionDate(LocalDate.now()).transactionTime(LocalTime.now())
+                            .build());
+                    }
+                    transactionRepository.saveAllAndFlush(transactions);
+                    idBlockReserver.reserve(IdGenerator.ARCHIVED_TRANSACTIONS, BLOCK_SIZE);
+                    return transactions.stream().map(Transaction::getId).toList();
+                });
+            }));
+        }
+        start.countDown();
+        List<Long> ids = new ArrayList<>();
+        for (Future<List<Long>> future : futures) {
+            ids.addAll(future.get(60, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+        //then
+        assertThat(ids).hasSize(POOL_STARVING_THREADS * (IdGenerator.ALLOCATION_SIZE + 1))
+            .doesNotHaveDuplicates();
+    }
+}
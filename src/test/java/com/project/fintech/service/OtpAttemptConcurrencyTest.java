@@ -0,0 +1,89 @@
+package com.project.fintech.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.project.fintech.auth.otp.OtpAttempt;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import redis.embedded.RedisServer;
+
+@SpringBootTest
+@TestInstance(Lifecycle.PER_CLASS)
+@ActiveProfiles("test")
+class OtpAttemptConcurrencyTest {
+
+    private static final int CONCURRENT_ATTEMPTS = 20;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    private RedisServer redisServer;
+
+    @BeforeAll
+    public void setUp() throws IOException {
+        redisServer = new RedisServer(6300);
+        redisServer.start();
+    }
+
+    @AfterAll
+    public void tearDown() throws IOException {
+        if (redisServer != null) {
+            Objects.requireNonNull(stringRedisTemplate.getConnectionFactory()).getConnection()
+                .serverCommands().flushAll();
+            redisServer.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 OTP 시도 중 주기당 최대 횟수(3)만 허용되고 카운트는 TOTP 주기 안에 만료")
+    void reserveOtpAttempt_AllowsOnlyLimit_WhenConcurrent() throws Exception {
+        //given
+        String email = "otp-attack@test.com";
+        ExecutorService executorService = Executors.newFixedThreadPool(CONCURRENT_ATTEMPTS);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<OtpAttempt>> futures = new ArrayList<>();
+
+        //when
+        for (int i = 0; i < CONCURRENT_ATTEMPTS; i++) {
+            futures.add(executorService.submit(() -> {
+                startLatch.await();
+                return authService.reserveOtpAttempt(email);
+            }));
+        }
+        startLatch.countDown();
+        List<OtpAttempt> attempts = new ArrayList<>();
+        for (Future<OtpAttempt> future : futures) {
+            attempts.add(future.get(10, TimeUnit.SECONDS));
+        }
+        executorService.shutdown();
+
+        //then
+        assertThat(attempts).filteredOn(OtpAttempt::allowed).hasSize(3);
+        assertThat(attempts).filteredOn(OtpAttempt::allowed).extracting(OtpAttempt::remaining)
+            .containsExactlyInAnyOrder(2, 1, 0);
+        assertThat(stringRedisTemplate.opsForValue()
+            .get(AuthService.OTP_COUNTING_PREFIX + email)).isEqualTo("3");
+        assertThat(stringRedisTemplate.getExpire(AuthService.OTP_COUNTING_PREFIX + email,
+            TimeUnit.SECONDS)).isBetween(0L, 30L);
+    }
+}
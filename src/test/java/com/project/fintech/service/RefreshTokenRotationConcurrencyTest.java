@@ -0,0 +1,126 @@
+package com.project.fintech.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.project.fintech.auth.jwt.JwtUtil;
+import com.project.fintech.auth.jwt.VerifiedToken;
+import com.project.fintech.model.type.RefreshTokenRotation;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import redis.embedded.RedisServer;
+
+@SpringBootTest
+@TestInstance(Lifecycle.PER_CLASS)
+@ActiveProfiles("test")
+class RefreshTokenRotationConcurrencyTest {
+
+    private static final int CONCURRENT_REQUESTS = 32;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    private RedisServer redisServer;
+
+    @BeforeAll
+    public void setUp() throws IOException {
+        redisServer = new RedisServer(6300);
+        redisServer.start();
+    }
+
+    @AfterAll
+    public void tearDown() throws IOException {
+        if (redisServer != null) {
+            Objects.requireNonNull(stringRedisTemplate.getConnectionFactory()).getConnection()
+                .serverCommands().flushAll();
+            redisServer.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 refresh token 으로 동시에 교체 요청 시 하나만 성공하고 새 토큰도 하나만 저장")
+    void rotateRefreshToken_OnlyOneSucceeds_WhenConcurrent() throws Exception {
+        //given
+        String email = "rotation@test.com";
+        VerifiedToken refreshToken = jwtUtil.parseVerifiedToken(
+            jwtUtil.generateRefreshToken(email));
+        authService.storeRefreshToken(refreshToken, email);
+        List<VerifiedToken> newRefreshTokens = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+            newRefreshTokens.add(jwtUtil.parseVerifiedToken(jwtUtil.generateRefreshToken(email)));
+        }
+
+        //when
+        ExecutorService executorService = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<RefreshTokenRotation>> futures = new ArrayList<>();
+        for (VerifiedToken newRefreshToken : newRefreshTokens) {
+            futures.add(executorService.submit(() -> {
+                startLatch.await();
+                return authService.rotateRefreshToken(refreshToken, newRefreshToken, email);
+            }));
+        }
+        startLatch.countDown();
+        List<RefreshTokenRotation> results = new ArrayList<>();
+        for (Future<RefreshTokenRotation> future : futures) {
+            results.add(future.get(10, TimeUnit.SECONDS));
+        }
+        executorService.shutdown();
+
+        //then
+        assertThat(results).filteredOn(RefreshTokenRotation::isRotated).hasSize(1);
+        assertThat(results).filteredOn(result -> result == RefreshTokenRotation.NOT_FOUND)
+            .hasSize(CONCURRENT_REQUESTS - 1);
+        assertThat(stringRedisTemplate.hasKey(
+            AuthService.REFRESH_TOKEN_PREFIX + refreshToken.getTokenId())).isFalse();
+        long storedNewTokens = newRefreshTokens.stream().filter(token -> Boolean.TRUE.equals(
+            stringRedisTemplate.hasKey(AuthService.REFRESH_TOKEN_PREFIX + token.getTokenId())))
+            .count();
+        assertThat(storedNewTokens).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 refresh token 으로 교체 요청 시 기존 토큰은 그대로 남음")
+    void rotateRefreshToken_UserMismatch_KeepsOriginalToken() {
+        //given
+        String email = "owner@test.com";
+        VerifiedToken refreshToken = jwtUtil.parseVerifiedToken(
+            jwtUtil.generateRefreshToken(email));
+        authService.storeRefreshToken(refreshToken, email);
+        VerifiedToken newRefreshToken = jwtUtil.parseVerifiedToken(
+            jwtUtil.generateRefreshToken("attacker@test.com"));
+
+        //when
+        RefreshTokenRotation rotation = authService.rotateRefreshToken(refreshToken,
+            newRefreshToken, "attacker@test.com");
+
+        //then
+        assertThat(rotation).isEqualTo(RefreshTokenRotation.USER_MISMATCH);
+        assertThat(stringRedisTemplate.opsForValue()
+            .get(AuthService.REFRESH_TOKEN_PREFIX + refreshToken.getTokenId())).isEqualTo(email);
+        assertThat(stringRedisTemplate.hasKey(
+            AuthService.REFRESH_TOKEN_PREFIX + newRefreshToken.getTokenId())).isFalse();
+    }
+}
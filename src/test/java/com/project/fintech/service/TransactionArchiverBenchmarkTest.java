@@ -0,0 +1,83 @@
+package com.project.fintech.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.project.fintech.TestConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 거래 내역이 100만 건인 계좌의 archive 시간과 heap 사용량 측정
+ * <p>
+ * 평소 test 에서는 제외되고 {@code ./gradlew benchmark} 로 실행한다. benchmark task 는 heap 을 작게 제한하므로, 거래
+ * 내역을 entity 로 읽어 옮기던 방식이라면 이 test 는 OutOfMemoryError 로 실패한다.
+ */
+@Tag("benchmark")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@ActiveProfiles("test")
+@Import({TestConfig.class, TransactionArchiver.class,
+    IdBlockReserver.class})
+class TransactionArchiverBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(
+        TransactionArchiverBenchmarkTest.class);
+    private static final int TRANSACTION_COUNT = 1_000_000;
+
+    @Autowired
+    private TransactionArchiver transactionArchiver;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("거래 내역 100만 건 archive")
+    void archive_MillionTransactions() {
+        //given
+        jdbcTemplate.update("""
+            INSERT INTO users (name, password, phone, create_at, modified_at, email,
+                               is_otp_registered, is_verified_email)
+            VALUES ('name', 'password', '01000000000', NOW(), NOW(), 'archive-bench@test.com', 1, 1)""");
+        jdbcTemplate.update("""
+            INSERT INTO accounts (create_at, modified_at, account_number, balance, status, user_id)
+            SELECT NOW(), NOW(), 'ARCHIVE-BENCH', 0, '0', id FROM users
+            WHERE email = 'archive-bench@test.com'""");
+        Long accountId = jdbcTemplate.queryForObject(
+            "SELECT id FROM accounts WHERE account_number = 'ARCHIVE-BENCH'", Long.class);
+        jdbcTemplate.update("""
+            INSERT INTO transactions (amount, memo, transaction_date, transaction_time,
+                                      transaction_type, account_id)
+            SELECT X, 'benchmark', CURRENT_DATE, CURRENT_TIME, 'DEPOSIT', ?
+            FROM SYSTEM_RANGE(1, ?)""", accountId, TRANSACTION_COUNT);
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        long usedBefore = runtime.totalMemory() - runtime.freeMemory();
+
+        //when
+        long startNanos = System.nanoTime();
+        long archived = transactionArchiver.archive(accountId);
+        long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+
+        //then
+        long usedAfter = runtime.totalMemory() - runtime.freeMemory();
+        log.info("archive {} rows in {} ms ({} rows/s), heap used before: {} MB, after: {} MB",
+            archived, elapsedMillis, archived * 1000 / Math.max(elapsedMillis, 1),
+            usedBefore >> 20, usedAfter >> 20);
+        assertThat(archived).isEqualTo(TRANSACTION_COUNT);
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM transactions WHERE account_id = ?", Long.class, accountId))
+            .isZero();
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM archived_transactions WHERE account_id = ?", Long.class,
+            accountId)).isEqualTo(TRANSACTION_COUNT);
+    }
+}
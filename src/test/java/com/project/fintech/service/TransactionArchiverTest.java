@@ -0,0 +1,113 @@
+package com.project.fintech.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.project.fintech.TestConfig;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest(properties = "account.archive.chunk-size=" + TransactionArchiverTest.CHUNK_SIZE)
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@ActiveProfiles("test")
+@Import({TestConfig.class, TransactionArchiver.class,
+    IdBlockReserver.class})
+class TransactionArchiverTest {
+
+    static final int CHUNK_SIZE = 2;
+
+    @Autowired
+    private TransactionArchiver transactionArchiver;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long accountId;
+    private Long otherAccountId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("""
+            INSERT INTO users (name, password, phone, create_at, modified_at, email,
+                               is_otp_registered, is_verified_email)
+            VALUES ('name', 'password', '01000000000', NOW(), NOW(), 'archiver@test.com', 1, 1)""");
+        Long userId = jdbcTemplate.queryForObject(
+            "SELECT id FROM users WHERE email = 'archiver@test.com'", Long.class);
+        accountId = insertAccount(userId, "ARCHIVER-1");
+        otherAccountId = insertAccount(userId, "ARCHIVER-2");
+        // chunk 경계가 딱 맞지 않도록 chunk 크기의 배수가 아닌 건수를 넣는다
+        for (long amount = 1; amount <= 5; amount++) {
+            insertTransaction(accountId, amount);
+        }
+        insertTransaction(otherAccountId, 100L);
+        insertTransaction(otherAccountId, 200L);
+    }
+
+    private Long insertAccount(Long userId, String accountNumber) {
+        jdbcTemplate.update("""
+            INSERT INTO accounts (create_at, modified_at, account_number, balance, status, user_id)
+            VALUES (NOW(), NOW(), ?, 0, '0', ?)""", accountNumber, userId);
+        return jdbcTemplate.queryForObject("SELECT id FROM accounts WHERE account_number = ?",
+            Long.class, accountNumber);
+    }
+
+    private void insertTransaction(Long accountId, Long amount) {
+        jdbcTemplate.update("""
+            INSERT INTO transactions (amount, memo, transaction_date, transaction_time,
+                                      transaction_type, account_id)
+            VALUES (?, 'memo', CURRENT_DATE, CURRENT_TIME, 'DEPOSIT', ?)""", amount, accountId);
+    }
+
+    private List<Long> amounts(String table, Long accountId) {
+        return jdbcTemplate.queryForList(
+            "SELECT amount FROM " + table + " WHERE account_id = ? ORDER BY amount", Long.class,
+            accountId);
+    }
+
+    @Test
+    @DisplayName("계좌의 거래 내역을 chunk 단위로 archive table 에 옮김 - 성공")
+    void archive_Success() {
+        //when
+        long archived = transactionArchiver.archive(accountId);
+
+        //then
+        assertThat(archived).isEqualTo(5);
+        assertThat(amounts("transactions", accountId)).isEmpty();
+        assertThat(amounts("archived_transactions", accountId)).containsExactly(1L, 2L, 3L, 4L,
+            5L);
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM archived_transactions WHERE account_id = ? AND memo = 'memo' "
+                + "AND transaction_type = 'DEPOSIT'", Long.class, accountId)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("다른 계좌의 거래 내역은 옮기지 않음")
+    void archive_DoesNotTouchOtherAccount() {
+        //when
+        transactionArchiver.archive(accountId);
+
+        //then
+        assertThat(amounts("transactions", otherAccountId)).containsExactly(100L, 200L);
+        assertThat(amounts("archived_transactions", otherAccountId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("거래 내역이 없는 계좌 - 아무것도 옮기지 않음")
+    void archive_NoTransactions() {
+        //given
+        transactionArchiver.archive(accountId);
+
+        //when
+        long archived = transactionArchiver.archive(accountId);
+
+        //then
+        assertThat(archived).isZero();
+    }
+}
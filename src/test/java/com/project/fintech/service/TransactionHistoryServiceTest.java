@@ -0,0 +1,154 @@
+package com.project.fintech.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.project.fintech.TestConfig;
+import com.project.fintech.exception.CustomException;
+import com.project.fintech.exception.ErrorCode;
+import com.project.fintech.model.dto.domain.TransactionDto;
+import com.project.fintech.model.dto.domain.TransactionMapperImpl;
+import com.project.fintech.model.type.TransactionType;
+import com.project.fintech.persistence.coldstorage.ColdStorage;
+import com.project.fintech.persistence.coldstorage.ColdTransaction;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@ActiveProfiles("test")
+@Import({TestConfig.class, ColdStorage.class, TransactionMapperImpl.class,
+    TransactionHistoryService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TransactionHistoryServiceTest {
+
+    @TempDir
+    static Path coldStorageDirectory;
+
+    @Autowired
+    private TransactionHistoryService transactionHistoryService;
+    @Autowired
+    private ColdStorage coldStorage;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long userId;
+    private Long accountId;
+
+    @DynamicPropertySource
+    static void coldStorageProperties(DynamicPropertyRegistry registry) {
+        registry.add("account.archive.cold-storage.directory", coldStorageDirectory::toString);
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("""
+            INSERT INTO users (name, password, phone, create_at, modified_at, email,
+                               is_otp_registered, is_verified_email)
+            VALUES ('name', 'password', '01000000000', NOW(), NOW(), 'history@test.com', 1, 1)""");
+        userId = jdbcTemplate.queryForObject(
+            "SELECT id FROM users WHERE email = 'history@test.com'", Long.class);
+        jdbcTemplate.update("""
+            INSERT INTO accounts (create_at, modified_at, account_number, balance, status, user_id)
+            VALUES (NOW(), NOW(), 'HISTORY', 0, '0', ?)""", userId);
+        accountId = jdbcTemplate.queryForObject(
+            "SELECT id FROM accounts WHERE account_number = 'HISTORY'", Long.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM transactions");
+        jdbcTemplate.update("DELETE FROM archived_transactions");
+        jdbcTemplate.update("DELETE FROM accounts");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    private void insert(String table, Long amount, String date, String memo) {
+        jdbcTemplate.update("INSERT INTO " + table + """
+             (amount, memo, transaction_date, transaction_time, transaction_type, account_id)
+            VALUES (?, ?, ?, '10:00:00', 'DEPOSIT', ?)""", amount, memo, date, accountId);
+    }
+
+    private ColdTransaction cold(Long id, Long amount, LocalDate date) {
+        return new ColdTransaction(id, accountId, amount, null, "cold",
+            TransactionType.DEPOSIT, date, LocalTime.of(9, 0));
+    }
+
+    @Test
+    @DisplayName("거래 내역 조회 - hot, archive, cold storage 의 거래 내역을 합쳐서 거래 시각 순으로 반환")
+    void getTransactionHistory_MergesAllTiers() {
+        //given
+        coldStorage.write(accountId, YearMonth.of(2024, 1),
+            List.of(cold(1L, 1_000L, LocalDate.of(2024, 1, 10)),
+                cold(2L, 2_000L, LocalDate.of(2024, 1, 20))));
+        insert("archived_transactions", 3_000L, "2024-02-05", "archived");
+        insert("transactions", 4_000L, "2024-03-01", "hot");
+
+        //when
+        List<TransactionDto> history = transactionHistoryService.getTransactionHistory(userId,
+            accountId, LocalDate.of(2024, 1, 15), LocalDate.of(2024, 3, 31));
+
+        //then
+        assertThat(history).extracting(TransactionDto::getAmount)
+            .containsExactly(2_000L, 3_000L, 4_000L);
+        assertThat(history).extracting(TransactionDto::getMemo)
+            .containsExactly("cold", "archived", "hot");
+    }
+
+    @Test
+    @DisplayName("거래 내역 조회 - segment 기록 후 archive row 를 지우기 전이면 한 번만 반환")
+    void getTransactionHistory_SkipsRowsInBothArchiveAndColdStorage() {
+        //given
+        insert("archived_transactions", 3_000L, "2024-02-05", "archived");
+        Long archivedId = jdbcTemplate.queryForObject(
+            "SELECT id FROM archived_transactions WHERE account_id = ?", Long.class, accountId);
+        coldStorage.write(accountId, YearMonth.of(2024, 2),
+            List.of(cold(archivedId, 3_000L, LocalDate.of(2024, 2, 5))));
+
+        //when
+        List<TransactionDto> history = transactionHistoryService.getTransactionHistory(userId,
+            accountId, LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 29));
+
+        //then
+        assertThat(history).extracting(TransactionDto::getAmount).containsExactly(3_000L);
+    }
+
+    @Test
+    @DisplayName("거래 내역 조회 실패 - 다른 사용자의 계좌")
+    void getTransactionHistory_AccountNotFound() {
+        //when & then
+        assertThatThrownBy(() -> transactionHistoryService.getTransactionHistory(userId + 1,
+            accountId, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31)))
+            .isInstanceOf(CustomException.class)
+            .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ACCOUNT_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("거래 내역 조회 실패 - 시작일이 종료일보다 늦음")
+    void getTransactionHistory_InvalidPeriod() {
+        //when & then
+        assertThatThrownBy(() -> transactionHistoryService.getTransactionHistory(userId,
+            accountId, LocalDate.of(2024, 2, 1), LocalDate.of(2024, 1, 31)))
+            .isInstanceOf(CustomException.class)
+            .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_TRANSACTION_PERIOD);
+    }
+}
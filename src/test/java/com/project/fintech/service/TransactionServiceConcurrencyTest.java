@@ -0,0 +1,163 @@
+package com.project.fintech.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.project.fintech.TestConfig;
+import com.project.fintech.exception.CustomException;
+import com.project.fintech.exception.ErrorCode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 같은 계좌에 입금, 출금을 동시에 요청해도 잔액이 정확한지 확인한다. 요청마다 transaction 을 commit 해야 하므로 test transaction
+ * 없이 실행하고 데이터는 직접 지운다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@ActiveProfiles("test")
+@Import({TestConfig.class, TransactionService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TransactionServiceConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final int OPERATIONS_PER_THREAD = 100;
+    private static final long INITIAL_BALANCE = 100_000L;
+
+    @Autowired
+    private TransactionService transactionService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long userId;
+    private Long accountId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("""
+            INSERT INTO users (name, password, phone, create_at, modified_at, email,
+                               is_otp_registered, is_verified_email)
+            VALUES ('name', 'password', '01000000000', NOW(), NOW(), 'balance-race@test.com', 1, 1)""");
+        userId = jdbcTemplate.queryForObject(
+            "SELECT id FROM users WHERE email = 'balance-race@test.com'", Long.class);
+        jdbcTemplate.update("""
+            INSERT INTO accounts (create_at, modified_at, account_number, balance, status, user_id)
+            VALUES (NOW(), NOW(), 'BALANCE-RACE', ?, '0', ?)""", INITIAL_BALANCE, userId);
+        accountId = jdbcTemplate.queryForObject(
+            "SELECT id FROM accounts WHERE account_number = 'BALANCE-RACE'", Long.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM transactions");
+        jdbcTemplate.update("DELETE FROM accounts");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    private long balance() {
+        return jdbcTemplate.queryForObject("SELECT balance FROM accounts WHERE id = ?",
+            Long.class, accountId);
+    }
+
+    private long count(String transactionType) {
+        return jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM transactions WHERE account_id = ? AND transaction_type = ?",
+            Long.class, accountId, transactionType);
+    }
+
+    private long transactionAmountSum() {
+        return jdbcTemplate.queryForObject(
+            "SELECT COALESCE(SUM(amount), 0) FROM transactions WHERE account_id = ?", Long.class,
+            accountId);
+    }
+
+    /**
+     * 모든 thread 가 준비된 뒤 동시에 task 를 시작한다
+     */
+    private void runConcurrently(Callable<Void> task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return task.call();
+            }));
+        }
+        start.countDown();
+        for (Future<Void> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 계좌에 입금, 출금 동시 요청 - 사라지는 갱신 없이 잔액과 거래 내역 합계가 정확함")
+    void depositAndWithdraw_Concurrently_ExactBalance() throws Exception {
+        //when
+        runConcurrently(() -> {
+            for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                transactionService.deposit(userId, accountId, 300L, null);
+                transactionService.withdraw(userId, accountId, 100L, null);
+            }
+            return null;
+        });
+
+        //then
+        long operations = (long) THREADS * OPERATIONS_PER_THREAD;
+        assertThat(balance()).isEqualTo(INITIAL_BALANCE + operations * 200L);
+        assertThat(transactionAmountSum()).isEqualTo(operations * 200L);
+        assertThat(count("DEPOSIT")).isEqualTo(operations);
+        assertThat(count("WITHDRAW")).isEqualTo(operations);
+    }
+
+    @Test
+    @DisplayName("잔액보다 많은 출금 동시 요청 - 잔액만큼만 출금되고 나머지는 잔액 부족으로 실패")
+    void withdraw_Concurrently_NeverOverdraws() throws Exception {
+        //given
+        long amount = 1_000L;
+        long affordable = INITIAL_BALANCE / amount;
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger insufficient = new AtomicInteger();
+
+        //when
+        runConcurrently(() -> {
+            for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                try {
+                    transactionService.withdraw(userId, accountId, amount, null);
+                    succeeded.incrementAndGet();
+                } catch (CustomException e) {
+                    assertThat(e.getErrorCode()).isEqualTo(ErrorCode.INSUFFICIENT_BALANCE);
+                    insufficient.incrementAndGet();
+                }
+            }
+            return null;
+        });
+
+        //then
+        assertThat(succeeded.get()).isEqualTo(affordable);
+        assertThat(insufficient.get()).isEqualTo(THREADS * OPERATIONS_PER_THREAD - affordable);
+        assertThat(balance()).isZero();
+        assertThat(transactionAmountSum()).isEqualTo(-INITIAL_BALANCE);
+        assertThat(count("WITHDRAW")).isEqualTo(affordable);
+    }
+}
@@ -0,0 +1,236 @@
+package com.project.fintech.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.project.fintech.builder.AccountTestDataBuilder;
+import com.project.fintech.exception.CustomException;
+import com.project.fintech.exception.ErrorCode;
+import com.project.fintech.model.dto.domain.AccountDto;
+import com.project.fintech.model.type.TransactionType;
+import com.project.fintech.persistence.entity.Account;
+import com.project.fintech.persistence.entity.Transaction;
+import com.project.fintech.persistence.repository.AccountRepository;
+import com.project.fintech.persistence.repository.TransactionRepository;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionServiceTest {
+
+    private static final Long USER_ID = 1L;
+    private static final Long ACCOUNT_ID = 2L;
+
+    @Mock
+    AccountRepository accountRepository;
+
+    @Mock
+    TransactionRepository transactionRepository;
+
+    @InjectMocks
+    TransactionService transactionService;
+
+    @Test
+    @DisplayName("입금 - 성공 - 잔액을 늘리고 양수 금액의 입금 내역 저장")
+    void deposit_Success() {
+        //given
+        Account account = new AccountTestDataBuilder().build();
+        AccountDto accountDto = new AccountDto(ACCOUNT_ID, "test@test.com", "1771234567890",
+            11_000L);
+        when(accountRepository.increaseActiveBalance(ACCOUNT_ID, USER_ID, 10_000L)).thenReturn(1);
+        when(accountRepository.getReferenceById(ACCOUNT_ID)).thenReturn(account);
+        when(accountRepository.findActiveAccountDto(ACCOUNT_ID, USER_ID)).thenReturn(
+            Optional.of(accountDto));
+
+        //when
+        AccountDto result = transactionService.deposit(USER_ID, ACCOUNT_ID, 10_000L, "월급");
+
+        //then
+        ArgumentCaptor<Transaction> transactionCaptor = ArgumentCaptor.forClass(Transaction.class);
+        verify(transactionRepository).save(transactionCaptor.capture());
+        Transaction transaction = transactionCaptor.getValue();
+        assertThat(transaction.getAccount()).isEqualTo(account);
+        assertThat(transaction.getAmount()).isEqualTo(10_000L);
+        assertThat(transaction.getTransactionType()).isEqualTo(TransactionType.DEPOSIT);
+        assertThat(transaction.getMemo()).isEqualTo("월급");
+        assertThat(result).isEqualTo(accountDto);
+    }
+
+    @Test
+    @DisplayName("입금 - 실패 - 사용자의 활성 계좌가 아닐 때")
+    void deposit_Fail_AccountNotFound() {
+        //given
+        when(accountRepository.increaseActiveBalance(ACCOUNT_ID, USER_ID, 10_000L)).thenReturn(0);
+
+        //when & then
+        assertThatThrownBy(() -> transactionService.deposit(USER_ID, ACCOUNT_ID, 10_000L, null))
+            .isInstanceOf(CustomException.class).extracting("errorCode")
+            .isEqualTo(ErrorCode.ACCOUNT_NOT_FOUND);
+        verify(transactionRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("출금 - 성공 - 잔액을 줄이고 음수 금액의 출금 내역 저장")
+    void withdraw_Success() {
+        //given
+        Account account = new AccountTestDataBuilder().build();
+        AccountDto accountDto = new AccountDto(ACCOUNT_ID, "test@test.com", "1771234567890",
+            0L);
+        when(accountRepository.decreaseActiveBalance(ACCOUNT_ID, USER_ID, 10_000L)).thenReturn(1);
+        when(accountRepository.getReferenceById(ACCOUNT_ID)).thenReturn(account);
+        when(accountRepository.findActiveAccountDto(ACCOUNT_ID, USER_ID)).thenReturn(
+            Optional.of(accountDto));
+
+        //when
+        AccountDto result = transactionService.withdraw(USER_ID, ACCOUNT_ID, 10_000L, null);
+
+        //then
+        ArgumentCaptor<Transaction> transactionCaptor = ArgumentCaptor.forClass(Transaction.class);
+        verify(transactionRepository).save(transactionCaptor.capture());
+        assertThat(transactionCaptor.getValue().getAmount()).isEqualTo(-10_000L);
+        assertThat(transactionCaptor.getValue().getTransactionType()).isEqualTo(
+            TransactionType.WITHDRAW);
+        assertThat(result).isEqualTo(accountDto);
+        verify(accountRepository, never()).existsActiveAccount(any(), any());
+    }
+
+    @Test
+    @DisplayName("출금 - 실패 - 잔액이 부족할 때")
+    void withdraw_Fail_InsufficientBalance() {
+        //given
+        when(accountRepository.decreaseActiveBalance(ACCOUNT_ID, USER_ID, 10_000L)).thenReturn(0);
+        when(accountRepository.existsActiveAccount(ACCOUNT_ID, USER_ID)).thenReturn(true);
+
+        //when & then
+        assertThatThrownBy(() -> transactionService.withdraw(USER_ID, ACCOUNT_ID, 10_000L, null))
+            .isInstanceOf(CustomException.class).extracting("errorCode")
+            .isEqualTo(ErrorCode.INSUFFICIENT_BALANCE);
+        verify(transactionRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("출금 - 실패 - 사용자의 활성 계좌가 아닐 때")
+    void withdraw_Fail_AccountNotFound() {
+        //given
+        when(accountRepository.decreaseActiveBalance(ACCOUNT_ID, USER_ID, 10_000L)).thenReturn(0);
+        when(accountRepository.existsActiveAccount(ACCOUNT_ID, USER_ID)).thenReturn(false);
+
+        //when & then
+        assertThatThrownBy(() -> transactionService.withdraw(USER_ID, ACCOUNT_ID, 10_000L, null))
+            .isInstanceOf(CustomException.class).extracting("errorCode")
+            .isEqualTo(ErrorCode.ACCOUNT_NOT_FOUND);
+        verify(transactionRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("송금 - 성공 - id 가 작은 보내는 계좌부터 UPDATE 하고 TRANSFER 거래 내역을 한 쌍으로 저장")
+    @SuppressWarnings("unchecked")
+    void transfer_Success_SenderLockedFirst() {
+        //given
+        Long recipientAccountId = 3L;
+        AccountDto accountDto = new AccountDto(ACCOUNT_ID, "test@test.com", "1771234567890",
+            0L);
+        when(accountRepository.findActiveAccountId("177123456785")).thenReturn(
+            Optional.of(recipientAccountId));
+        when(accountRepository.decreaseActiveBalance(ACCOUNT_ID, USER_ID, 10_000L)).thenReturn(1);
+        when(accountRepository.creditActiveBalance(recipientAccountId, 10_000L)).thenReturn(1);
+        when(accountRepository.findActiveAccountDto(ACCOUNT_ID, USER_ID)).thenReturn(
+            Optional.of(accountDto));
+
+        //when
+        AccountDto result = transactionService.transfer(USER_ID, ACCOUNT_ID, "177123456785",
+            10_000L, "저녁값");
+
+        //then
+        InOrder lockOrder = inOrder(accountRepository);
+        lockOrder.verify(accountRepository).decreaseActiveBalance(ACCOUNT_ID, USER_ID, 10_000L);
+        lockOrder.verify(accountRepository).creditActiveBalance(recipientAccountId, 10_000L);
+        ArgumentCaptor<List<Transaction>> postingsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(transactionRepository).saveAll(postingsCaptor.capture());
+        List<Transaction> postings = postingsCaptor.getValue();
+        assertThat(postings).extracting(Transaction::getAmount)
+            .containsExactly(-10_000L, 10_000L);
+        assertThat(postings).extracting(Transaction::getRecipientAccountId)
+            .containsExactly(recipientAccountId, ACCOUNT_ID);
+        assertThat(postings).extracting(Transaction::getTransactionType)
+            .containsOnly(TransactionType.TRANSFER);
+        assertThat(result).isEqualTo(accountDto);
+    }
+
+    @Test
+    @DisplayName("송금 - 성공 - 받는 계좌의 id 가 작으면 받는 계좌부터 UPDATE")
+    void transfer_Success_RecipientLockedFirst() {
+        //given
+        Long recipientAccountId = 1L;
+        when(accountRepository.findActiveAccountId("177123456785")).thenReturn(
+            Optional.of(recipientAccountId));
+        when(accountRepository.creditActiveBalance(recipientAccountId, 10_000L)).thenReturn(1);
+        when(accountRepository.decreaseActiveBalance(ACCOUNT_ID, USER_ID, 10_000L)).thenReturn(1);
+        when(accountRepository.findActiveAccountDto(ACCOUNT_ID, USER_ID)).thenReturn(
+            Optional.of(new AccountDto()));
+
+        //when
+        transactionService.transfer(USER_ID, ACCOUNT_ID, "177123456785", 10_000L, null);
+
+        //then
+        InOrder lockOrder = inOrder(accountRepository);
+        lockOrder.verify(accountRepository).creditActiveBalance(recipientAccountId, 10_000L);
+        lockOrder.verify(accountRepository).decreaseActiveBalance(ACCOUNT_ID, USER_ID, 10_000L);
+    }
+
+    @Test
+    @DisplayName("송금 - 실패 - 잔액이 부족하면 거래 내역을 저장하지 않음")
+    void transfer_Fail_InsufficientBalance() {
+        //given
+        when(accountRepository.findActiveAccountId("177123456785")).thenReturn(Optional.of(1L));
+        when(accountRepository.creditActiveBalance(1L, 10_000L)).thenReturn(1);
+        when(accountRepository.decreaseActiveBalance(ACCOUNT_ID, USER_ID, 10_000L)).thenReturn(0);
+        when(accountRepository.existsActiveAccount(ACCOUNT_ID, USER_ID)).thenReturn(true);
+
+        //when & then
+        assertThatThrownBy(() -> transactionService.transfer(USER_ID, ACCOUNT_ID, "177123456785",
+            10_000L, null)).isInstanceOf(CustomException.class).extracting("errorCode")
+            .isEqualTo(ErrorCode.INSUFFICIENT_BALANCE);
+        verify(transactionRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("송금 - 실패 - 받는 계좌가 없을 때")
+    void transfer_Fail_RecipientNotFound() {
+        //given
+        when(accountRepository.findActiveAccountId("177123456785")).thenReturn(Optional.empty());
+
+        //when & then
+        assertThatThrownBy(() -> transactionService.transfer(USER_ID, ACCOUNT_ID, "177123456785",
+            10_000L, null)).isInstanceOf(CustomException.class).extracting("errorCode")
+            .isEqualTo(ErrorCode.RECIPIENT_ACCOUNT_NOT_FOUND);
+        verify(accountRepository, never()).decreaseActiveBalance(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("송금 - 실패 - 같은 계좌로 송금할 때")
+    void transfer_Fail_SameAccount() {
+        //given
+        when(accountRepository.findActiveAccountId("177123456785")).thenReturn(
+            Optional.of(ACCOUNT_ID));
+
+        //when & then
+        assertThatThrownBy(() -> transactionService.transfer(USER_ID, ACCOUNT_ID, "177123456785",
+            10_000L, null)).isInstanceOf(CustomException.class).extracting("errorCode")
+            .isEqualTo(ErrorCode.TRANSFER_TO_SAME_ACCOUNT);
+        verify(accountRepository, never()).decreaseActiveBalance(any(), any(), any());
+    }
+}
@@ -0,0 +1,156 @@
+package com.project.fintech.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.project.fintech.TestConfig;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 두 계좌 사이에 양방향 송금을 동시에 요청해도 deadlock 없이 끝나고 잔액이 정확한지 확인하고, 처리량과 p99 latency 를 남긴다.
+ * 요청마다 transaction 을 commit 해야 하므로 test transaction 없이 실행하고 데이터는 직접 지운다.
+ */
+@DataJpaTest(properties = "spring.jpa.show-sql=false")
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@ActiveProfiles("test")
+@Import({TestConfig.class, TransactionService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TransferConcurrencyTest {
+
+    private static final Logger log = LoggerFactory.getLogger(TransferConcurrencyTest.class);
+    private static final int THREADS = 8;
+    private static final int TRANSFERS_PER_THREAD = 200;
+    private static final long INITIAL_BALANCE = 1_000_000L;
+    private static final long A_TO_B_AMOUNT = 700L;
+    private static final long B_TO_A_AMOUNT = 300L;
+
+    @Autowired
+    private TransactionService transactionService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long userA;
+    private Long userB;
+    private Long accountA;
+    private Long accountB;
+
+    @BeforeEach
+    void setUp() {
+        userA = insertUser("transfer-a@test.com");
+        userB = insertUser("transfer-b@test.com");
+        accountA = insertAccount("TRANSFER-A", userA);
+        accountB = insertAccount("TRANSFER-B", userB);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM transactions");
+        jdbcTemplate.update("DELETE FROM accounts");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    private Long insertUser(String email) {
+        jdbcTemplate.update("""
+            INSERT INTO users (name, password, phone, create_at, modified_at, email,
+                               is_otp_registered, is_verified_email)
+            VALUES ('name', 'password', '01000000000', NOW(), NOW(), ?, 1, 1)""", email);
+        return jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = ?", Long.class,
+            email);
+    }
+
+    private Long insertAccount(String accountNumber, Long userId) {
+        jdbcTemplate.update("""
+            INSERT INTO accounts (create_at, modified_at, account_number, balance, status, user_id)
+            VALUES (NOW(), NOW(), ?, ?, '0', ?)""", accountNumber, INITIAL_BALANCE, userId);
+        return jdbcTemplate.queryForObject("SELECT id FROM accounts WHERE account_number = ?",
+            Long.class, accountNumber);
+    }
+
+    private long balance(Long accountId) {
+        return jdbcTemplate.queryForObject("SELECT balance FROM accounts WHERE id = ?",
+            Long.class, accountId);
+    }
+
+    private long postingSum(Long accountId) {
+        return jdbcTemplate.queryForObject("""
+            SELECT COALESCE(SUM(amount), 0) FROM transactions
+            WHERE account_id = ? AND transaction_type = 'TRANSFER'""", Long.class, accountId);
+    }
+
+    @Test
+    @DisplayName("두 계좌 사이 양방향 동시 송금 - deadlock 없이 모두 성공하고 잔액과 거래 내역 합계가 정확함")
+    void transfer_BothDirectionsConcurrently_NoDeadlock() throws Exception {
+        //given
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<long[]>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            boolean aToB = i % 2 == 0;
+            futures.add(executor.submit(() -> {
+                long[] latencies = new long[TRANSFERS_PER_THREAD];
+                start.await();
+                for (int j = 0; j < TRANSFERS_PER_THREAD; j++) {
+                    long begin = System.nanoTime();
+                    if (aToB) {
+                        transactionService.transfer(userA, accountA, "TRANSFER-B", A_TO_B_AMOUNT,
+                            null);
+                    } else {
+                        transactionService.transfer(userB, accountB, "TRANSFER-A", B_TO_A_AMOUNT,
+                            null);
+                    }
+                    latencies[j] = System.nanoTime() - begin;
+                }
+                return latencies;
+            }));
+        }
+
+        //when
+        long begin = System.nanoTime();
+        start.countDown();
+        List<long[]> threadLatencies = new ArrayList<>();
+        for (Future<long[]> future : futures) {
+            threadLatencies.add(future.get(120, TimeUnit.SECONDS));
+        }
+        long elapsed = System.nanoTime() - begin;
+        executor.shutdown();
+
+        //then
+        long[] latencies = threadLatencies.stream().flatMapToLong(Arrays::stream).sorted()
+            .toArray();
+        long p99 = latencies[(int) Math.ceil(latencies.length * 0.99) - 1];
+        log.info("transfer A<->B - {} transfers, {} transfers/s, p50: {} us, p99: {} us",
+            latencies.length, latencies.length * 1_000_000_000L / elapsed,
+            latencies[latencies.length / 2] / 1_000, p99 / 1_000);
+
+        long transfersEachWay = (long) THREADS / 2 * TRANSFERS_PER_THREAD;
+        long netAToB = transfersEachWay * (A_TO_B_AMOUNT - B_TO_A_AMOUNT);
+        assertThat(balance(accountA)).isEqualTo(INITIAL_BALANCE - netAToB);
+        assertThat(balance(accountB)).isEqualTo(INITIAL_BALANCE + netAToB);
+        assertThat(postingSum(accountA)).isEqualTo(-netAToB);
+        assertThat(postingSum(accountB)).isEqualTo(netAToB);
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM transactions WHERE transaction_type = 'TRANSFER'", Long.class))
+            .isEqualTo(transfersEachWay * 2 * 2);
+    }
+}